@@ -10,15 +10,16 @@ import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
 import org.badminton.domain.domain.club.info.ClubDeleteInfo;
 import org.badminton.domain.domain.club.info.ClubDetailsInfo;
+import org.badminton.domain.domain.club.info.ClubSearchSliceInfo;
 import org.badminton.domain.domain.club.info.ClubUpdateInfo;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
 import org.badminton.domain.domain.clubmember.service.ClubMemberService;
+import org.badminton.domain.domain.statistics.ClubStatisticsService;
 import org.badminton.domain.domain.statistics.event.CreateClubEvent;
 import org.badminton.domain.domain.statistics.event.ReadClubEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +34,7 @@ public class ClubFacade {
 	private final ClubMemberService clubMemberService;
 	private final ApplicationEventPublisher eventPublisher;
 	private final ClubMemberPolicy clubMemberPolicy;
+	private final ClubStatisticsService clubStatisticsService;
 
 	@Transactional(readOnly = true)
 	public Page<ClubCardInfo> readAllClubs(Pageable pageable) {
@@ -47,10 +49,9 @@ public class ClubFacade {
 		return ClubDetailsInfo.from(club, clubMembersCount);
 	}
 
-	@Transactional
-	public Page<ClubCardInfo> searchClubs(String keyword, int page, int size, String sort) {
-		Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
-		return clubService.searchClubs(keyword, pageable);
+	@Transactional(readOnly = true)
+	public ClubSearchSliceInfo searchClubs(String keyword, ClubSearchCursor cursor, int size) {
+		return clubService.searchClubs(keyword, cursor, size);
 	}
 
 	@Transactional
@@ -64,7 +65,7 @@ public class ClubFacade {
 	@Transactional
 	public ClubUpdateInfo updateClubInfo(ClubUpdateCommand clubUpdateCommand, String clubToken, String memberToken) {
 		clubMemberPolicy.validateClubOwner(memberToken, clubToken);
-		eventPublisher.publishEvent(new UpdateClubEvent());
+		eventPublisher.publishEvent(new UpdateClubEvent(clubToken));
 		return clubService.updateClub(clubUpdateCommand, clubToken, memberToken);
 	}
 
@@ -72,6 +73,7 @@ public class ClubFacade {
 	public ClubDeleteInfo deleteClubInfo(String memberToken, String clubToken) {
 		clubMemberPolicy.validateClubOwner(memberToken, clubToken);
 		clubMemberService.deleteAllClubMembers(clubToken);
+		clubStatisticsService.removeFromLeaderboard(clubToken);
 		return clubService.deleteClub(clubToken);
 	}
 
@@ -19,15 +19,13 @@ public class ClubRankFacade {
 	private final ClubStatisticsService clubStatisticsService;
 
 	@Transactional(readOnly = true)
-	public List<ClubCardInfo> getTop10PopularClub() {
-
-		return clubStatisticsService.getTop10PopularClub();
+	public List<ClubCardInfo> getPopularClubs(int page, int size) {
+		return clubStatisticsService.getPopularClubs(page, size);
 	}
 
 	@Transactional(readOnly = true)
-	public List<ClubCardInfo> getTop10RecentlyActiveClub() {
-
-		return clubStatisticsService.getTop10RecentlyActiveClub();
+	public List<ClubCardInfo> getRecentlyActiveClubs(int page, int size) {
+		return clubStatisticsService.getRecentlyActiveClubs(page, size);
 	}
 
 	@Transactional(readOnly = true)
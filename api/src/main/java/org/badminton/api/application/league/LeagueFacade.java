@@ -27,6 +27,7 @@ import org.badminton.domain.domain.league.info.LeagueUpdateInfoWithParticipantCo
 import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
 import org.badminton.domain.domain.match.service.MatchRetrieveService;
 import org.badminton.domain.domain.match.service.MatchStrategy;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -41,14 +42,16 @@ public class LeagueFacade {
 	private final LeagueParticipantService leagueParticipantService;
 	private final MatchRetrieveService matchRetrieveService;
 	private final ClubMemberPolicy clubMemberPolicy;
+	private final BracketVersion bracketVersion;
 
 	public LeagueFacade(LeagueService leagueService, LeagueParticipantService leagueParticipantService,
 		@Qualifier("freeMatchRetrieveServiceImpl") MatchRetrieveService matchRetrieveService,
-		ClubMemberPolicy clubMemberPolicy) {
+		ClubMemberPolicy clubMemberPolicy, BracketVersion bracketVersion) {
 		this.leagueService = leagueService;
 		this.leagueParticipantService = leagueParticipantService;
 		this.matchRetrieveService = matchRetrieveService;
 		this.clubMemberPolicy = clubMemberPolicy;
+		this.bracketVersion = bracketVersion;
 	}
 
 	public List<LeagueReadInfo> getLeaguesByMonth(String clubToken, String date) {
@@ -98,7 +101,10 @@ public class LeagueFacade {
 
 	public LeagueCancelInfo cancelLeague(String clubToken, Long leagueId, String memberToken) {
 		clubMemberPolicy.validateClubMember(memberToken, clubToken);
-		return leagueService.cancelLeague(clubToken, leagueId, memberToken);
+		LeagueCancelInfo leagueCancelInfo = leagueService.cancelLeague(clubToken, leagueId, memberToken);
+		// 대진표 응답에 리그 상태가 포함되어 있으므로 대진표 버전도 올린다.
+		bracketVersion.bump(leagueId);
+		return leagueCancelInfo;
 	}
 
 	public LeagueRecruitingCompleteInfo completeLeagueRecruiting(String clubToken, Long leagueId, String memberToken) {
@@ -1,10 +1,13 @@
 package org.badminton.api.application.match;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.badminton.api.interfaces.match.dto.BracketResponse;
 import org.badminton.api.interfaces.match.dto.SetScoreUpdateRequest;
 import org.badminton.domain.common.enums.MatchGenerationType;
 import org.badminton.domain.common.enums.MatchType;
@@ -14,12 +17,15 @@ import org.badminton.domain.domain.match.info.BracketInfo;
 import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
 import org.badminton.domain.domain.match.info.MatchInfo;
 import org.badminton.domain.domain.match.info.MatchSetInfo;
+import org.badminton.domain.domain.match.info.ScoreBoardDeltaInfo;
 import org.badminton.domain.domain.match.info.SetInfo;
 import org.badminton.domain.domain.match.service.MatchRetrieveService;
 import org.badminton.domain.domain.match.service.MatchStrategy;
 import org.badminton.domain.domain.match.vo.MatchRedisKey;
 import org.badminton.domain.domain.match.vo.Score;
+import org.badminton.infrastructure.match.bracket.BracketResponseCache;
 import org.badminton.infrastructure.match.repository.SetRepository;
+import org.badminton.infrastructure.match.scoreboard.ScoreBoardPublisher;
 import org.badminton.infrastructure.match.service.RetrieveMatchSet;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +38,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class MatchFacade {
 
+	private static final int SCORE_FLUSH_BATCH_SIZE = 100;
+	private static final int MAX_SCORE_FLUSH_BATCHES = 50;
+
 	private final MatchOperationHandler freeMatchFacade;
 	private final MatchOperationHandler tournamentMatchFacade;
 	private final MatchRetrieveService freeMatchRetrieveService;
@@ -40,6 +49,8 @@ public class MatchFacade {
 	private final RetrieveMatchSet retrieveMatchSet;
 	private final SetRepository setRepository;
 	private final MatchScorePolicy matchScorePolicy;
+	private final ScoreBoardPublisher scoreBoardPublisher;
+	private final BracketResponseCache bracketResponseCache;
 
 	public MatchFacade(
 		@Qualifier("freeMatchFacade") MatchOperationHandler freeMatchFacade,
@@ -47,7 +58,8 @@ public class MatchFacade {
 		@Qualifier("freeMatchRetrieveServiceImpl") MatchRetrieveService freeMatchRetrieveService,
 		@Qualifier("tournamentMatchRetrieveServiceImpl") MatchRetrieveService tournamentMatchRetrieveService,
 		LeagueReader leagueReader, RetrieveMatchSet retrieveMatchSet, SetRepository setRepository,
-		MatchScorePolicy matchScorePolicy) {
+		MatchScorePolicy matchScorePolicy, ScoreBoardPublisher scoreBoardPublisher,
+		BracketResponseCache bracketResponseCache) {
 		this.freeMatchFacade = freeMatchFacade;
 		this.tournamentMatchFacade = tournamentMatchFacade;
 		this.freeMatchRetrieveService = freeMatchRetrieveService;
@@ -56,17 +68,46 @@ public class MatchFacade {
 		this.retrieveMatchSet = retrieveMatchSet;
 		this.setRepository = setRepository;
 		this.matchScorePolicy = matchScorePolicy;
+		this.scoreBoardPublisher = scoreBoardPublisher;
+		this.bracketResponseCache = bracketResponseCache;
 	}
 
 	@Scheduled(fixedRate = 100000)
 	public void saveInDb() {
-		Map<MatchRedisKey, Score> allScores = setRepository.getAllScores();
-		for (MatchRedisKey key : allScores.keySet()) {
-			retrieveMatchSet.registerMatchSetScoreInDb(key, allScores.get(key));
-			retrieveMatchSet.deleteCache(key);
+		// 실패한 키를 바로 되돌려 놓으면 같은 실행 안에서 다시 꺼내 반복하므로 실행이 끝난 뒤에 되돌린다.
+		// 되돌리기 전에 프로세스가 종료되면 처리 중 집합에 남은 키를 다음 기동 때 되돌린다.
+		List<MatchRedisKey> failedKeys = new ArrayList<>();
+		try {
+			for (int batch = 0; batch < MAX_SCORE_FLUSH_BATCHES; batch++) {
+				Map<MatchRedisKey, Score> dirtyScores = setRepository.drainDirtyScores(SCORE_FLUSH_BATCH_SIZE);
+				if (dirtyScores.isEmpty()) {
+					return;
+				}
+				Map<String, List<MatchRedisKey>> keysByMatch = dirtyScores.keySet().stream()
+					.collect(Collectors.groupingBy(MatchRedisKey::getKey));
+				keysByMatch.values().forEach(matchKeys -> flushMatchScores(matchKeys, dirtyScores, failedKeys));
+			}
+		} finally {
+			setRepository.requeueDirtyScores(failedKeys);
 		}
 	}
 
+	private void flushMatchScores(List<MatchRedisKey> matchKeys, Map<MatchRedisKey, Score> dirtyScores,
+		List<MatchRedisKey> failedKeys) {
+		MatchRedisKey matchKey = matchKeys.get(0);
+		Map<Integer, Score> setScores = matchKeys.stream()
+			.collect(Collectors.toMap(MatchRedisKey::getSetNumber, dirtyScores::get));
+		try {
+			retrieveMatchSet.registerMatchSetScoresInDb(matchKey.getMatchType(), matchKey.getMatchId(), setScores);
+		} catch (RuntimeException e) {
+			log.error("세트 점수 DB 저장 실패 matchKey: {}", matchKey.getKey(), e);
+			failedKeys.addAll(matchKeys);
+			return;
+		}
+		matchKeys.forEach(key -> retrieveMatchSet.deleteCache(key, dirtyScores.get(key)));
+		setRepository.completeDirtyScores(matchKeys);
+	}
+
 	public MatchOperationHandler getMatchOperationHandler(Long leagueId) {
 		MatchGenerationType matchGenerationType = leagueReader.getMatchGenerationTypeByLeagueId(leagueId);
 		return matchGenerationType == MatchGenerationType.FREE ? freeMatchFacade : tournamentMatchFacade;
@@ -84,6 +125,16 @@ public class MatchFacade {
 		return matchRetrieveService.retrieveBracket(matchStrategy, leagueId);
 	}
 
+	public long getBracketVersion(Long leagueId) {
+		return bracketResponseCache.currentVersion(leagueId);
+	}
+
+	// 같은 버전의 대진표는 다시 조회하지 않고 캐시된 응답을 돌려준다.
+	public BracketResponse retrieveBracketResponse(Long leagueId, long bracketVersion) {
+		return bracketResponseCache.get(leagueId, bracketVersion, BracketResponse.class,
+			() -> BracketResponse.fromBracketInfo(retrieveBracket(leagueId)));
+	}
+
 	public List<SetInfo.Main> retrieveAllSetsScoreInBracket(Long leagueId) {
 		MatchRetrieveService matchRetrieveService = getMatchRetrieveService(leagueId);
 		MatchStrategy matchStrategy = matchRetrieveService.makeSinglesOrDoublesMatchStrategy(leagueId);
@@ -113,7 +164,13 @@ public class MatchFacade {
 		matchScorePolicy.validateScoreUpdateAvailable(leagueId, matchId, setNumber);
 		retrieveMatchSet.setMatchSetScore(leagueId, matchId, setNumber,
 			new Score(setScoreUpdateRequest.score1(), setScoreUpdateRequest.score2()));
-		return retrieveSetInfo(leagueId, matchId, setNumber);
+		SetInfo.Main setInfo = retrieveSetInfo(leagueId, matchId, setNumber);
+		scoreBoardPublisher.publish(ScoreBoardDeltaInfo.inProgress(leagueId, setInfo));
+		return setInfo;
+	}
+
+	public void publishSetFinished(Long leagueId, SetInfo.Main setInfo) {
+		scoreBoardPublisher.publish(ScoreBoardDeltaInfo.finished(leagueId, setInfo));
 	}
 
 	public SetInfo.Main retrieveSetInfo(Long leagueId, Long matchId, int setNumber) {
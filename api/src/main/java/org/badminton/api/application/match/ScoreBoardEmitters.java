@@ -0,0 +1,143 @@
+package org.badminton.api.application.match;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.badminton.domain.domain.match.event.ScoreBoardUpdatedEvent;
+import org.badminton.domain.domain.match.info.ScoreBoardDeltaInfo;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 전송은 Redis 리스너 스레드가 아닌 전용 스레드에서 구독자별 큐로 처리한다.
+// 느린 구독자는 자기 큐만 쌓이고, 큐가 넘치면 연결을 끊는다.
+@Slf4j
+@Component
+public class ScoreBoardEmitters {
+
+	private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+	private static final long HEARTBEAT_INTERVAL_MILLIS = 15 * 1000L;
+	private static final String SCORE_BOARD_EVENT_NAME = "scoreBoard";
+	private static final String CONNECT_EVENT_NAME = "connect";
+	private static final String HEARTBEAT_COMMENT = "heartbeat";
+	private static final int SEND_THREAD_COUNT = 4;
+	private static final int MAX_PENDING_EVENTS = 100;
+
+	private final Map<String, Set<Subscriber>> subscribersByMatch = new ConcurrentHashMap<>();
+	private final ExecutorService sendExecutor = Executors.newFixedThreadPool(SEND_THREAD_COUNT);
+
+	@PreDestroy
+	private void shutdown() {
+		sendExecutor.shutdown();
+	}
+
+	public SseEmitter subscribe(Long leagueId, Long matchId) {
+		String channelKey = channelKeyOf(leagueId, matchId);
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+		Subscriber subscriber = new Subscriber(channelKey, emitter);
+		subscribersByMatch.computeIfAbsent(channelKey, key -> new CopyOnWriteArraySet<>()).add(subscriber);
+
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(throwable -> remove(subscriber));
+
+		// 연결 직후 아무 이벤트도 보내지 않으면 프록시가 응답을 보류하므로 연결 확인용 이벤트를 보낸다.
+		subscriber.enqueue(SseEmitter.event().name(CONNECT_EVENT_NAME).data(matchId));
+		return emitter;
+	}
+
+	@EventListener
+	public void scoreBoardUpdatedEventListener(ScoreBoardUpdatedEvent event) {
+		ScoreBoardDeltaInfo scoreBoardDeltaInfo = event.getScoreBoardDeltaInfo();
+		String channelKey = channelKeyOf(scoreBoardDeltaInfo.leagueId(), scoreBoardDeltaInfo.matchId());
+		Set<Subscriber> subscribers = subscribersByMatch.get(channelKey);
+		if (subscribers == null) {
+			return;
+		}
+		subscribers.forEach(subscriber -> subscriber.enqueue(
+			SseEmitter.event().name(SCORE_BOARD_EVENT_NAME).data(scoreBoardDeltaInfo)));
+	}
+
+	// 오래 조용한 연결은 프록시가 끊으므로 주기적으로 주석 이벤트를 보낸다.
+	@Scheduled(fixedRate = HEARTBEAT_INTERVAL_MILLIS)
+	public void sendHeartbeat() {
+		subscribersByMatch.values().forEach(subscribers -> subscribers.forEach(
+			subscriber -> subscriber.enqueue(SseEmitter.event().comment(HEARTBEAT_COMMENT))));
+	}
+
+	private void remove(Subscriber subscriber) {
+		subscribersByMatch.computeIfPresent(subscriber.channelKey, (key, subscribers) -> {
+			subscribers.remove(subscriber);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	private String channelKeyOf(Long leagueId, Long matchId) {
+		return leagueId + ":" + matchId;
+	}
+
+	// 한 구독자에게는 한 번에 한 스레드만 보내므로 이벤트 순서가 유지된다.
+	private final class Subscriber {
+
+		private final String channelKey;
+		private final SseEmitter emitter;
+		private final Queue<SseEmitter.SseEventBuilder> pendingEvents = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger pendingCount = new AtomicInteger();
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+		private Subscriber(String channelKey, SseEmitter emitter) {
+			this.channelKey = channelKey;
+			this.emitter = emitter;
+		}
+
+		private void enqueue(SseEmitter.SseEventBuilder event) {
+			if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+				log.debug("스코어 보드 구독자 전송 지연으로 연결 종료 channelKey: {}", channelKey);
+				remove(this);
+				emitter.complete();
+				return;
+			}
+			pendingEvents.add(event);
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) {
+				sendExecutor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			try {
+				SseEmitter.SseEventBuilder event;
+				while ((event = pendingEvents.poll()) != null) {
+					pendingCount.decrementAndGet();
+					emitter.send(event);
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.debug("스코어 보드 구독 연결 종료 channelKey: {}", channelKey);
+				remove(this);
+				pendingEvents.clear();
+			} finally {
+				draining.set(false);
+			}
+			// 드레인이 끝나는 사이에 들어온 이벤트를 놓치지 않는다.
+			if (!pendingEvents.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+	}
+}
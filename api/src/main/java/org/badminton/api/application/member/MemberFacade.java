@@ -1,8 +1,6 @@
 package org.badminton.api.application.member;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -13,24 +11,21 @@ import org.badminton.api.aws.s3.model.dto.ImageUploadRequest;
 import org.badminton.api.common.exception.EmptyFileException;
 import org.badminton.api.common.exception.FileSizeOverException;
 import org.badminton.api.interfaces.match.dto.MatchResultResponse;
+import org.badminton.api.interfaces.match.dto.MatchResultSliceResponse;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.clubmember.info.ClubMemberMyPageInfo;
 import org.badminton.domain.domain.clubmember.service.ClubMemberService;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.league.info.LeagueRecordInfo;
 import org.badminton.domain.domain.league.service.LeagueRecordService;
-import org.badminton.domain.domain.match.info.MatchResultInfo;
+import org.badminton.domain.domain.match.info.MatchResultSliceInfo;
 import org.badminton.domain.domain.match.service.MatchResultService;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
 import org.badminton.domain.domain.member.info.MemberMyPageInfo;
 import org.badminton.domain.domain.member.info.MemberUpdateInfo;
 import org.badminton.domain.domain.member.info.SimpleMemberInfo;
 import org.badminton.domain.domain.member.service.MemberService;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,7 +41,6 @@ public class MemberFacade {
 	private static final String CLOUDFRONT_URL_PREFIX = "https://d36om9pjoifd2y.cloudfront.net/member-profile/";
 	private static final String WEBP = "webp";
 	private static final String AVIF = "avif";
-	private static final String SORT_METHOD = "leagueAt";
 
 	private final MemberService memberService;
 	private final LeagueRecordService leagueRecordService;
@@ -76,26 +70,18 @@ public class MemberFacade {
 		return clubMemberService.getClubsByMemberToken(memberToken);
 	}
 
-	@Transactional
-	public Page<MatchResultResponse> getMemberMatchResults(String memberToken, int page, int size) {
-		List<ClubMemberMyPageInfo> clubMembersMyPageInfos = clubMemberService.getClubMembers(memberToken);
-		List<MatchResultResponse> allMatchResults = new ArrayList<>();
-		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, SORT_METHOD));
-
-		for (ClubMemberMyPageInfo clubMemberMyPageInfo : clubMembersMyPageInfos) {
-			Long clubMemberId = clubMemberMyPageInfo.clubMemberId();
-			List<MatchResultInfo> myMatch = matchResultService.getAllMatchResultsByClubMember(clubMemberId);
-			allMatchResults.addAll(myMatch.stream()
-				.map(MatchResultResponse::from)
-				.toList());
-		}
-
-		allMatchResults.sort(Comparator.comparing(MatchResultResponse::leagueAt).reversed());
-
-		int start = (int)pageable.getOffset();
-		int end = Math.min((start + pageable.getPageSize()), allMatchResults.size());
-		return new PageImpl<>(allMatchResults
-			.subList(start, end), pageable, allMatchResults.size());
+	@Transactional(readOnly = true)
+	public MatchResultSliceResponse getMemberMatchResults(String memberToken, MatchHistoryCursor cursor, int size) {
+		List<Long> clubMemberIds = clubMemberService.getClubMembers(memberToken).stream()
+			.map(ClubMemberMyPageInfo::clubMemberId)
+			.toList();
+
+		MatchResultSliceInfo matchResults = matchResultService.getMatchResultsByClubMembers(clubMemberIds, cursor,
+			size);
+		List<MatchResultResponse> content = matchResults.content().stream()
+			.map(MatchResultResponse::from)
+			.toList();
+		return MatchResultSliceResponse.of(content, size, matchResults.hasNext());
 	}
 
 	@Transactional
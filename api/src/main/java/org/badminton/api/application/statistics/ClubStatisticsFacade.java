@@ -34,9 +34,16 @@ public class ClubStatisticsFacade {
 			int count = entry.getValue();
 			clubStatisticsService.updateByCountAndClubId(clubId, count);
 		}
+		// 등급별 회원 수는 점수와 함께 동호회 카드 해시에 한 번에 반영한다.
+		clubStatisticsService.refreshLeaderboard();
 		log.info("approve club member checking!");
 	}
 
+	@Scheduled(fixedRate = 30000)
+	public void flushVisitedClubCount() {
+		clubStatisticsService.flushVisitedClubCounts();
+	}
+
 	@Scheduled(fixedRate = 3600000)
 	public void leagueCount() {
 		Map<Long, Integer> countByClubIdRegisterMemberCount = new HashMap<>();
@@ -50,6 +57,8 @@ public class ClubStatisticsFacade {
 			int count = entry.getValue();
 			clubStatisticsService.updateLeagueCountByClubIdAndCount(clubId, count);
 		}
+		// 동호회마다 캐시를 비우지 않고 점수를 모두 바꾼 뒤 순위표 페이지를 한 번만 만료시킨다.
+		clubStatisticsService.expireLeaderboardPages();
 	}
 
 }
@@ -8,7 +8,7 @@ import org.badminton.api.filter.ClubMembershipFilter;
 import org.badminton.api.filter.JwtAuthenticationFilter;
 import org.badminton.api.interfaces.auth.jwt.JwtUtil;
 import org.badminton.api.interfaces.auth.successhandler.CustomSuccessHandler;
-import org.badminton.domain.domain.clubmember.ClubMemberReader;
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,7 +35,7 @@ public class SecurityConfig {
 	private final CustomOAuth2MemberService customOAuth2MemberService;
 	private final CustomSuccessHandler customSuccessHandler;
 	private final JwtUtil jwtUtil;
-	private final ClubMemberReader clubMemberReader;
+	private final ClubMemberAuthorizationCache clubMemberAuthorizationCache;
 	private final FailedAuthenticationEntryPoint failedAuthenticationEntryPoint;
 
 	@Value("${custom.server.front}")
@@ -85,7 +85,7 @@ public class SecurityConfig {
 			.cors(this::corsConfigurer)
 			.exceptionHandling(
 				exception -> exception.authenticationEntryPoint(failedAuthenticationEntryPoint))
-			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, clubMemberReader),
+			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, clubMemberAuthorizationCache),
 				UsernamePasswordAuthenticationFilter.class)
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
@@ -104,9 +104,9 @@ public class SecurityConfig {
 			.securityMatcher("/v1/clubs/**")
 			.csrf(AbstractHttpConfigurer::disable)
 			.cors(this::corsConfigurer)
-			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, clubMemberReader),
+			.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, clubMemberAuthorizationCache),
 				UsernamePasswordAuthenticationFilter.class)
-			.addFilterAfter(new ClubMembershipFilter(clubMemberReader), JwtAuthenticationFilter.class)
+			.addFilterAfter(new ClubMembershipFilter(clubMemberAuthorizationCache), JwtAuthenticationFilter.class)
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.exceptionHandling(
 				exception -> exception.authenticationEntryPoint(failedAuthenticationEntryPoint))
@@ -4,7 +4,7 @@ import java.io.IOException;
 
 import org.badminton.api.config.security.SecurityUtil;
 import org.badminton.api.interfaces.auth.dto.CustomOAuth2Member;
-import org.badminton.domain.domain.clubmember.ClubMemberReader;
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,7 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ClubMembershipFilter extends OncePerRequestFilter {
 
-	private final ClubMemberReader clubMemberReader;
+	private final ClubMemberAuthorizationCache clubMemberAuthorizationCache;
 
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -47,7 +47,7 @@ public class ClubMembershipFilter extends OncePerRequestFilter {
 			return false;
 		}
 		CustomOAuth2Member member = (CustomOAuth2Member)auth.getPrincipal();
-		return clubMemberReader.existsMemberInClub(member.getMemberToken(), clubToken);
+		return clubMemberAuthorizationCache.getAuthorization(member.getMemberToken()).isClubMember(clubToken);
 	}
 }
 
@@ -1,14 +1,13 @@
 package org.badminton.api.filter;
 
 import java.io.IOException;
-import java.util.List;
 
 import org.badminton.api.config.security.SecurityUtil;
 import org.badminton.api.interfaces.auth.dto.CustomOAuth2Member;
 import org.badminton.api.interfaces.auth.jwt.JwtUtil;
 import org.badminton.api.interfaces.member.dto.MemberResponse;
-import org.badminton.domain.domain.clubmember.ClubMemberReader;
-import org.badminton.domain.domain.clubmember.entity.ClubMember;
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
+import org.badminton.domain.domain.clubmember.info.ClubMemberAuthorizationInfo;
 import org.badminton.domain.domain.member.entity.MemberAuthorization;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,7 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtUtil jwtUtil;
-	private final ClubMemberReader clubMemberReader;
+	private final ClubMemberAuthorizationCache clubMemberAuthorizationCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -57,7 +56,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private void processAuthenticationWithMemberToken(String memberToken, String registrationId,
 		String oAuthAccessToken) {
-		List<ClubMember> clubMemberEntities = clubMemberReader.getActiveClubMembersByMemberToken(memberToken);
+		ClubMemberAuthorizationInfo authorizationInfo = clubMemberAuthorizationCache.getAuthorization(memberToken);
 		MemberResponse memberResponse = new MemberResponse(memberToken,
 			MemberAuthorization.AUTHORIZATION_USER.toString(),
 			null, null, null, null);
@@ -65,12 +64,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		CustomOAuth2Member customOAuth2Member = new CustomOAuth2Member(
 			memberResponse, registrationId, oAuthAccessToken);
 
-		clubMemberEntities.stream()
-			.filter(clubMember -> !clubMember.getClub().isClubDeleted())
-			.forEach(clubMember -> customOAuth2Member.addClubRole(
-				clubMember.getClub().getClubToken(),
-				clubMember.getRole().name()
-			));
+		authorizationInfo.clubRoles().forEach(customOAuth2Member::addClubRole);
 
 		Authentication authToken = new UsernamePasswordAuthenticationToken(
 			customOAuth2Member,
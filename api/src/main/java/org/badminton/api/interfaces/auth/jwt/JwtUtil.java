@@ -1,6 +1,7 @@
 package org.badminton.api.interfaces.auth.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -10,13 +11,17 @@ import java.util.Objects;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
-import org.badminton.domain.domain.member.MemberReader;
-import org.badminton.domain.domain.member.entity.Member;
+import org.badminton.domain.domain.member.RefreshTokenStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,15 +34,21 @@ public class JwtUtil {
 	private static final long ACCESS_TOKEN_EXPIRY = 60 * 60 * 1000L;
 	private static final long REFRESH_TOKEN_EXPIRY = 7 * 24 * 60 * 60 * 1000L;
 
+	private static final String PARSED_CLAIMS_ATTRIBUTE_PREFIX = "JWT_PARSED_CLAIMS_";
+
 	private final SecretKey secretKey;
-	private final MemberReader memberReader;
+	private final JwtParser jwtParser;
+	private final RefreshTokenStore refreshTokenStore;
 	@Value("${custom.server.domain}")
 	private String domain;
 
-	public JwtUtil(@Value("${spring.jwt.secret}") String secret, MemberReader memberReader) {
+	public JwtUtil(@Value("${spring.jwt.secret}") String secret, RefreshTokenStore refreshTokenStore) {
 		secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
 			Jwts.SIG.HS256.key().build().getAlgorithm());
-		this.memberReader = memberReader;
+		jwtParser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
+		this.refreshTokenStore = refreshTokenStore;
 	}
 
 	public String createAccessToken(String memberToken, List<String> roles) {
@@ -70,6 +81,10 @@ public class JwtUtil {
 			.compact();
 	}
 
+	public Duration getRefreshTokenTimeToLive() {
+		return Duration.ofMillis(REFRESH_TOKEN_EXPIRY);
+	}
+
 	public void setAccessTokenCookie(HttpServletResponse response, String accessToken) {
 		ResponseCookie cookie = ResponseCookie.from("access_token", accessToken)
 			.httpOnly(true)
@@ -112,12 +127,23 @@ public class JwtUtil {
 	}
 
 	public String getDetail(String token, String details) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.get(details, String.class);
+		return parseClaims(token).get(details, String.class);
+	}
+
+	// 한 요청 안에서 같은 토큰을 여러 번 검증하지 않도록 파싱 결과를 요청 속성에 보관한다.
+	public Claims parseClaims(String token) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null || token == null) {
+			return jwtParser.parseSignedClaims(token).getPayload();
+		}
+		String attributeName = PARSED_CLAIMS_ATTRIBUTE_PREFIX + token;
+		ParsedClaims parsedClaims = (ParsedClaims)requestAttributes.getAttribute(attributeName,
+			RequestAttributes.SCOPE_REQUEST);
+		if (parsedClaims == null) {
+			parsedClaims = ParsedClaims.parse(jwtParser, token);
+			requestAttributes.setAttribute(attributeName, parsedClaims, RequestAttributes.SCOPE_REQUEST);
+		}
+		return parsedClaims.getClaims();
 	}
 
 	public String extractAccessTokenFromCookie(HttpServletRequest request) {
@@ -177,8 +203,7 @@ public class JwtUtil {
 			return true;
 		}
 
-		Member member = memberReader.getMember(memberToken);
-		String refreshToken = member.getRefreshToken();
+		String refreshToken = refreshTokenStore.read(memberToken).orElse(null);
 
 		if (refreshToken == null || refreshToken.isEmpty()) {
 			log.error("Refresh token is null or empty");
@@ -192,6 +217,7 @@ public class JwtUtil {
 			if (Objects.isNull(validate)) {
 				List<String> roles = getRoles(refreshToken);
 				String newAccessToken = createAccessToken(memberToken, roles);
+				// refresh token 은 로그인할 때만 발급해 세션이 처음 만료 시각을 넘어 연장되지 않게 한다.
 				setAccessTokenCookie(response, newAccessToken);
 				return true;
 			}
@@ -210,12 +236,7 @@ public class JwtUtil {
 			return null;
 		}
 		try {
-			var claims = Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
+			parseClaims(token);
 			return null;
 
 		} catch (ExpiredJwtException e) {
@@ -225,16 +246,36 @@ public class JwtUtil {
 
 	public boolean isAliveOauthToken(String token) {
 		try {
-			var claims = Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-
+			parseClaims(token);
 			return true;
 
 		} catch (Exception e) {
 			return false;
 		}
 	}
+
+	private static final class ParsedClaims {
+		private final Claims claims;
+		private final JwtException exception;
+
+		private ParsedClaims(Claims claims, JwtException exception) {
+			this.claims = claims;
+			this.exception = exception;
+		}
+
+		private static ParsedClaims parse(JwtParser jwtParser, String token) {
+			try {
+				return new ParsedClaims(jwtParser.parseSignedClaims(token).getPayload(), null);
+			} catch (JwtException e) {
+				return new ParsedClaims(null, e);
+			}
+		}
+
+		private Claims getClaims() {
+			if (exception != null) {
+				throw exception;
+			}
+			return claims;
+		}
+	}
 }
@@ -7,6 +7,7 @@ import org.badminton.api.interfaces.auth.dto.CustomOAuth2Member;
 import org.badminton.api.interfaces.auth.jwt.JwtUtil;
 import org.badminton.domain.domain.member.MemberReader;
 import org.badminton.domain.domain.member.MemberStore;
+import org.badminton.domain.domain.member.RefreshTokenStore;
 import org.badminton.domain.domain.member.entity.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
@@ -28,6 +29,7 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 	private final JwtUtil jwtUtil;
 	private final MemberReader memberReader;
 	private final MemberStore memberStore;
+	private final RefreshTokenStore refreshTokenStore;
 
 	@Value("${custom.server.front}")
 	private String frontUrl;
@@ -67,6 +69,7 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 		member.updateRefreshToken(refreshToken);
 
 		memberStore.store(member);
+		refreshTokenStore.store(memberToken, refreshToken, jwtUtil.getRefreshTokenTimeToLive());
 
 		clearSession(request, response);
 
@@ -12,6 +12,7 @@ import org.badminton.api.interfaces.club.dto.ClubCreateRequest;
 import org.badminton.api.interfaces.club.dto.ClubCreateResponse;
 import org.badminton.api.interfaces.club.dto.ClubDeleteResponse;
 import org.badminton.api.interfaces.club.dto.ClubDetailsResponse;
+import org.badminton.api.interfaces.club.dto.ClubSearchSliceResponse;
 import org.badminton.api.interfaces.club.dto.ClubUpdateRequest;
 import org.badminton.api.interfaces.club.dto.ClubUpdateResponse;
 import org.badminton.api.interfaces.club.dto.CustomPageResponse;
@@ -23,6 +24,7 @@ import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
 import org.badminton.domain.domain.club.info.ClubDeleteInfo;
 import org.badminton.domain.domain.club.info.ClubUpdateInfo;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -51,6 +53,7 @@ public class ClubController {
 
 	private static final String DEFAULT_PAGE_VALUE = "0";
 	private static final String DEFAULT_SIZE_VALUE = "9";
+	private static final String DEFAULT_RANK_SIZE_VALUE = "10";
 	private static final String DEFAULT_SORT_BY_VALUE = "clubId";
 	private final ClubFacade clubFacade;
 	private final ClubRankFacade clubRankFacade;
@@ -149,36 +152,45 @@ public class ClubController {
 	}
 
 	@Operation(summary = "검색 조건에 맞는 동호회 조회",
-		description = "검색 조건에 맞는 동호회를 조회합니다.",
+		description = """
+			동호회 이름과 설명에서 검색어를 찾아 이름이 검색어로 시작하는 동호회, 이름에 검색어가 포함된 동호회,
+			설명에만 검색어가 있는 동호회 순으로 조회합니다. 같은 등급 안에서는 최근 생성된 동호회부터 조회합니다.
+			검색어가 없으면 최근 생성된 동호회부터 조회합니다.
+			
+			다음 페이지는 이전 응답의 nextMatchRank, nextClubId 를 lastMatchRank, lastClubId 로 보내 조회합니다.""",
 		tags = {"Club"})
 	@GetMapping("/search")
-	public CommonResponse<CustomPageResponse<ClubCardResponse>> clubSearch(
-		@RequestParam(defaultValue = DEFAULT_PAGE_VALUE) int page,
-		@RequestParam(defaultValue = DEFAULT_SIZE_VALUE) int size,
-		@RequestParam(defaultValue = DEFAULT_SORT_BY_VALUE) String sort,
-		@RequestParam(required = false) String keyword) {
-
-		var clubCard = clubFacade.searchClubs(keyword, page, size, sort);
-		var response = clubDtoMapper.of(clubCard);
-		var pageResponse = new CustomPageResponse<>(response);
-		return CommonResponse.success(pageResponse);
+	public CommonResponse<ClubSearchSliceResponse> clubSearch(
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) Integer lastMatchRank,
+		@RequestParam(required = false) Long lastClubId,
+		@RequestParam(defaultValue = DEFAULT_SIZE_VALUE) int size) {
+
+		ClubSearchCursor cursor = ClubSearchCursor.of(lastMatchRank, lastClubId);
+		var clubSearchSlice = clubFacade.searchClubs(keyword, cursor, size);
+		var response = clubDtoMapper.of(clubSearchSlice.content());
+		return CommonResponse.success(ClubSearchSliceResponse.of(response, size, clubSearchSlice.nextCursor()));
 	}
 
-	@Operation(summary = "인기 top10 동호회 검색",
-		description = "인기 top10 동호회를 검색합니다.",
+	@Operation(summary = "인기 동호회 검색",
+		description = "인기 점수 순으로 동호회를 페이지 단위로 검색합니다.",
 		tags = {"Club"})
 	@GetMapping("/popular")
-	public CommonResponse<List<ClubCardResponse>> clubSearchPopular() {
-		var clubCardList = clubRankFacade.getTop10PopularClub();
+	public CommonResponse<List<ClubCardResponse>> clubSearchPopular(
+		@RequestParam(defaultValue = DEFAULT_PAGE_VALUE) int page,
+		@RequestParam(defaultValue = DEFAULT_RANK_SIZE_VALUE) int size) {
+		var clubCardList = clubRankFacade.getPopularClubs(page, size);
 		return CommonResponse.success(clubDtoMapper.of(clubCardList));
 	}
 
-	@Operation(summary = "최근 활동이 많은 top10 동호회 검색",
-		description = "최근 활동이 많은 동호회 top10을 검색합니다.",
+	@Operation(summary = "최근 활동이 많은 동호회 검색",
+		description = "활동 점수 순으로 동호회를 페이지 단위로 검색합니다.",
 		tags = {"Club"})
 	@GetMapping("/activity")
-	public CommonResponse<List<ClubCardResponse>> clubSearchActivity() {
-		var clubCardList = clubRankFacade.getTop10RecentlyActiveClub();
+	public CommonResponse<List<ClubCardResponse>> clubSearchActivity(
+		@RequestParam(defaultValue = DEFAULT_PAGE_VALUE) int page,
+		@RequestParam(defaultValue = DEFAULT_RANK_SIZE_VALUE) int size) {
+		var clubCardList = clubRankFacade.getRecentlyActiveClubs(page, size);
 		return CommonResponse.success(clubDtoMapper.of(clubCardList));
 	}
 
@@ -0,0 +1,27 @@
+package org.badminton.api.interfaces.club.dto;
+
+import java.util.List;
+
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ClubSearchSliceResponse(
+	@Schema(description = "실제 내용", requiredMode = Schema.RequiredMode.REQUIRED)
+	List<ClubCardResponse> content,
+	@Schema(description = "한 페이지에 포함되는 데이터의 개수", requiredMode = Schema.RequiredMode.REQUIRED)
+	int size,
+	@Schema(description = "다음 페이지가 있는지 여부", requiredMode = Schema.RequiredMode.REQUIRED)
+	boolean hasNext,
+	@Schema(description = "다음 페이지 조회 시 lastMatchRank 로 보낼 값")
+	Integer nextMatchRank,
+	@Schema(description = "다음 페이지 조회 시 lastClubId 로 보낼 값")
+	Long nextClubId
+) {
+	public static ClubSearchSliceResponse of(List<ClubCardResponse> content, int size, ClubSearchCursor nextCursor) {
+		if (nextCursor == null) {
+			return new ClubSearchSliceResponse(content, size, false, null, null);
+		}
+		return new ClubSearchSliceResponse(content, size, true, nextCursor.matchRank(), nextCursor.clubId());
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.badminton.api.application.match.MatchFacade;
 import org.badminton.api.application.match.MatchOperationHandler;
+import org.badminton.api.application.match.ScoreBoardEmitters;
 import org.badminton.api.common.response.CommonResponse;
 import org.badminton.api.interfaces.auth.dto.CustomOAuth2Member;
 import org.badminton.api.interfaces.match.dto.BracketResponse;
@@ -19,7 +20,9 @@ import org.badminton.domain.domain.match.info.BracketInfo;
 import org.badminton.domain.domain.match.info.MatchInfo;
 import org.badminton.domain.domain.match.info.MatchSetInfo;
 import org.badminton.domain.domain.match.info.SetInfo;
+import org.badminton.infrastructure.match.bracket.BracketResponseCache;
 import org.badminton.infrastructure.match.service.RetrieveMatchSet;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -28,6 +31,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -43,6 +48,7 @@ public class MatchController {
 	private final MatchFacade matchFacade;
 	private final ClubMemberPolicy clubMemberPolicy;
 	private final RetrieveMatchSet retrieveMatchSet;
+	private final ScoreBoardEmitters scoreBoardEmitters;
 
 	@GetMapping
 	@Operation(summary = "대진표 조회",
@@ -50,10 +56,15 @@ public class MatchController {
 		tags = {"Match"})
 	public CommonResponse<BracketResponse> getAllMatches(
 		@PathVariable String clubToken,
-		@PathVariable Long leagueId
+		@PathVariable Long leagueId,
+		WebRequest webRequest
 	) {
-		BracketInfo bracketInfo = matchFacade.retrieveBracket(leagueId);
-		return CommonResponse.success(BracketResponse.fromBracketInfo(bracketInfo));
+		long bracketVersion = matchFacade.getBracketVersion(leagueId);
+		// 대진표 버전이 바뀌지 않았다면 본문 없이 304 를 응답한다.
+		if (webRequest.checkNotModified(BracketResponseCache.toETag(leagueId, bracketVersion))) {
+			return null;
+		}
+		return CommonResponse.success(matchFacade.retrieveBracketResponse(leagueId, bracketVersion));
 	}
 
 	@GetMapping("/{matchId}")
@@ -112,6 +123,21 @@ public class MatchController {
 		return CommonResponse.success(MatchSetResponse.from(matchSetInfo));
 	}
 
+	@GetMapping(value = "/{matchId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "스코어 보드 실시간 구독",
+		description = """
+			특정 매치의 스코어 보드 변경 사항을 SSE 로 구독합니다.
+			점수가 저장되거나 세트가 종료될 때마다 scoreBoard 이벤트가 전송됩니다.
+			""",
+		tags = {"Match"})
+	public SseEmitter subscribeScoreBoard(
+		@PathVariable String clubToken,
+		@PathVariable Long leagueId,
+		@PathVariable Long matchId
+	) {
+		return scoreBoardEmitters.subscribe(leagueId, matchId);
+	}
+
 	@PatchMapping("/{matchId}/sets/{setNumber}")
 	@Operation(summary = "스코어 보드 점수 저장",
 		description = "스코어 보드 점수판을 눌렀을 때 실행되는 API",
@@ -156,6 +182,7 @@ public class MatchController {
 		SetInfo.Main updateSetScoreInfo = matchOperationFacade.registerSetScoreInMatch(leagueId, matchId, setNumber,
 			updateSetScoreCommand, memberToken);
 		retrieveMatchSet.evictLeagueMatchSet(leagueId, matchId, setNumber);
+		matchFacade.publishSetFinished(leagueId, updateSetScoreInfo);
 		return CommonResponse.success(SetScoreFinishResponse.fromUpdateSetScoreInfo(updateSetScoreInfo));
 	}
 
@@ -0,0 +1,30 @@
+package org.badminton.api.interfaces.match.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record MatchResultSliceResponse(
+        @Schema(description = "실제 내용", requiredMode = RequiredMode.REQUIRED)
+        List<MatchResultResponse> content,
+        @Schema(description = "한 페이지에 포함되는 데이터의 개수", requiredMode = RequiredMode.REQUIRED)
+        int size,
+        @Schema(description = "다음 페이지가 있는지 여부", requiredMode = RequiredMode.REQUIRED)
+        boolean hasNext,
+        @Schema(description = "다음 페이지 조회 시 lastLeagueAt 으로 보낼 값")
+        LocalDateTime nextLeagueAt,
+        @Schema(description = "다음 페이지 조회 시 lastLeagueId 로 보낼 값")
+        Long nextLeagueId,
+        @Schema(description = "다음 페이지 조회 시 lastMatchId 로 보낼 값")
+        Long nextMatchId
+) {
+
+    public static MatchResultSliceResponse of(List<MatchResultResponse> content, int size, boolean hasNext) {
+        if (!hasNext || content.isEmpty()) {
+            return new MatchResultSliceResponse(content, size, false, null, null, null);
+        }
+        MatchResultResponse last = content.get(content.size() - 1);
+        return new MatchResultSliceResponse(content, size, true, last.leagueAt(), last.leagueId(), last.matchId());
+    }
+}
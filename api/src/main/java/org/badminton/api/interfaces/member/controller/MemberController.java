@@ -1,5 +1,6 @@
 package org.badminton.api.interfaces.member.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.badminton.api.application.member.MemberFacade;
@@ -8,18 +9,18 @@ import org.badminton.api.aws.s3.service.MemberProfileImageService;
 import org.badminton.api.common.response.CommonResponse;
 import org.badminton.api.interfaces.auth.dto.CustomOAuth2Member;
 import org.badminton.api.interfaces.club.dto.ClubCardResponse;
-import org.badminton.api.interfaces.club.dto.CustomPageResponse;
-import org.badminton.api.interfaces.match.dto.MatchResultResponse;
+import org.badminton.api.interfaces.match.dto.MatchResultSliceResponse;
 import org.badminton.api.interfaces.member.MemberDtoMapper;
 import org.badminton.api.interfaces.member.dto.MemberMyPageResponse;
 import org.badminton.api.interfaces.member.dto.MemberUpdateRequest;
 import org.badminton.api.interfaces.member.dto.MemberUpdateResponse;
 import org.badminton.api.interfaces.member.dto.SimpleMemberResponse;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
 import org.badminton.domain.domain.member.info.MemberMyPageInfo;
 import org.badminton.domain.domain.member.info.MemberUpdateInfo;
 import org.badminton.domain.domain.member.info.SimpleMemberInfo;
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -43,7 +44,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MemberController {
 
-	private static final String DEFAULT_PAGE_VALUE = "0";
 	private static final String DEFAULT_SIZE_VALUE = "9";
 	private final MemberProfileImageService memberProfileImageService;
 	private final MemberDtoMapper memberDtoMapper;
@@ -97,18 +97,24 @@ public class MemberController {
 
 	@GetMapping("/matchesRecord")
 	@Operation(summary = "회원 경기 기록 조회",
-		description = "회원 경기 기록 조회.",
+		description = """
+			회원 경기 기록을 최신 경기부터 조회합니다.
+			
+			다음 페이지는 이전 응답의 nextLeagueAt, nextLeagueId, nextMatchId 를
+			lastLeagueAt, lastLeagueId, lastMatchId 로 보내 조회합니다.""",
 		tags = {"Member"})
-	public CommonResponse<CustomPageResponse<MatchResultResponse>> readMemberLeagueRecord(
+	public CommonResponse<MatchResultSliceResponse> readMemberLeagueRecord(
 		@AuthenticationPrincipal CustomOAuth2Member member,
-		@RequestParam(defaultValue = DEFAULT_PAGE_VALUE) int page,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastLeagueAt,
+		@RequestParam(required = false) Long lastLeagueId,
+		@RequestParam(required = false) Long lastMatchId,
 		@RequestParam(defaultValue = DEFAULT_SIZE_VALUE) int size
 	) {
-		Page<MatchResultResponse> matchResults =
-			memberFacade.getMemberMatchResults(member.getMemberToken(), page, size);
-		CustomPageResponse<MatchResultResponse> pageResponse = new CustomPageResponse<>(matchResults);
+		MatchHistoryCursor cursor = MatchHistoryCursor.of(lastLeagueAt, lastLeagueId, lastMatchId);
+		MatchResultSliceResponse matchResults =
+			memberFacade.getMemberMatchResults(member.getMemberToken(), cursor, size);
 
-		return CommonResponse.success(pageResponse);
+		return CommonResponse.success(matchResults);
 	}
 
 	@Operation(
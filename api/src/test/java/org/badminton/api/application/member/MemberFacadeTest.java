@@ -2,6 +2,7 @@ package org.badminton.api.application.member;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,7 +10,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import org.badminton.api.interfaces.match.dto.MatchResultResponse;
+import org.badminton.api.interfaces.match.dto.MatchResultSliceResponse;
 import org.badminton.domain.common.enums.MatchStatus;
 import org.badminton.domain.common.enums.MatchType;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
@@ -19,8 +20,10 @@ import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.league.info.LeagueRecordInfo;
 import org.badminton.domain.domain.league.service.LeagueRecordService;
 import org.badminton.domain.domain.match.info.MatchResultInfo;
+import org.badminton.domain.domain.match.info.MatchResultSliceInfo;
 import org.badminton.domain.domain.match.info.SinglesMatchResultInfo;
 import org.badminton.domain.domain.match.service.MatchResultService;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
 import org.badminton.domain.domain.member.entity.Member;
 import org.badminton.domain.domain.member.info.MemberMyPageInfo;
 import org.badminton.domain.domain.member.info.MemberUpdateInfo;
@@ -32,7 +35,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
 
 class MemberFacadeTest {
 
@@ -140,38 +142,45 @@ class MemberFacadeTest {
     @DisplayName("회원 매치 전적 조회 API 테스트")
     void getMemberMatchResultsTest() {
         String memberToken = "testToken";
-        int page = 0;
-        int size = 10;
+        int size = 1;
 
         // Mock ClubMemberMyPageInfo
-        ClubMemberMyPageInfo clubMember = mock(ClubMemberMyPageInfo.class);
-        when(clubMember.clubMemberId()).thenReturn(1L); // 반환 타입은 Long
-        when(clubMemberService.getClubMembers(memberToken)).thenReturn(
-                List.of(clubMember)); // 반환 타입은 List<ClubMemberMyPageInfo>
+        ClubMemberMyPageInfo clubMember1 = mock(ClubMemberMyPageInfo.class);
+        when(clubMember1.clubMemberId()).thenReturn(1L);
+        ClubMemberMyPageInfo clubMember2 = mock(ClubMemberMyPageInfo.class);
+        when(clubMember2.clubMemberId()).thenReturn(2L);
+        when(clubMemberService.getClubMembers(memberToken)).thenReturn(List.of(clubMember1, clubMember2));
 
         // Mock MatchResultInfo
+        LocalDateTime leagueAt = LocalDateTime.of(2024, 11, 1, 10, 0);
         MatchResultInfo matchResult = mock(MatchResultInfo.class);
         when(matchResult.matchId()).thenReturn(1L);
         when(matchResult.leagueId()).thenReturn(10L);
         when(matchResult.matchType()).thenReturn(MatchType.SINGLES);
         when(matchResult.singlesMatch()).thenReturn(mock(SinglesMatchResultInfo.class));
         when(matchResult.matchStatus()).thenReturn(MatchStatus.FINISHED);
-        when(matchResult.leagueAt()).thenReturn(LocalDateTime.now());
+        when(matchResult.leagueAt()).thenReturn(leagueAt);
 
-        // MatchResultService의 동작 설정
-        when(matchResultService.getAllMatchResultsByClubMember(1L)).thenReturn(List.of(matchResult));
+        // 모든 동호회 회원 아이디로 한 페이지만 요청한다.
+        MatchHistoryCursor cursor = MatchHistoryCursor.of(LocalDateTime.of(2024, 12, 1, 10, 0), 20L, 5L);
+        when(matchResultService.getMatchResultsByClubMembers(List.of(1L, 2L), cursor, size))
+                .thenReturn(new MatchResultSliceInfo(List.of(matchResult), true));
 
         // Perform the test
-        Page<MatchResultResponse> result = memberFacade.getMemberMatchResults(memberToken, page, size);
+        MatchResultSliceResponse result = memberFacade.getMemberMatchResults(memberToken, cursor, size);
 
         // Assertions
         assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        assertEquals(matchResult.matchId(), result.getContent().get(0).matchId());
+        assertEquals(1, result.content().size());
+        assertEquals(matchResult.matchId(), result.content().get(0).matchId());
+        assertTrue(result.hasNext());
+        assertEquals(leagueAt, result.nextLeagueAt());
+        assertEquals(10L, result.nextLeagueId());
+        assertEquals(1L, result.nextMatchId());
 
         // Verify 호출 확인
         verify(clubMemberService).getClubMembers(memberToken);
-        verify(matchResultService).getAllMatchResultsByClubMember(1L);
+        verify(matchResultService).getMatchResultsByClubMembers(List.of(1L, 2L), cursor, size);
     }
 
 }
@@ -0,0 +1,141 @@
+package springproject.badmintonbatch.batch;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.badminton.domain.common.enums.MatchGenerationType;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.vo.LeagueStatusCandidate;
+import org.badminton.infrastructure.league.LeagueRepository;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import springproject.badmintonbatch.batch.item.LeagueStatusItem;
+import springproject.badmintonbatch.batch.item.LeagueStatusTransition;
+import springproject.badmintonbatch.batch.partitioner.LeagueIdRangePartitioner;
+import springproject.badmintonbatch.batch.processor.LeagueStatusProcessor;
+import springproject.badmintonbatch.batch.reader.LeagueStatusItemReader;
+import springproject.badmintonbatch.batch.writer.LeagueStatusWriter;
+
+// 활성 리그 1만, 10만 개에 대해 파티션 분할과 청크 단위 processor, writer 처리량을 잰다.
+// DB 조회와 UPDATE 는 흉내만 내므로 쿼리 비용은 빠져 있고, 청크마다 나가는 UPDATE 횟수를 준비 단계 뒤에 출력한다.
+// ./gradlew :batch:jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeagueStatusBatchBenchmark {
+
+	private static final int GRID_SIZE = 4;
+	private static final int PARTICIPANT_COUNT = 16;
+
+	@Param({"10000", "100000"})
+	private int leagueCount;
+
+	private final AtomicLong updateQueryCount = new AtomicLong();
+	private final AtomicLong bracketVersionBumpCount = new AtomicLong();
+
+	private LeagueIdRangePartitioner partitioner;
+	private LeagueStatusProcessor processor;
+	private LeagueStatusWriter writer;
+	private List<LeagueStatusItem> items;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LeagueRepository leagueRepository = (LeagueRepository)Proxy.newProxyInstance(
+			LeagueRepository.class.getClassLoader(), new Class<?>[] {LeagueRepository.class},
+			(proxy, method, args) -> switch (method.getName()) {
+				case "findMinLeagueIdByRecruitingClosedAtBefore" -> 1L;
+				case "findMaxLeagueIdByRecruitingClosedAtBefore" -> (long)leagueCount;
+				case "updateLeagueStatusByLeagueIds" -> {
+					updateQueryCount.incrementAndGet();
+					yield ((List<?>)args[0]).size();
+				}
+				default -> throw new UnsupportedOperationException(method.getName());
+			});
+		BracketVersion bracketVersion = new BracketVersion(null) {
+			@Override
+			public void bump(Long leagueId) {
+				bracketVersionBumpCount.incrementAndGet();
+			}
+		};
+		partitioner = new LeagueIdRangePartitioner(leagueRepository);
+		processor = new LeagueStatusProcessor();
+		writer = new LeagueStatusWriter(leagueRepository, bracketVersion);
+		items = createItems();
+	}
+
+	@TearDown(Level.Trial)
+	public void printQueryCounts() {
+		System.out.printf("leagues=%d update queries=%d bracket version bumps=%d%n", leagueCount,
+			updateQueryCount.get(), bracketVersionBumpCount.get());
+	}
+
+	@Benchmark
+	public int partitionProcessAndWrite() {
+		int written = 0;
+		Map<String, ExecutionContext> partitions = partitioner.partition(GRID_SIZE);
+		for (ExecutionContext partition : partitions.values()) {
+			int from = (int)partition.getLong(LeagueIdRangePartitioner.MIN_LEAGUE_ID) - 1;
+			int to = (int)partition.getLong(LeagueIdRangePartitioner.MAX_LEAGUE_ID);
+			for (int start = from; start < to; start += LeagueStatusItemReader.PAGE_SIZE) {
+				List<LeagueStatusTransition> transitions = new ArrayList<>();
+				for (LeagueStatusItem item : items.subList(start,
+					Math.min(start + LeagueStatusItemReader.PAGE_SIZE, to))) {
+					LeagueStatusTransition transition = processor.process(item);
+					if (transition != null) {
+						transitions.add(transition);
+					}
+				}
+				writer.write(new Chunk<>(transitions));
+				written += transitions.size();
+			}
+		}
+		return written;
+	}
+
+	// leagueId 순서대로 모집 중, 모집 완료, 경기 중(진행, 종료 기한 지남) 리그를 섞는다.
+	private List<LeagueStatusItem> createItems() {
+		LocalDateTime now = LocalDateTime.now();
+		List<LeagueStatusItem> leagueItems = new ArrayList<>(leagueCount);
+		for (long leagueId = 1; leagueId <= leagueCount; leagueId++) {
+			MatchType matchType = leagueId % 2 == 0 ? MatchType.SINGLES : MatchType.DOUBLES;
+			MatchGenerationType matchGenerationType =
+				leagueId % 3 == 0 ? MatchGenerationType.FREE : MatchGenerationType.TOURNAMENT;
+			LeagueStatusCandidate candidate = switch ((int)(leagueId % 4)) {
+				case 0 -> new LeagueStatusCandidate(leagueId, LeagueStatus.RECRUITING, matchType, matchGenerationType,
+					now.plusDays(1));
+				case 1 -> new LeagueStatusCandidate(leagueId, LeagueStatus.RECRUITING_COMPLETED, matchType,
+					matchGenerationType, now.minusHours(1));
+				case 2 -> new LeagueStatusCandidate(leagueId, LeagueStatus.PLAYING, matchType, matchGenerationType,
+					now.minusHours(2));
+				default -> new LeagueStatusCandidate(leagueId, LeagueStatus.PLAYING, matchType, matchGenerationType,
+					now.minusDays(2));
+			};
+			leagueItems.add(new LeagueStatusItem(candidate, PARTICIPANT_COUNT, leagueId % 8 != 3));
+		}
+		return leagueItems;
+	}
+}
@@ -1,10 +1,10 @@
 package springproject.badmintonbatch.batch.config;
 
-import org.badminton.domain.domain.league.entity.League;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
@@ -13,15 +13,22 @@ import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
+import springproject.badmintonbatch.batch.item.LeagueStatusItem;
+import springproject.badmintonbatch.batch.item.LeagueStatusTransition;
+import springproject.badmintonbatch.batch.reader.LeagueStatusItemReader;
 
 @Configuration
 @EnableBatchProcessing
 public class LeagueStatusBatchConfig {
 
+	private static final int GRID_SIZE = 4;
+
 	@Bean
 	public Job leagueStatusUpdateJob(Step updateLeagueStatusStep, JobRepository jobRepository) {
 		return new JobBuilder("leagueStatusUpdateJob", jobRepository)
@@ -29,18 +36,42 @@ public class LeagueStatusBatchConfig {
 	}
 
 	@Bean
-	public Step updateLeagueStatusStep(@Qualifier("leagueStatusItemReader") ItemReader<League> reader,
-		@Qualifier("leagueStatusItemProcessor") ItemProcessor<League, League> processor,
-		@Qualifier("leagueStatusItemWriter") ItemWriter<League> writer, JobRepository jobRepository,
-		PlatformTransactionManager transactionManager) {
+	public Step updateLeagueStatusStep(Step updateLeagueStatusWorkerStep,
+		@Qualifier("leagueIdRangePartitioner") Partitioner partitioner,
+		@Qualifier("leagueStatusTaskExecutor") TaskExecutor taskExecutor, JobRepository jobRepository) {
 		return new StepBuilder("updateLeagueStatus", jobRepository)
-			.<League, League>chunk(10, transactionManager)
+			.partitioner("updateLeagueStatusWorker", partitioner)
+			.step(updateLeagueStatusWorkerStep)
+			.gridSize(GRID_SIZE)
+			.taskExecutor(taskExecutor)
+			.build();
+	}
+
+	// 청크 크기를 reader 의 페이지 크기와 맞춰 한 청크의 집계 조회가 한 번씩만 나가도록 한다.
+	@Bean
+	public Step updateLeagueStatusWorkerStep(
+		@Qualifier("leagueStatusItemReader") ItemReader<LeagueStatusItem> reader,
+		@Qualifier("leagueStatusItemProcessor") ItemProcessor<LeagueStatusItem, LeagueStatusTransition> processor,
+		@Qualifier("leagueStatusItemWriter") ItemWriter<LeagueStatusTransition> writer, JobRepository jobRepository,
+		PlatformTransactionManager transactionManager) {
+		return new StepBuilder("updateLeagueStatusWorker", jobRepository)
+			.<LeagueStatusItem, LeagueStatusTransition>chunk(LeagueStatusItemReader.PAGE_SIZE, transactionManager)
 			.reader(reader)
 			.processor(processor)
 			.writer(writer)
 			.build();
 	}
 
+	@Bean(name = "leagueStatusTaskExecutor")
+	public TaskExecutor leagueStatusTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(GRID_SIZE);
+		executor.setMaxPoolSize(GRID_SIZE);
+		executor.setThreadNamePrefix("league-status-");
+		executor.initialize();
+		return executor;
+	}
+
 	@Bean(name = "leagueStatusTransactionManager")
 	PlatformTransactionManager leagueStatusTransactionManager(EntityManagerFactory entityManagerFactory) {
 		return new JpaTransactionManager(entityManagerFactory);
@@ -0,0 +1,41 @@
+package springproject.badmintonbatch.batch.config;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import springproject.badmintonbatch.batch.item.MatchParticipationBackfillItem;
+import springproject.badmintonbatch.batch.reader.MatchParticipationBackfillReader;
+
+@Configuration
+@EnableBatchProcessing
+public class MatchParticipationBackfillBatchConfig {
+
+	@Bean
+	public Job matchParticipationBackfillJob(Step matchParticipationBackfillStep, JobRepository jobRepository) {
+		return new JobBuilder("matchParticipationBackfillJob", jobRepository)
+			.start(matchParticipationBackfillStep).build();
+	}
+
+	@Bean
+	public Step matchParticipationBackfillStep(
+		@Qualifier("matchParticipationBackfillReader") ItemReader<MatchParticipationBackfillItem> reader,
+		@Qualifier("matchParticipationBackfillWriter") ItemWriter<MatchParticipationBackfillItem> writer,
+		JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+		return new StepBuilder("matchParticipationBackfill", jobRepository)
+			.<MatchParticipationBackfillItem, MatchParticipationBackfillItem>chunk(
+				MatchParticipationBackfillReader.PAGE_SIZE, transactionManager)
+			.reader(reader)
+			.writer(writer)
+			.build();
+	}
+}
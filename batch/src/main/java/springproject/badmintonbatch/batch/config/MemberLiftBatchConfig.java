@@ -1,21 +1,22 @@
 package springproject.badmintonbatch.batch.config;
 
-import org.badminton.domain.domain.clubmember.entity.ClubMemberBanRecord;
+import org.badminton.domain.domain.clubmember.info.ClubMemberBanLiftInfo;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
+import springproject.badmintonbatch.batch.reader.MemberLiftReader;
 
 @Configuration
 @EnableBatchProcessing
@@ -28,14 +29,12 @@ public class MemberLiftBatchConfig {
 	}
 
 	@Bean
-	public Step memberLiftStep(ItemReader<ClubMemberBanRecord> reader,
-		ItemProcessor<ClubMemberBanRecord, ClubMemberBanRecord> processor,
-		ItemWriter<ClubMemberBanRecord> writer, JobRepository jobRepository,
+	public Step memberLiftStep(@Qualifier("memberLiftReader") ItemReader<ClubMemberBanLiftInfo> reader,
+		@Qualifier("memberLiftWriter") ItemWriter<ClubMemberBanLiftInfo> writer, JobRepository jobRepository,
 		PlatformTransactionManager transactionManager) {
 		return new StepBuilder("memberLift", jobRepository)
-			.<ClubMemberBanRecord, ClubMemberBanRecord>chunk(10, transactionManager)
+			.<ClubMemberBanLiftInfo, ClubMemberBanLiftInfo>chunk(MemberLiftReader.PAGE_SIZE, transactionManager)
 			.reader(reader)
-			.processor(processor)
 			.writer(writer)
 			.build();
 	}
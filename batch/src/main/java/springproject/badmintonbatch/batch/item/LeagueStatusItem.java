@@ -0,0 +1,10 @@
+package springproject.badmintonbatch.batch.item;
+
+import org.badminton.domain.domain.league.vo.LeagueStatusCandidate;
+
+public record LeagueStatusItem(
+	LeagueStatusCandidate league,
+	int participantCount,
+	boolean allMatchesFinished
+) {
+}
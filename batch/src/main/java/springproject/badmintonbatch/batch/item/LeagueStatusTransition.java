@@ -0,0 +1,10 @@
+package springproject.badmintonbatch.batch.item;
+
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+
+public record LeagueStatusTransition(
+	Long leagueId,
+	LeagueStatus fromStatus,
+	LeagueStatus toStatus
+) {
+}
@@ -0,0 +1,9 @@
+package springproject.badmintonbatch.batch.item;
+
+import org.badminton.domain.common.enums.MatchType;
+
+public record MatchParticipationBackfillItem(
+	MatchType matchType,
+	Long matchId
+) {
+}
@@ -0,0 +1,53 @@
+package springproject.badmintonbatch.batch.partitioner;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.infrastructure.league.LeagueRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component("leagueIdRangePartitioner")
+@RequiredArgsConstructor
+public class LeagueIdRangePartitioner implements Partitioner {
+
+	public static final String MIN_LEAGUE_ID = "minLeagueId";
+	public static final String MAX_LEAGUE_ID = "maxLeagueId";
+	public static final String CURRENT_TIME = "currentTime";
+	public static final List<LeagueStatus> EXCLUDED_STATUSES = List.of(LeagueStatus.CANCELED,
+		LeagueStatus.FINISHED);
+
+	private final LeagueRepository leagueRepository;
+
+	// 대상 리그의 leagueId 범위를 gridSize 개의 구간으로 나눠 각 파티션이 겹치지 않게 읽도록 한다.
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		LocalDateTime currentTime = LocalDateTime.now();
+		Long minLeagueId = leagueRepository.findMinLeagueIdByRecruitingClosedAtBefore(currentTime, EXCLUDED_STATUSES);
+		Long maxLeagueId = leagueRepository.findMaxLeagueIdByRecruitingClosedAtBefore(currentTime, EXCLUDED_STATUSES);
+
+		Map<String, ExecutionContext> partitions = new HashMap<>();
+		if (minLeagueId == null || maxLeagueId == null) {
+			return partitions;
+		}
+
+		long rangeSize = (maxLeagueId - minLeagueId) / gridSize + 1;
+		long start = minLeagueId;
+		for (int partitionNumber = 0; start <= maxLeagueId; partitionNumber++) {
+			long end = Math.min(start + rangeSize - 1, maxLeagueId);
+			ExecutionContext context = new ExecutionContext();
+			context.putLong(MIN_LEAGUE_ID, start);
+			context.putLong(MAX_LEAGUE_ID, end);
+			context.put(CURRENT_TIME, currentTime.toString());
+			partitions.put("partition" + partitionNumber, context);
+			start = end + 1;
+		}
+		return partitions;
+	}
+}
@@ -4,79 +4,72 @@ import java.time.LocalDateTime;
 
 import org.badminton.domain.common.exception.league.InvalidDoublesPlayerLimitCountException;
 import org.badminton.domain.common.exception.league.InvalidSinglesPlayerLimitCountException;
-import org.badminton.domain.domain.league.LeagueParticipantReader;
-import org.badminton.domain.domain.league.entity.League;
-import org.badminton.domain.domain.match.reader.DoublesMatchReader;
-import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.badminton.domain.common.policy.LeagueParticipantPolicy;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.vo.LeagueStatusCandidate;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import springproject.badmintonbatch.batch.item.LeagueStatusItem;
+import springproject.badmintonbatch.batch.item.LeagueStatusTransition;
 
 @Component("leagueStatusItemProcessor")
-@RequiredArgsConstructor
 @Slf4j
-public class LeagueStatusProcessor implements ItemProcessor<League, League> {
-
-	private final LeagueParticipantReader leagueParticipantReader;
-	private final SinglesMatchReader singlesMatchReader;
-	private final DoublesMatchReader doublesMatchReader;
+public class LeagueStatusProcessor implements ItemProcessor<LeagueStatusItem, LeagueStatusTransition> {
 
+	// 상태가 바뀌지 않는 리그는 null 을 반환해 writer 로 넘기지 않는다.
 	@Override
-	public League process(League item) {
+	public LeagueStatusTransition process(LeagueStatusItem item) {
 		LocalDateTime now = LocalDateTime.now();
+		LeagueStatusCandidate league = item.league();
 
-		switch (item.getLeagueStatus()) {
-			case RECRUITING:
-				handleRecruiting(item);
-				break;
-			case RECRUITING_COMPLETED:
-				handleRecruitingCompleted(item, now);
-				break;
-			case PLAYING:
-				handlePlaying(item, now);
-				break;
+		LeagueStatus nextStatus = switch (league.leagueStatus()) {
+			case RECRUITING -> handleRecruiting(item);
+			case RECRUITING_COMPLETED -> handleRecruitingCompleted(league, now);
+			case PLAYING -> handlePlaying(item, now);
+			default -> null;
+		};
+		if (nextStatus == null) {
+			return null;
 		}
-		return item;
+		return new LeagueStatusTransition(league.leagueId(), league.leagueStatus(), nextStatus);
 	}
 
-	private void handleRecruiting(League item) {
+	private LeagueStatus handleRecruiting(LeagueStatusItem item) {
+		LeagueStatusCandidate league = item.league();
 		try {
-			item.completeLeagueRecruiting(leagueParticipantReader.countParticipantMember(item.getLeagueId()));
+			LeagueParticipantPolicy.validatePlayerCount(league.matchType(), league.matchGenerationType(),
+				item.participantCount());
+			return LeagueStatus.RECRUITING_COMPLETED;
 		} catch (InvalidSinglesPlayerLimitCountException | InvalidDoublesPlayerLimitCountException e) {
 			log.error(e.getErrorMessage(), e);
-			item.cancelLeague();
+			return LeagueStatus.CANCELED;
 		}
 	}
 
-	private void handleRecruitingCompleted(League item, LocalDateTime now) {
-		if (isLeagueInProgress(item, now)) {
-			item.startLeague();
+	private LeagueStatus handleRecruitingCompleted(LeagueStatusCandidate league, LocalDateTime now) {
+		if (isLeagueInProgress(league, now)) {
+			return LeagueStatus.PLAYING;
 		}
+		return null;
 	}
 
-	private void handlePlaying(League item, LocalDateTime now) {
-		if (isLeagueOverdue(item, now)) {
-			if (!areAllMatchesFinished(item)) {
-				item.cancelLeague();
-			} else {
-				item.finishLeague();
+	private LeagueStatus handlePlaying(LeagueStatusItem item, LocalDateTime now) {
+		if (isLeagueOverdue(item.league(), now)) {
+			if (!item.allMatchesFinished()) {
+				return LeagueStatus.CANCELED;
 			}
+			return LeagueStatus.FINISHED;
 		}
+		return null;
 	}
 
-	private boolean isLeagueInProgress(League item, LocalDateTime now) {
-		return item.getLeagueAt().isBefore(now);
-	}
-
-	private boolean isLeagueOverdue(League item, LocalDateTime now) {
-		return item.getLeagueAt().plusHours(24).isBefore(now);
+	private boolean isLeagueInProgress(LeagueStatusCandidate league, LocalDateTime now) {
+		return league.leagueAt().isBefore(now);
 	}
 
-	private boolean areAllMatchesFinished(League item) {
-		return singlesMatchReader.allMatchesFinishedForLeague(item.getLeagueId())
-			&& doublesMatchReader.allMatchesFinishedForLeague(item.getLeagueId());
+	private boolean isLeagueOverdue(LeagueStatusCandidate league, LocalDateTime now) {
+		return league.leagueAt().plusHours(24).isBefore(now);
 	}
 }
-
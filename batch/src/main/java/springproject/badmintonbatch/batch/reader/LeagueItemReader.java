@@ -1,77 +1,57 @@
 package springproject.badmintonbatch.batch.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.enums.LeagueStatus;
-import org.badminton.domain.domain.match.entity.DoublesMatch;
-import org.badminton.domain.domain.match.entity.DoublesSet;
-import org.badminton.domain.domain.match.entity.SinglesMatch;
-import org.badminton.domain.domain.match.entity.SinglesSet;
 import org.badminton.infrastructure.league.LeagueRepository;
-import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
-import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
+
+@StepScope
 @Component("leagueItemReader")
 @RequiredArgsConstructor
 public class LeagueItemReader implements ItemReader<League> {
 
-    private final LeagueRepository leagueRepository;
-    private final DoublesMatchRepository doublesMatchRepository;
-    private final SinglesMatchRepository singlesMatchRepository;
-
-    private int currentIndex = 0;
-
-    @Override
-    public League read() {
-        LocalDateTime localDateTime = LocalDateTime.now().minusDays(1);
-        List<League> targetLeague = leagueRepository.findAllByLeagueAtBefore(localDateTime).stream()
-                .filter(league ->
-                        !league.getLeagueStatus().equals(LeagueStatus.CANCELED)
-                                && !league.getLeagueStatus().equals(LeagueStatus.FINISHED)
-                ).toList();
-
-        for (League league : targetLeague) {
-            updateMatchesToFinishedIfAllNotStarted(league);
-        }
-        if (currentIndex >= targetLeague.size()) {
-            currentIndex = 0;
-        }
-
-        if (targetLeague.isEmpty()) {
-            return null;
-        }
-
-        return targetLeague.get(currentIndex++);
-    }
-
-    private void updateMatchesToFinishedIfAllNotStarted(League league) {
-        List<DoublesMatch> doublesMatches = doublesMatchRepository.findAllByLeague_LeagueId(league.getLeagueId());
-        List<SinglesMatch> singlesMatches = singlesMatchRepository.findAllByLeague_LeagueId(league.getLeagueId());
-
-        if (doublesMatches.isEmpty() && singlesMatches.isEmpty()) {
-            return;
-        }
-
-        doublesMatches.forEach(doublesMatch -> {
-            doublesMatch.finishMatch();
-            for (DoublesSet doublesSet : doublesMatch.getDoublesSets()) {
-                doublesSet.close();
-            }
-        });
-        singlesMatches.forEach(singlesMatch -> {
-            singlesMatch.finishMatch();
-            // 싱글스 매치의 모든 세트 종료
-            for (SinglesSet singlesSet : singlesMatch.getSinglesSets()) {
-                singlesSet.close();
-            }
-        });
-
-        // 상태가 변경된 매치들을 저장
-        doublesMatchRepository.saveAll(doublesMatches);
-        singlesMatchRepository.saveAll(singlesMatches);
-    }
+	private static final int PAGE_SIZE = 100;
+	private static final List<LeagueStatus> EXCLUDED_STATUSES = List.of(LeagueStatus.CANCELED,
+		LeagueStatus.FINISHED);
+
+	private final LeagueRepository leagueRepository;
+
+	private final Deque<League> buffer = new ArrayDeque<>();
+	private LocalDateTime leagueAtBefore;
+	private Long lastLeagueId = 0L;
+	private boolean exhausted = false;
+
+	@Override
+	public League read() {
+		if (buffer.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+		return buffer.poll();
+	}
+
+	// 처리한 리그는 상태가 바뀌어 조건에서 빠지므로, offset 대신 leagueId 기준으로 다음 페이지를 읽는다.
+	private void fetchNextPage() {
+		if (leagueAtBefore == null) {
+			leagueAtBefore = LocalDateTime.now().minusDays(1);
+		}
+		List<League> leagues = leagueRepository.findAllByLeagueAtBeforeAndLeagueIdAfter(leagueAtBefore,
+			EXCLUDED_STATUSES, lastLeagueId, PageRequest.of(0, PAGE_SIZE));
+		if (leagues.size() < PAGE_SIZE) {
+			exhausted = true;
+		}
+		if (!leagues.isEmpty()) {
+			lastLeagueId = leagues.get(leagues.size() - 1).getLeagueId();
+			buffer.addAll(leagues);
+		}
+	}
 }
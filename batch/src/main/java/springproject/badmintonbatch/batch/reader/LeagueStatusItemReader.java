@@ -1,38 +1,125 @@
 package springproject.badmintonbatch.batch.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.common.enums.MatchType;
 import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.vo.LeagueParticipantCount;
+import org.badminton.domain.domain.league.vo.LeagueStatusCandidate;
+import org.badminton.infrastructure.league.LeagueParticipantRepository;
 import org.badminton.infrastructure.league.LeagueRepository;
+import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
+import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import springproject.badmintonbatch.batch.item.LeagueStatusItem;
+import springproject.badmintonbatch.batch.partitioner.LeagueIdRangePartitioner;
 
+@StepScope
 @Component("leagueStatusItemReader")
 @RequiredArgsConstructor
-public class LeagueStatusItemReader implements ItemReader<League> {
+public class LeagueStatusItemReader implements ItemReader<LeagueStatusItem> {
+
+	public static final int PAGE_SIZE = 100;
+	private static final long OVERDUE_HOURS = 24;
 
 	private final LeagueRepository leagueRepository;
+	private final LeagueParticipantRepository leagueParticipantRepository;
+	private final SinglesMatchRepository singlesMatchRepository;
+	private final DoublesMatchRepository doublesMatchRepository;
+
+	@Value("#{stepExecutionContext['" + LeagueIdRangePartitioner.MIN_LEAGUE_ID + "']}")
+	private Long minLeagueId;
+
+	@Value("#{stepExecutionContext['" + LeagueIdRangePartitioner.MAX_LEAGUE_ID + "']}")
+	private Long maxLeagueId;
 
-	private List<League> leaguesToProcess;
-	private int currentIndex = 0;
+	@Value("#{stepExecutionContext['" + LeagueIdRangePartitioner.CURRENT_TIME + "']}")
+	private String currentTime;
+
+	private final Deque<LeagueStatusItem> buffer = new ArrayDeque<>();
+	private Long lastLeagueId;
+	private boolean exhausted = false;
 
 	@Override
-	public League read() {
-		if (leaguesToProcess == null) {
-			LocalDateTime currentTime = LocalDateTime.now();
-			List<LeagueStatus> excludedStatus = List.of(LeagueStatus.CANCELED, LeagueStatus.FINISHED);
-			leaguesToProcess = leagueRepository.findAllByRecruitingClosedAtAfter(currentTime, excludedStatus).stream()
-				.toList();
-		}
-		if (currentIndex >= leaguesToProcess.size()) {
-			leaguesToProcess = null;
-			currentIndex = 0;
-			return null;
-		}
-		return leaguesToProcess.get(currentIndex++);
+	public LeagueStatusItem read() {
+		if (buffer.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+		return buffer.poll();
+	}
+
+	// 파티션 구간 안에서 leagueId 기준으로 한 페이지씩 읽고, 페이지 단위로 참가자 수와 경기 종료 여부를 한 번에 조회한다.
+	private void fetchNextPage() {
+		if (lastLeagueId == null) {
+			lastLeagueId = minLeagueId - 1;
+		}
+		LocalDateTime now = LocalDateTime.parse(currentTime);
+		List<LeagueStatusCandidate> leagues = leagueRepository.findStatusCandidatesByRecruitingClosedAtBefore(now,
+			LeagueIdRangePartitioner.EXCLUDED_STATUSES, lastLeagueId, maxLeagueId, PageRequest.of(0, PAGE_SIZE));
+		if (leagues.size() < PAGE_SIZE) {
+			exhausted = true;
+		}
+		if (leagues.isEmpty()) {
+			return;
+		}
+		lastLeagueId = leagues.get(leagues.size() - 1).leagueId();
+
+		Map<Long, Long> participantCounts = countParticipants(leagues);
+		Set<Long> unfinishedLeagueIds = findLeagueIdsWithUnfinishedMatches(leagues, now);
+		for (LeagueStatusCandidate league : leagues) {
+			buffer.add(new LeagueStatusItem(league,
+				participantCounts.getOrDefault(league.leagueId(), 0L).intValue(),
+				!unfinishedLeagueIds.contains(league.leagueId())));
+		}
+	}
+
+	private Map<Long, Long> countParticipants(List<LeagueStatusCandidate> leagues) {
+		List<Long> recruitingLeagueIds = leagues.stream()
+			.filter(league -> league.leagueStatus() == LeagueStatus.RECRUITING)
+			.map(LeagueStatusCandidate::leagueId)
+			.toList();
+		if (recruitingLeagueIds.isEmpty()) {
+			return Map.of();
+		}
+		return leagueParticipantRepository.countParticipantsByLeagueIds(recruitingLeagueIds).stream()
+			.collect(Collectors.toMap(LeagueParticipantCount::leagueId, LeagueParticipantCount::participantCount));
+	}
+
+	private Set<Long> findLeagueIdsWithUnfinishedMatches(List<LeagueStatusCandidate> leagues, LocalDateTime now) {
+		List<LeagueStatusCandidate> overdueLeagues = leagues.stream()
+			.filter(league -> league.leagueStatus() == LeagueStatus.PLAYING)
+			.filter(league -> league.leagueAt().plusHours(OVERDUE_HOURS).isBefore(now))
+			.toList();
+		List<Long> singlesLeagueIds = filterLeagueIds(overdueLeagues, MatchType.SINGLES);
+		List<Long> doublesLeagueIds = filterLeagueIds(overdueLeagues, MatchType.DOUBLES);
+
+		Set<Long> unfinishedLeagueIds = new HashSet<>();
+		if (!singlesLeagueIds.isEmpty()) {
+			unfinishedLeagueIds.addAll(singlesMatchRepository.findLeagueIdsWithUnfinishedMatches(singlesLeagueIds));
+		}
+		if (!doublesLeagueIds.isEmpty()) {
+			unfinishedLeagueIds.addAll(doublesMatchRepository.findLeagueIdsWithUnfinishedMatches(doublesLeagueIds));
+		}
+		return unfinishedLeagueIds;
+	}
+
+	private List<Long> filterLeagueIds(List<LeagueStatusCandidate> leagues, MatchType matchType) {
+		return leagues.stream()
+			.filter(league -> league.matchType() == matchType)
+			.map(LeagueStatusCandidate::leagueId)
+			.toList();
 	}
 }
@@ -0,0 +1,93 @@
+package springproject.badmintonbatch.batch.reader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
+import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import springproject.badmintonbatch.batch.item.MatchParticipationBackfillItem;
+
+// 매치 id 는 대진표를 만들 때 정해지고 종료 순서와 무관하므로, 실행마다 전적 행이 없는 종료 매치를 처음부터 찾는다.
+@StepScope
+@Component("matchParticipationBackfillReader")
+@RequiredArgsConstructor
+public class MatchParticipationBackfillReader implements ItemStreamReader<MatchParticipationBackfillItem> {
+
+	public static final int PAGE_SIZE = 100;
+	public static final String LAST_SINGLES_MATCH_ID_KEY = "lastSinglesMatchId";
+	public static final String LAST_DOUBLES_MATCH_ID_KEY = "lastDoublesMatchId";
+
+	private final SinglesMatchRepository singlesMatchRepository;
+	private final DoublesMatchRepository doublesMatchRepository;
+
+	private final Deque<MatchParticipationBackfillItem> buffer = new ArrayDeque<>();
+	private MatchType currentMatchType = MatchType.SINGLES;
+	private Long lastFetchedMatchId;
+	private Long lastReadSinglesMatchId;
+	private Long lastReadDoublesMatchId;
+	private boolean exhausted = false;
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		// 재시작이면 실패한 실행이 마지막으로 커밋한 위치부터 이어서 읽는다.
+		lastReadSinglesMatchId = executionContext.getLong(LAST_SINGLES_MATCH_ID_KEY, 0L);
+		lastReadDoublesMatchId = executionContext.getLong(LAST_DOUBLES_MATCH_ID_KEY, 0L);
+		lastFetchedMatchId = lastReadSinglesMatchId;
+	}
+
+	// 청크가 커밋될 때마다 호출되므로 이미 돌려준 매치까지를 처리한 위치로 남긴다.
+	@Override
+	public void update(ExecutionContext executionContext) {
+		executionContext.putLong(LAST_SINGLES_MATCH_ID_KEY, lastReadSinglesMatchId);
+		executionContext.putLong(LAST_DOUBLES_MATCH_ID_KEY, lastReadDoublesMatchId);
+	}
+
+	@Override
+	public MatchParticipationBackfillItem read() {
+		while (buffer.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+		MatchParticipationBackfillItem item = buffer.poll();
+		if (item != null && item.matchType() == MatchType.SINGLES) {
+			lastReadSinglesMatchId = item.matchId();
+		}
+		if (item != null && item.matchType() == MatchType.DOUBLES) {
+			lastReadDoublesMatchId = item.matchId();
+		}
+		return item;
+	}
+
+	// 전적 행이 없는 종료 단식 매치를 id 순으로 모두 읽은 뒤 복식 매치를 같은 방식으로 읽는다.
+	private void fetchNextPage() {
+		PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE);
+		List<Long> matchIds = currentMatchType == MatchType.SINGLES
+			? singlesMatchRepository.findUnrecordedFinishedMatchIdsAfter(lastFetchedMatchId, pageRequest)
+			: doublesMatchRepository.findUnrecordedFinishedMatchIdsAfter(lastFetchedMatchId, pageRequest);
+
+		if (!matchIds.isEmpty()) {
+			lastFetchedMatchId = matchIds.get(matchIds.size() - 1);
+			matchIds.forEach(matchId -> buffer.add(new MatchParticipationBackfillItem(currentMatchType, matchId)));
+		}
+		if (matchIds.size() < PAGE_SIZE) {
+			moveToNextMatchType();
+		}
+	}
+
+	private void moveToNextMatchType() {
+		if (currentMatchType == MatchType.DOUBLES) {
+			exhausted = true;
+			return;
+		}
+		currentMatchType = MatchType.DOUBLES;
+		lastFetchedMatchId = lastReadDoublesMatchId;
+	}
+}
@@ -1,36 +1,54 @@
 package springproject.badmintonbatch.batch.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 
-import org.badminton.domain.domain.clubmember.entity.ClubMemberBanRecord;
+import org.badminton.domain.domain.clubmember.info.ClubMemberBanLiftInfo;
 import org.badminton.infrastructure.clubmember.BannedClubMemberRepository;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 
+@StepScope
 @Component
 @RequiredArgsConstructor
-public class MemberLiftReader implements ItemReader<ClubMemberBanRecord> {
+public class MemberLiftReader implements ItemReader<ClubMemberBanLiftInfo> {
+
+	public static final int PAGE_SIZE = 100;
 
 	private final BannedClubMemberRepository bannedClubMemberRepository;
 
-	private List<ClubMemberBanRecord> clubMembersToLift;
-	private int currentIndex = 0;
+	private final Deque<ClubMemberBanLiftInfo> buffer = new ArrayDeque<>();
+	private LocalDateTime currentTime;
+	private Long lastBanRecordId = 0L;
+	private boolean exhausted = false;
 
 	@Override
-	public ClubMemberBanRecord read() {
-		if (clubMembersToLift == null) {
-			LocalDateTime currentTime = LocalDateTime.now();
-			clubMembersToLift = bannedClubMemberRepository.findAllByEndDateBeforeAndIsActiveTrue(currentTime);
+	public ClubMemberBanLiftInfo read() {
+		if (buffer.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+		return buffer.poll();
+	}
 
+	// 해제한 정지 기록은 조건에서 빠지므로, offset 대신 정지 기록 id 기준으로 다음 페이지를 읽는다.
+	private void fetchNextPage() {
+		if (currentTime == null) {
+			currentTime = LocalDateTime.now();
+		}
+		List<ClubMemberBanLiftInfo> expiredBans = bannedClubMemberRepository.findExpiredBansAfter(currentTime,
+			lastBanRecordId, PageRequest.of(0, PAGE_SIZE));
+		if (expiredBans.size() < PAGE_SIZE) {
+			exhausted = true;
 		}
-		if (currentIndex >= clubMembersToLift.size()) {
-			clubMembersToLift = null;
-			currentIndex = 0;
-			return null;
+		if (!expiredBans.isEmpty()) {
+			lastBanRecordId = expiredBans.get(expiredBans.size() - 1).clubMemberBanRecordId();
+			buffer.addAll(expiredBans);
 		}
-		return clubMembersToLift.get(currentIndex++);
 	}
 }
@@ -20,6 +20,7 @@ public class BatchScheduler {
 	private final Job leagueManagerJob;
 	private final Job leagueStatusUpdateJob;
 	private final Job memberLiftJob;
+	private final Job matchParticipationBackfillJob;
 
 	@Scheduled(fixedRate = 60000)
 	public void updateLeagueStatus() {
@@ -57,4 +58,17 @@ public class BatchScheduler {
 		}
 
 	}
+
+	// 참가자별 전적 테이블에 빠진 종료 매치를 채운다.
+	@Scheduled(cron = "0 30 4 * * ?")
+	public void backfillMatchParticipation() {
+		log.info("참가자별 전적 보정");
+		try {
+			jobLauncher.run(matchParticipationBackfillJob, new JobParametersBuilder()
+				.addLong("time", System.currentTimeMillis())
+				.toJobParameters());
+		} catch (Exception exception) {
+			log.error(exception.getMessage(), exception);
+		}
+	}
 }
@@ -1,7 +1,14 @@
 package springproject.badmintonbatch.batch.writer;
 
+import java.util.List;
+
+import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.common.enums.SetStatus;
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.infrastructure.league.LeagueRepository;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
+import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
@@ -13,10 +20,23 @@ import lombok.RequiredArgsConstructor;
 public class LeagueItemWriter implements ItemWriter<League> {
 
 	private final LeagueRepository leagueRepository;
+	private final SinglesMatchRepository singlesMatchRepository;
+	private final DoublesMatchRepository doublesMatchRepository;
+	private final BracketVersion bracketVersion;
 
 	@Override
 	public void write(Chunk<? extends League> chunk) throws Exception {
 		//상태를 변경하고 저장한다.
 		leagueRepository.saveAll(chunk);
+
+		// 취소된 리그의 모든 매치와 세트를 청크 단위로 한 번에 종료한다.
+		List<Long> leagueIds = chunk.getItems().stream()
+			.map(League::getLeagueId)
+			.toList();
+		singlesMatchRepository.updateSetStatusByLeagueIds(leagueIds, SetStatus.FINISHED);
+		singlesMatchRepository.updateMatchStatusByLeagueIds(leagueIds, MatchStatus.FINISHED);
+		doublesMatchRepository.updateSetStatusByLeagueIds(leagueIds, SetStatus.FINISHED);
+		doublesMatchRepository.updateMatchStatusByLeagueIds(leagueIds, MatchStatus.FINISHED);
+		leagueIds.forEach(bracketVersion::bump);
 	}
 }
@@ -1,23 +1,42 @@
 package springproject.badmintonbatch.batch.writer;
 
-import org.badminton.domain.domain.league.entity.League;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.badminton.domain.domain.league.enums.LeagueStatus;
 import org.badminton.infrastructure.league.LeagueRepository;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import springproject.badmintonbatch.batch.item.LeagueStatusTransition;
 
 @Component("leagueStatusItemWriter")
 @RequiredArgsConstructor
-public class LeagueStatusWriter implements ItemWriter<League> {
+public class LeagueStatusWriter implements ItemWriter<LeagueStatusTransition> {
 
 	private final LeagueRepository leagueRepository;
+	private final BracketVersion bracketVersion;
 
+	// (현재 상태, 다음 상태) 쌍마다 UPDATE 한 번으로 청크를 반영한다.
+	// 현재 상태를 조건에 포함해 읽은 이후 API 에서 바뀐 리그는 덮어쓰지 않는다.
 	@Override
-	public void write(Chunk<? extends League> chunk) {
+	public void write(Chunk<? extends LeagueStatusTransition> chunk) {
+		LocalDateTime now = LocalDateTime.now();
+		Map<LeagueStatus, Map<LeagueStatus, List<Long>>> transitions = chunk.getItems().stream()
+			.collect(Collectors.groupingBy(LeagueStatusTransition::fromStatus,
+				Collectors.groupingBy(LeagueStatusTransition::toStatus,
+					Collectors.mapping(LeagueStatusTransition::leagueId, Collectors.toList()))));
 
-		leagueRepository.saveAll(chunk);
+		transitions.forEach((fromStatus, byToStatus) -> byToStatus.forEach(
+			(toStatus, leagueIds) -> leagueRepository.updateLeagueStatusByLeagueIds(leagueIds, fromStatus, toStatus,
+				now)));
 
+		// 대진표 조회 모델에 리그 상태가 포함되어 있으므로 대진표 버전도 올린다.
+		chunk.getItems().forEach(transition -> bracketVersion.bump(transition.leagueId()));
 	}
 }
@@ -0,0 +1,39 @@
+package springproject.badmintonbatch.batch.writer;
+
+import java.util.List;
+
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.match.reader.DoublesMatchReader;
+import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.badminton.domain.domain.match.store.MatchParticipationStore;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import springproject.badmintonbatch.batch.item.MatchParticipationBackfillItem;
+
+@Component("matchParticipationBackfillWriter")
+@RequiredArgsConstructor
+public class MatchParticipationBackfillWriter implements ItemWriter<MatchParticipationBackfillItem> {
+
+	private final SinglesMatchReader singlesMatchReader;
+	private final DoublesMatchReader doublesMatchReader;
+	private final MatchParticipationStore matchParticipationStore;
+
+	// 이미 기록된 행은 insert 에서 무시되므로 여러 번 실행해도 같은 결과가 된다.
+	@Override
+	public void write(Chunk<? extends MatchParticipationBackfillItem> chunk) {
+		matchParticipationStore.storeSinglesMatches(
+			singlesMatchReader.findAllWithParticipantsByIds(findMatchIds(chunk, MatchType.SINGLES)));
+		matchParticipationStore.storeDoublesMatches(
+			doublesMatchReader.findAllWithParticipantsByIds(findMatchIds(chunk, MatchType.DOUBLES)));
+	}
+
+	private List<Long> findMatchIds(Chunk<? extends MatchParticipationBackfillItem> chunk, MatchType matchType) {
+		return chunk.getItems().stream()
+			.filter(item -> item.matchType() == matchType)
+			.map(MatchParticipationBackfillItem::matchId)
+			.toList();
+	}
+}
@@ -1,6 +1,10 @@
 package springproject.badmintonbatch.batch.writer;
 
-import org.badminton.domain.domain.clubmember.entity.ClubMemberBanRecord;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
+import org.badminton.domain.domain.clubmember.info.ClubMemberBanLiftInfo;
 import org.badminton.infrastructure.clubmember.BannedClubMemberRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
@@ -10,12 +14,29 @@ import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
-public class MemberLiftWriter implements ItemWriter<ClubMemberBanRecord> {
+public class MemberLiftWriter implements ItemWriter<ClubMemberBanLiftInfo> {
 
 	private final BannedClubMemberRepository bannedClubMemberRepository;
+	private final ClubMemberAuthorizationCache clubMemberAuthorizationCache;
 
 	@Override
-	public void write(Chunk<? extends ClubMemberBanRecord> chunk) {
-		bannedClubMemberRepository.saveAll(chunk);
+	public void write(Chunk<? extends ClubMemberBanLiftInfo> chunk) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> banRecordIds = chunk.getItems().stream()
+			.map(ClubMemberBanLiftInfo::clubMemberBanRecordId)
+			.toList();
+		List<Long> clubMemberIds = chunk.getItems().stream()
+			.map(ClubMemberBanLiftInfo::clubMemberId)
+			.distinct()
+			.toList();
+
+		bannedClubMemberRepository.deactivateByBanRecordIds(banRecordIds, now);
+		bannedClubMemberRepository.liftByClubMemberIds(clubMemberIds, now);
+
+		// 정지가 풀린 회원의 클럽 권한 캐시는 청크 커밋 이후 무효화된다.
+		chunk.getItems().stream()
+			.map(ClubMemberBanLiftInfo::memberToken)
+			.distinct()
+			.forEach(clubMemberAuthorizationCache::evict);
 	}
 }
@@ -0,0 +1,7 @@
+-- 동호회 검색(ClubRepository.searchByKeyword)에 쓰는 FULLTEXT ngram 인덱스
+-- JPA 로는 선언할 수 없으므로 배포 전에 DDL 권한이 있는 계정으로 한 번 실행한다.
+-- 테이블의 첫 FULLTEXT 인덱스는 테이블을 다시 만들고 그동안 club 쓰기를 막으므로 사용량이 적은 시간에 실행한다.
+-- ddl-auto 로 스키마를 새로 만드는 로컬, 테스트 DB 에도 실행해야 검색이 동작한다.
+ALTER TABLE club
+    ADD FULLTEXT INDEX ft_club_name_description (clubName, clubDescription) WITH PARSER ngram,
+    ALGORITHM = INPLACE, LOCK = SHARED;
@@ -33,4 +33,8 @@ public class Constants {
 	public static final int FREE_DOUBLES_DIVISOR = 4;
 	public static final int FREE_SINGLES_DIVISOR = 2;
 	public static final int TOURNAMENT_SINGLES_DIVISOR = 2;
+
+	public static final int PAGE_NUMBER_MIN = 0;
+	public static final int PAGE_SIZE_MIN = 1;
+	public static final int PAGE_SIZE_MAX = 50;
 }
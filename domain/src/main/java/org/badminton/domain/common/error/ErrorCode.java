@@ -47,6 +47,7 @@ public enum ErrorCode {
 	MATCH_DETAILS_NOT_EXIST(404, "해당하는 게임의 상세 정보가 아직 초기화되지 않았습니다."),
 	IMAGE_FILE_NOT_FOUND(404, "파일의 형식이 잘못되었습니다."),
 	SET_NOT_EXIST_IN_CACHE(404, "캐시에 해당하는 세트 점수가 존재하지 않습니다."),
+	LEAGUE_RECORD_NOT_EXIST(404, "해당하는 회원의 전적이 존재하지 않습니다."),
 
 	// 409 Errors
 	CONFLICT(409, "리소스 충돌이 발생했습니다."),
@@ -0,0 +1,14 @@
+package org.badminton.domain.common.exception;
+
+import org.badminton.domain.common.error.ErrorCode;
+
+public class PageRequestOutOfRangeException extends BadmintonException {
+
+	public PageRequestOutOfRangeException(int page, int size) {
+		super(ErrorCode.OUT_OF_RANGE, "[페이지 : " + page + ", 크기 : " + size + "]");
+	}
+
+	public PageRequestOutOfRangeException(int size) {
+		super(ErrorCode.OUT_OF_RANGE, "[크기 : " + size + "]");
+	}
+}
@@ -0,0 +1,11 @@
+package org.badminton.domain.common.exception.league;
+
+import org.badminton.domain.common.error.ErrorCode;
+import org.badminton.domain.common.exception.BadmintonException;
+
+public class LeagueRecordNotExistException extends BadmintonException {
+
+	public LeagueRecordNotExistException(String memberToken) {
+		super(ErrorCode.LEAGUE_RECORD_NOT_EXIST, "[회원 토큰 : " + memberToken + "]");
+	}
+}
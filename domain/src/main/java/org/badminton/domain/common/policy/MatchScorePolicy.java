@@ -9,8 +9,8 @@ import org.badminton.domain.common.exception.match.LeagueParticipantNotDetermine
 import org.badminton.domain.common.exception.match.PreviousSetNotFinishedException;
 import org.badminton.domain.common.exception.match.RoundNotFinishedException;
 import org.badminton.domain.common.exception.match.SetFinishedException;
-import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
+import org.badminton.domain.domain.league.info.LeagueDescriptorInfo;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
@@ -23,31 +23,31 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MatchScorePolicy {
 
-	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 
 	public void validateScoreUpdateAvailable(Long leagueId, Long matchId, int setNumber) {
 
-		League league = leagueReader.readLeagueById(leagueId);
-		if (league.getMatchType() == MatchType.SINGLES) {
+		LeagueDescriptorInfo league = leagueDescriptorCache.getDescriptor(leagueId);
+		if (league.matchType() == MatchType.SINGLES) {
 			SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(leagueId, matchId);
 			validateSinglesPreviousAndCurrentSetStatus(leagueId, singlesMatch, setNumber);
-			if (league.getMatchGenerationType() == MatchGenerationType.TOURNAMENT) {
+			if (league.matchGenerationType() == MatchGenerationType.TOURNAMENT) {
 				validateTournamentSinglesPreviousRoundDone(leagueId, singlesMatch);
 			}
-		} else if (league.getMatchType() == MatchType.DOUBLES) {
+		} else if (league.matchType() == MatchType.DOUBLES) {
 			DoublesMatch doublesMatch = doublesMatchReader.readDoublesMatch(leagueId, matchId);
 			validateDoublesPreviousAndCurrentSetStatus(leagueId, doublesMatch, setNumber);
-			if (league.getMatchGenerationType() == MatchGenerationType.TOURNAMENT) {
+			if (league.matchGenerationType() == MatchGenerationType.TOURNAMENT) {
 				validateTournamentDoublesPreviousRoundDone(leagueId, doublesMatch);
 			}
 		}
 	}
 
 	public void validateMatchStartAvailable(Long leagueId, Long matchId) {
-		League league = leagueReader.readLeagueById(leagueId);
-		if (league.getMatchType() == MatchType.SINGLES) {
+		LeagueDescriptorInfo league = leagueDescriptorCache.getDescriptor(leagueId);
+		if (league.matchType() == MatchType.SINGLES) {
 			SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(leagueId, matchId);
 			if (singlesMatch.getSinglesSet(1).getSetStatus() == SetStatus.FINISHED) {
 				throw new SetFinishedException(1);
@@ -55,10 +55,10 @@ public class MatchScorePolicy {
 			if (singlesMatch.getMatchStatus() != MatchStatus.NOT_STARTED) {
 				throw new CannotStartMatchException(matchId, singlesMatch.getMatchStatus());
 			}
-			if (league.getMatchGenerationType() == MatchGenerationType.TOURNAMENT) {
+			if (league.matchGenerationType() == MatchGenerationType.TOURNAMENT) {
 				validateTournamentSinglesPreviousRoundDone(leagueId, singlesMatch);
 			}
-		} else if (league.getMatchType() == MatchType.DOUBLES) {
+		} else if (league.matchType() == MatchType.DOUBLES) {
 			DoublesMatch doublesMatch = doublesMatchReader.readDoublesMatch(leagueId, matchId);
 			if (doublesMatch.getDoublesSet(1).getSetStatus() == SetStatus.FINISHED) {
 				throw new SetFinishedException(1);
@@ -66,7 +66,7 @@ public class MatchScorePolicy {
 			if (doublesMatch.getMatchStatus() != MatchStatus.NOT_STARTED) {
 				throw new CannotStartMatchException(matchId, doublesMatch.getMatchStatus());
 			}
-			if (league.getMatchGenerationType() == MatchGenerationType.TOURNAMENT) {
+			if (league.matchGenerationType() == MatchGenerationType.TOURNAMENT) {
 				validateTournamentDoublesPreviousRoundDone(leagueId, doublesMatch);
 			}
 		}
@@ -0,0 +1,27 @@
+package org.badminton.domain.common.policy;
+
+import org.badminton.domain.common.consts.Constants;
+import org.badminton.domain.common.exception.PageRequestOutOfRangeException;
+
+// 크기가 0 이하이거나 너무 크면 저장소에서 범위 없이 읽게 되므로 조회 전에 막는다.
+public final class PageRequestPolicy {
+
+	private PageRequestPolicy() {
+	}
+
+	public static void validatePage(int page, int size) {
+		if (page < Constants.PAGE_NUMBER_MIN || !isValidSize(size)) {
+			throw new PageRequestOutOfRangeException(page, size);
+		}
+	}
+
+	public static void validateSize(int size) {
+		if (!isValidSize(size)) {
+			throw new PageRequestOutOfRangeException(size);
+		}
+	}
+
+	private static boolean isValidSize(int size) {
+		return size >= Constants.PAGE_SIZE_MIN && size <= Constants.PAGE_SIZE_MAX;
+	}
+}
@@ -3,6 +3,7 @@ package org.badminton.domain.domain.auth.service;
 import org.badminton.domain.domain.auth.info.MemberDeleteInfo;
 import org.badminton.domain.domain.member.MemberReader;
 import org.badminton.domain.domain.member.MemberStore;
+import org.badminton.domain.domain.member.RefreshTokenStore;
 import org.badminton.domain.domain.member.entity.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -24,6 +25,7 @@ public class AuthServiceImpl implements AuthService {
 
 	private final MemberReader memberReader;
 	private final MemberStore memberStore;
+	private final RefreshTokenStore refreshTokenStore;
 	private final RestTemplate restTemplate;
 
 	@Value("${spring.security.oauth2.revoke-url.naver}")
@@ -49,13 +51,16 @@ public class AuthServiceImpl implements AuthService {
 		Member member = memberReader.getMember(memberToken);
 		member.updateRefreshToken(null);
 		memberStore.store(member);
+		refreshTokenStore.revoke(memberToken);
 		response.setHeader("Authorization", "");
 	}
 
 	private MemberDeleteInfo changeIsDeleted(String memberToken) {
 		Member member = memberReader.getMember(memberToken);
 		member.doWithdrawal();
+		member.updateRefreshToken(null);
 		memberStore.store(member);
+		refreshTokenStore.revoke(memberToken);
 		log.info("Member marked as deleted: {}", memberToken);
 		return MemberDeleteInfo.fromMemberDeleteInfo(member);
 	}
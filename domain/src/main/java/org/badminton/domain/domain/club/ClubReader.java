@@ -5,13 +5,15 @@ import java.util.List;
 import org.badminton.domain.domain.club.entity.Club;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
+import org.badminton.domain.domain.club.vo.ClubSearchSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ClubReader {
 	Page<ClubCache> readAllClubs(Pageable pageable);
 
-	Page<ClubCache> keywordSearch(String keyword, Pageable pageable);
+	ClubSearchSlice keywordSearch(String keyword, ClubSearchCursor cursor, int size);
 
 	List<ClubCardInfo> readRecentlyCreatedClubs();
 
@@ -8,8 +8,10 @@ import org.badminton.domain.domain.club.info.ClubApplicantInfo;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
 import org.badminton.domain.domain.club.info.ClubDeleteInfo;
+import org.badminton.domain.domain.club.info.ClubSearchSliceInfo;
 import org.badminton.domain.domain.club.info.ClubSummaryInfo;
 import org.badminton.domain.domain.club.info.ClubUpdateInfo;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -18,7 +20,7 @@ public interface ClubService {
 
 	ClubSummaryInfo readClub(String clubToken);
 
-	Page<ClubCardInfo> searchClubs(String keyword, Pageable pageable);
+	ClubSearchSliceInfo searchClubs(String keyword, ClubSearchCursor cursor, int size);
 
 	ClubCreateInfo createClub(ClubCreateCommand clubCreateCommand);
 
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.badminton.domain.common.exception.club.ClubNameDuplicateException;
 import org.badminton.domain.common.policy.ClubMemberPolicy;
+import org.badminton.domain.common.policy.PageRequestPolicy;
 import org.badminton.domain.domain.club.command.ClubCreateCommand;
 import org.badminton.domain.domain.club.command.ClubUpdateCommand;
 import org.badminton.domain.domain.club.entity.Club;
@@ -12,9 +13,11 @@ import org.badminton.domain.domain.club.info.ClubApplicantInfo;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
 import org.badminton.domain.domain.club.info.ClubDeleteInfo;
+import org.badminton.domain.domain.club.info.ClubSearchSliceInfo;
 import org.badminton.domain.domain.club.info.ClubSummaryInfo;
 import org.badminton.domain.domain.club.info.ClubUpdateInfo;
 import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -43,10 +46,10 @@ public class ClubServiceImpl implements ClubService {
 
 	@Override
 	@Transactional(readOnly = true)
-	public Page<ClubCardInfo> searchClubs(String keyword, Pageable pageable) {
-		Page<ClubCache> clubsPage = getClubs(keyword, pageable);
-		var response = ClubPage.builder().clubCaches(clubsPage).build();
-		return response.clubToRedisPageCardInfo();
+	public ClubSearchSliceInfo searchClubs(String keyword, ClubSearchCursor cursor, int size) {
+		PageRequestPolicy.validateSize(size);
+		var clubSearchSlice = clubReader.keywordSearch(keyword, cursor, size);
+		return ClubSearchSliceInfo.from(clubSearchSlice);
 	}
 
 	@Override
@@ -115,11 +118,4 @@ public class ClubServiceImpl implements ClubService {
 		return clubApplyReader.getClubApplyByClubToken(clubToken,
 			ClubApply.ApplyStatus.PENDING, pageable);
 	}
-
-	private Page<ClubCache> getClubs(String keyword, Pageable pageable) {
-		if (keyword == null || keyword.trim().isEmpty()) {
-			return clubReader.readAllClubs(pageable);
-		}
-		return clubReader.keywordSearch(keyword, pageable);
-	}
 }
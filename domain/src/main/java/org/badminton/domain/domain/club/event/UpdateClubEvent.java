@@ -6,4 +6,5 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public class UpdateClubEvent {
+	private final String clubToken;
 }
@@ -17,8 +17,7 @@ public class UpdateClubEventHandler {
 	@Async
 	@TransactionalEventListener
 	public void updateClubEventListener(UpdateClubEvent event) {
-		clubStatisticsService.refreshPopularClubsCache();
-		clubStatisticsService.refreshRecentlyActivityClubsCache();
+		clubStatisticsService.refreshClubCard(event.getClubToken());
 		clubService.refreshRecentlyCreatedClubsCache();
 	}
 }
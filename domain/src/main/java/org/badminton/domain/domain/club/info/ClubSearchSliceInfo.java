@@ -0,0 +1,20 @@
+package org.badminton.domain.domain.club.info;
+
+import java.util.List;
+
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
+import org.badminton.domain.domain.club.vo.ClubSearchSlice;
+
+public record ClubSearchSliceInfo(
+	List<ClubCardInfo> content,
+	boolean hasNext,
+	ClubSearchCursor nextCursor
+) {
+	public static ClubSearchSliceInfo from(ClubSearchSlice clubSearchSlice) {
+		return new ClubSearchSliceInfo(
+			clubSearchSlice.clubCaches().stream().map(ClubCardInfo::from).toList(),
+			clubSearchSlice.hasNext(),
+			clubSearchSlice.nextCursor()
+		);
+	}
+}
@@ -5,25 +5,40 @@ import lombok.Getter;
 @Getter
 public class ClubRedisKey {
 	private static final String NAMESPACE = "club";
-	private static final String TOP10_POPULAR = "top10:popular";
-	private static final String TOP10_ACTIVITY = "top10:activity";
+	private static final String LEADERBOARD_POPULAR = "leaderboard:popular";
+	private static final String LEADERBOARD_ACTIVITY = "leaderboard:activity";
+	private static final String CARD = "card";
 	private static final String TOP10_RECENTLY = "top10:recently";
-	private static final String CLUBS_PAGE = "page";
+	private static final String CATALOG = "catalog";
+	private static final String CATALOG_VERSION = "catalog:version";
+	private static final String CATALOG_ROW_VERSION = "catalog:row-version";
 
 	private ClubRedisKey() {
 
 	}
 
-	public static String getTop10PopularKey() {
-		return String.format("%s:%s", NAMESPACE, TOP10_POPULAR);
+	public static String getPopularLeaderboardKey() {
+		return String.format("%s:%s", NAMESPACE, LEADERBOARD_POPULAR);
 	}
 
-	public static String getClubsPageKey(int pageNumber) {
-		return String.format("%s:%s:%s", NAMESPACE, CLUBS_PAGE, pageNumber);
+	public static String getActivityLeaderboardKey() {
+		return String.format("%s:%s", NAMESPACE, LEADERBOARD_ACTIVITY);
 	}
 
-	public static String getTop10ActivityKey() {
-		return String.format("%s:%s", NAMESPACE, TOP10_ACTIVITY);
+	public static String getClubCardKey(String clubToken) {
+		return String.format("%s:%s:%s", NAMESPACE, CARD, clubToken);
+	}
+
+	public static String getCatalogKey() {
+		return String.format("%s:%s", NAMESPACE, CATALOG);
+	}
+
+	public static String getCatalogVersionKey() {
+		return String.format("%s:%s", NAMESPACE, CATALOG_VERSION);
+	}
+
+	public static String getCatalogRowVersionKey() {
+		return String.format("%s:%s", NAMESPACE, CATALOG_ROW_VERSION);
 	}
 
 	public static String getTop10RecentlyKey() {
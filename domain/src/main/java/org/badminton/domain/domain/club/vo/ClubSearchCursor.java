@@ -0,0 +1,15 @@
+package org.badminton.domain.domain.club.vo;
+
+// 검색 결과는 (matchRank, clubId) 내림차순으로 정렬되며 마지막으로 받은 동호회 다음부터 조회한다.
+// 검색어가 없으면 matchRank 없이 clubId 만으로 이어서 조회한다.
+public record ClubSearchCursor(
+	Integer matchRank,
+	Long clubId
+) {
+	public static ClubSearchCursor of(Integer matchRank, Long clubId) {
+		if (clubId == null) {
+			return null;
+		}
+		return new ClubSearchCursor(matchRank, clubId);
+	}
+}
@@ -0,0 +1,10 @@
+package org.badminton.domain.domain.club.vo;
+
+import java.util.List;
+
+public record ClubSearchSlice(
+	List<ClubCache> clubCaches,
+	boolean hasNext,
+	ClubSearchCursor nextCursor
+) {
+}
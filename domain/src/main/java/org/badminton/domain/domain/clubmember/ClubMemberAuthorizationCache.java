@@ -0,0 +1,10 @@
+package org.badminton.domain.domain.clubmember;
+
+import org.badminton.domain.domain.clubmember.info.ClubMemberAuthorizationInfo;
+
+public interface ClubMemberAuthorizationCache {
+
+	ClubMemberAuthorizationInfo getAuthorization(String memberToken);
+
+	void evict(String memberToken);
+}
@@ -0,0 +1,14 @@
+package org.badminton.domain.domain.clubmember.info;
+
+import java.util.Map;
+
+public record ClubMemberAuthorizationInfo(
+	String memberToken,
+	long version,
+	Map<String, String> clubRoles
+) {
+
+	public boolean isClubMember(String clubToken) {
+		return clubRoles.containsKey(clubToken);
+	}
+}
@@ -0,0 +1,8 @@
+package org.badminton.domain.domain.clubmember.info;
+
+public record ClubMemberBanLiftInfo(
+	Long clubMemberBanRecordId,
+	Long clubMemberId,
+	String memberToken
+) {
+}
@@ -0,0 +1,10 @@
+package org.badminton.domain.domain.league;
+
+import org.badminton.domain.domain.league.info.LeagueDescriptorInfo;
+
+public interface LeagueDescriptorCache {
+
+	LeagueDescriptorInfo getDescriptor(Long leagueId);
+
+	void evict(Long leagueId);
+}
@@ -32,6 +32,7 @@ public class LeagueParticipantCancelServiceImpl implements LeagueParticipantCanc
 	private final SinglesMatchStore singlesMatchStore;
 	private final SinglesMatchTournamentStore singlesMatchTournamentStore;
 	private final DoublesMatchTournamentStore doublesMatchTournamentStore;
+	private final LeagueSlotReservation leagueSlotReservation;
 
 	@Override
 	@Transactional
@@ -127,5 +128,7 @@ public class LeagueParticipantCancelServiceImpl implements LeagueParticipantCanc
 
 	private void cancelParticipant(LeagueParticipant leagueParticipant) {
 		leagueParticipantStore.cancelStore(leagueParticipant);
+		leagueSlotReservation.release(leagueParticipant.getLeague().getLeagueId(),
+			leagueParticipant.getMember().getMemberToken());
 	}
 }
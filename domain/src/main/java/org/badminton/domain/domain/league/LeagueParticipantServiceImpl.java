@@ -8,8 +8,6 @@ import org.badminton.domain.common.exception.league.InvalidDateTimeToParticipate
 import org.badminton.domain.common.exception.league.LeagueNotRecruitingException;
 import org.badminton.domain.common.exception.league.LeagueOwnerCannotCancelLeagueParticipationException;
 import org.badminton.domain.common.exception.league.LeagueParticipationCannotBeCanceledException;
-import org.badminton.domain.common.exception.league.LeagueParticipationDuplicateException;
-import org.badminton.domain.common.exception.league.ParticipationLimitReachedException;
 import org.badminton.domain.domain.clubmember.ClubMemberReader;
 import org.badminton.domain.domain.clubmember.entity.ClubMember;
 import org.badminton.domain.domain.league.entity.League;
@@ -35,6 +33,7 @@ public class LeagueParticipantServiceImpl implements LeagueParticipantService {
 	private final LeagueReader leagueReader;
 	private final LeagueStore leagueStore;
 	private final ClubMemberReader clubMemberReader;
+	private final LeagueSlotReservation leagueSlotReservation;
 
 	@Override
 	@Transactional
@@ -61,6 +60,7 @@ public class LeagueParticipantServiceImpl implements LeagueParticipantService {
 			clubMember.getClubMemberId());
 		var result = leagueParticipantStore.cancelStore(leagueParticipant);
 		leagueStore.store(league);
+		leagueSlotReservation.release(leagueId, memberToken);
 		return LeagueParticipantCancelInfo.from(result);
 	}
 
@@ -69,8 +69,8 @@ public class LeagueParticipantServiceImpl implements LeagueParticipantService {
 	public LeagueParticipantInfo participantInLeague(String memberToken, String clubToken, Long leagueId) {
 		League league = leagueReader.readLeagueById(leagueId);
 		validateLeagueRecruiting(league);
-		validateDuplicateLeagueParticipation(memberToken, leagueId);
-		checkParticipantCount(league);
+		// 정원과 중복 참여는 Redis 에서 한 번에 확인하고, DB 저장은 선점한 자리를 확정하는 역할만 한다.
+		leagueSlotReservation.reserve(leagueId, memberToken, league.getPlayerLimitCount());
 		ClubMember clubMember = clubMemberReader.getClubMember(clubToken, memberToken);
 		return LeagueParticipantInfo.from(leagueParticipantStore.store(clubMember, league));
 	}
@@ -107,18 +107,6 @@ public class LeagueParticipantServiceImpl implements LeagueParticipantService {
 		}
 	}
 
-	private void checkParticipantCount(League league) {
-		if (league.getPlayerLimitCount() <= leagueParticipantReader.countParticipantMember(league.getLeagueId())) {
-			throw new ParticipationLimitReachedException(league.getLeagueId());
-		}
-	}
-
-	private void validateDuplicateLeagueParticipation(String memberToken, Long leagueId) {
-		if (leagueParticipantReader.isParticipant(memberToken, leagueId)) {
-			throw new LeagueParticipationDuplicateException(leagueId, memberToken);
-		}
-	}
-
 	private void validateLeagueRecruiting(League league) {
 		if (LocalDateTime.now().isAfter(league.getRecruitingClosedAt())) {
 			throw new InvalidDateTimeToParticipateInLeagueException(league.getLeagueId(),
@@ -8,6 +8,7 @@ import org.badminton.domain.common.enums.MatchGenerationType;
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.enums.AllowedLeagueStatus;
 import org.badminton.domain.domain.league.enums.Region;
+import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,30 +23,13 @@ public interface LeagueReader {
 
 	List<League> readLeagueByDate(String clubToken, LocalDateTime startOfMonth, LocalDateTime endOfMonth);
 
-	Page<League> readLeagueStatusIsNotAllAndRegionIsNotAll(
+	Page<OngoingAndUpcomingLeagueInfo> readOngoingAndUpcomingLeagues(
 		AllowedLeagueStatus leagueStatus,
 		Region region,
 		LocalDate date,
 		Pageable pageable
 	);
 
-	Page<League> readLeagueStatusIsAllAndRegionIsNotAll(
-		Region region,
-		LocalDate date,
-		Pageable pageable
-	);
-
-	Page<League> readLeagueStatusIsNotAllAndRegionIsAll(
-		AllowedLeagueStatus leagueStatus,
-		LocalDate date,
-		Pageable pageable
-	);
-
-	Page<League> readLeagueStatusIsAllAndRegionIsAll(
-		LocalDate date,
-		Pageable pageable
-	);
-
 	Integer getCountByClubId(Long clubId);
 
 	MatchGenerationType getMatchGenerationTypeByLeagueId(Long leagueId);
@@ -1,7 +1,11 @@
 package org.badminton.domain.domain.league;
 
+import java.util.List;
+
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 
 public interface LeagueRecordReader {
 	LeagueRecord getLeagueRecord(String memberToken);
+
+	List<LeagueRecord> getLeagueRecordsWithMember(List<String> memberTokens);
 }
@@ -1,5 +1,6 @@
 package org.badminton.domain.domain.league;
 
+import org.badminton.domain.common.enums.MatchResult;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.member.entity.Member;
 
@@ -7,4 +8,7 @@ public interface LeagueRecordStore {
 	void initScore(Member member);
 
 	void store(LeagueRecord leagueRecord);
+
+	// 읽은 값을 다시 쓰지 않고 DB 에서 바로 더해 동시에 끝난 매치의 결과가 사라지지 않게 한다.
+	void increaseRecord(String memberToken, MatchResult matchResult);
 }
@@ -0,0 +1,15 @@
+package org.badminton.domain.domain.league;
+
+import java.time.LocalDateTime;
+
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface LeagueRepositoryCustom {
+
+	// 상태나 지역이 null 이면 해당 조건 없이 조회한다.
+	Page<OngoingAndUpcomingLeagueInfo> findOngoingAndUpcomingLeagues(LocalDateTime startOfDay,
+		LocalDateTime endOfDay, LeagueStatus leagueStatus, String region, Pageable pageable);
+}
@@ -29,7 +29,6 @@ import org.badminton.domain.domain.league.info.LeagueRecruitingCompleteInfo;
 import org.badminton.domain.domain.league.info.LeagueSummaryInfo;
 import org.badminton.domain.domain.league.info.LeagueUpdateInfo;
 import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
-import org.badminton.domain.domain.league.vo.LeagueSearchStrategy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -47,7 +46,6 @@ public class LeagueServiceImpl implements LeagueService {
 	private final LeagueStore leagueStore;
 	private final LeagueParticipantReader leagueParticipantReader;
 	private final ClubReader clubReader;
-	private final LeagueSearchStrategy leagueSearchStrategy;
 
 	@Override
 	@Transactional
@@ -153,9 +151,7 @@ public class LeagueServiceImpl implements LeagueService {
 		if (date.isBefore(LocalDate.now())) {
 			throw new OngoingAndUpcomingLeagueCanNotBePastException(date, LocalDate.now());
 		}
-		Page<League> leagues = leagueSearchStrategy.getStrategy(leagueStatus, region, date, pageable);
-		return leagues.map(league -> OngoingAndUpcomingLeagueInfo.from(
-			league, leagueParticipantReader.countParticipantMember(league.getLeagueId())));
+		return leagueReader.readOngoingAndUpcomingLeagues(leagueStatus, region, date, pageable);
 	}
 
 	@Override
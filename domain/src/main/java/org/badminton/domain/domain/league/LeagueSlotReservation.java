@@ -0,0 +1,10 @@
+package org.badminton.domain.domain.league;
+
+public interface LeagueSlotReservation {
+
+	// 정원과 중복 참여를 한 번에 확인하고 자리를 선점한다. 트랜잭션이 롤백되면 선점한 자리를 되돌린다.
+	void reserve(Long leagueId, String memberToken, int playerLimitCount);
+
+	// 참여 취소가 커밋된 이후 자리를 반납한다.
+	void release(Long leagueId, String memberToken);
+}
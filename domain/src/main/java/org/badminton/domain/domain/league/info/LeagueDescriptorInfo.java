@@ -0,0 +1,14 @@
+package org.badminton.domain.domain.league.info;
+
+import org.badminton.domain.common.enums.MatchGenerationType;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+
+public record LeagueDescriptorInfo(
+	Long leagueId,
+	MatchType matchType,
+	MatchGenerationType matchGenerationType,
+	int totalRounds,
+	LeagueStatus leagueStatus
+) {
+}
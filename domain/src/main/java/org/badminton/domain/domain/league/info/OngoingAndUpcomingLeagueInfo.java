@@ -3,7 +3,6 @@ package org.badminton.domain.domain.league.info;
 import java.time.LocalDateTime;
 
 import org.badminton.domain.common.enums.MatchType;
-import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.enums.LeagueStatus;
 import org.badminton.domain.domain.member.entity.Member;
 
@@ -24,21 +23,4 @@ public class OngoingAndUpcomingLeagueInfo {
 	LeagueStatus leagueStatus;
 	Member.MemberTier requiredTier;
 	String clubToken;
-
-	public static OngoingAndUpcomingLeagueInfo from(League league, int recruitedMemberCount) {
-		return new OngoingAndUpcomingLeagueInfo(
-			league.getLeagueId(),
-			league.getLeagueAt(),
-			league.getLeagueName(),
-			league.getDescription(),
-			league.getMatchType(),
-			league.getPlayerLimitCount(),
-			recruitedMemberCount,
-			league.getLeagueStatus(),
-			league.getRequiredTier(),
-			league.getClub().getClubToken()
-
-		);
-	}
-
 }
@@ -1,16 +1,16 @@
 package org.badminton.domain.domain.league.service;
 
+import java.util.Map;
+
+import org.badminton.domain.common.enums.MatchResult;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.member.entity.Member;
 
 public interface LeagueRecordService {
 	void initScore(Member member);
 
-	void addWin(String memberToken);
-
-	void addLoss(String memberToken);
-
-	void addDraw(String memberToken);
+	// 한 매치에 참가한 모든 선수의 결과를 한 번에 반영한다.
+	void applyMatchResults(Map<String, MatchResult> matchResults);
 
 	LeagueRecord getLeagueRecord(String memberToken);
 
@@ -1,9 +1,15 @@
 package org.badminton.domain.domain.league.service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.badminton.domain.common.enums.MatchResult;
 import org.badminton.domain.domain.league.LeagueRecordReader;
 import org.badminton.domain.domain.league.LeagueRecordStore;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
-import org.badminton.domain.domain.member.MemberReader;
+import org.badminton.domain.domain.member.MemberStore;
 import org.badminton.domain.domain.member.entity.Member;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +29,7 @@ public class LeagueRecordServiceImpl implements LeagueRecordService {
 
 	private final LeagueRecordStore leagueRecordStore;
 	private final LeagueRecordReader leagueRecordReader;
-	private final MemberReader memberReader;
+	private final MemberStore memberStore;
 
 	@Override
 	public void initScore(Member member) {
@@ -32,30 +38,24 @@ public class LeagueRecordServiceImpl implements LeagueRecordService {
 	}
 
 	@Override
-	public void addWin(String memberToken) {
-		LeagueRecord record = getLeagueRecord(memberToken);
-		record.updateWinCount(record.getWinCount() + 1);
-		record.updateMatchCount(record.getMatchCount() + 1);
-		updateTier(memberToken);
-		leagueRecordStore.store(record);
-	}
-
-	@Override
-	public void addLoss(String memberToken) {
-		LeagueRecord record = getLeagueRecord(memberToken);
-		record.updateLoseCount(record.getLoseCount() + 1);
-		record.updateMatchCount(record.getMatchCount() + 1);
-		updateTier(memberToken);
-		leagueRecordStore.store(record);
-	}
+	@Transactional
+	public void applyMatchResults(Map<String, MatchResult> matchResults) {
+		// 같은 선수가 걸린 매치가 동시에 끝나도 교착되지 않도록 항상 같은 순서로 전적 행을 잠근다.
+		List<String> memberTokens = matchResults.keySet().stream().sorted().toList();
+		for (String memberToken : memberTokens) {
+			leagueRecordStore.increaseRecord(memberToken, matchResults.get(memberToken));
+		}
 
-	@Override
-	public void addDraw(String memberToken) {
-		LeagueRecord record = getLeagueRecord(memberToken);
-		record.updateDrawCount(record.getDrawCount() + 1);
-		record.updateMatchCount(record.getMatchCount() + 1);
-		updateTier(memberToken);
-		leagueRecordStore.store(record);
+		// 전적 행의 잠금을 쥔 채로 다시 읽으므로 최신 전적으로 티어를 계산한다.
+		Map<Member.MemberTier, List<Long>> memberIdsByTier = new EnumMap<>(Member.MemberTier.class);
+		for (LeagueRecord record : leagueRecordReader.getLeagueRecordsWithMember(memberTokens)) {
+			Member member = record.getMember();
+			Member.MemberTier tier = calculateTier(record);
+			if (member.getTier() != tier) {
+				memberIdsByTier.computeIfAbsent(tier, key -> new ArrayList<>()).add(member.getId());
+			}
+		}
+		memberIdsByTier.forEach((tier, memberIds) -> memberStore.updateTiers(memberIds, tier));
 	}
 
 	@Override
@@ -64,28 +64,23 @@ public class LeagueRecordServiceImpl implements LeagueRecordService {
 		return leagueRecordReader.getLeagueRecord(memberToken);
 	}
 
-	private double getWinRate(String memberToken) {
-		LeagueRecord record = getLeagueRecord(memberToken);
+	private double getWinRate(LeagueRecord record) {
 		if (record.getMatchCount() == 0) {
 			return 0.0;
 		}
 		return (double)record.getWinCount() / record.getMatchCount() * 100;
 	}
 
-	private void updateTier(String memberToken) {
-		Member member = memberReader.getMember(memberToken);
-		double winRate = getWinRate(memberToken);
-		LeagueRecord record = getLeagueRecord(memberToken);
+	private Member.MemberTier calculateTier(LeagueRecord record) {
+		double winRate = getWinRate(record);
 		int matchCount = record.getMatchCount();
 
 		if (matchCount >= GOLD_TIER_MIN_MATCHES && winRate >= GOLD_TIER_MIN_WIN_RATE) {
-			member.updateTier(Member.MemberTier.GOLD);
-		} else if (matchCount >= SILVER_TIER_MIN_MATCHES && winRate >= SILVER_TIER_MIN_WIN_RATE) {
-			member.updateTier(Member.MemberTier.SILVER);
-		} else {
-			member.updateTier(Member.MemberTier.BRONZE);
+			return Member.MemberTier.GOLD;
+		}
+		if (matchCount >= SILVER_TIER_MIN_MATCHES && winRate >= SILVER_TIER_MIN_WIN_RATE) {
+			return Member.MemberTier.SILVER;
 		}
+		return Member.MemberTier.BRONZE;
 	}
 }
-
-
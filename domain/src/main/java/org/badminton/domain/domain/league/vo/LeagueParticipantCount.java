@@ -0,0 +1,7 @@
+package org.badminton.domain.domain.league.vo;
+
+public record LeagueParticipantCount(
+	Long leagueId,
+	Long participantCount
+) {
+}
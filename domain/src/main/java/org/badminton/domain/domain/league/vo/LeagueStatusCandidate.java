@@ -0,0 +1,16 @@
+package org.badminton.domain.domain.league.vo;
+
+import java.time.LocalDateTime;
+
+import org.badminton.domain.common.enums.MatchGenerationType;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+
+public record LeagueStatusCandidate(
+	Long leagueId,
+	LeagueStatus leagueStatus,
+	MatchType matchType,
+	MatchGenerationType matchGenerationType,
+	LocalDateTime leagueAt
+) {
+}
@@ -67,6 +67,9 @@ public class DoublesMatch extends AbstractBaseTime {
 	private MatchResult team2MatchResult = MatchResult.NONE;
 	private int roundNumber;
 
+	// 승자가 진출하는 다음 라운드 매치, 결승은 null
+	private Long nextMatchId;
+
 	@Enumerated(EnumType.STRING)
 	private MatchStatus matchStatus = MatchStatus.NOT_STARTED;
 
@@ -0,0 +1,124 @@
+package org.badminton.domain.domain.match.entity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.common.AbstractBaseTime;
+import org.badminton.domain.common.enums.MatchResult;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.league.vo.Team;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 종료된 매치를 참가자 한 명당 한 행으로 펼쳐 둔 전적 테이블이다. 한 번 쓰면 수정하지 않는다.
+@Entity
+@Table(name = "match_participation",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_match_participation_match_club_member",
+			columnNames = {"matchType", "matchId", "clubMemberId"})
+	},
+	indexes = {
+		@Index(name = "idx_match_participation_member_league_at", columnList = "memberId, leagueAt"),
+		@Index(name = "idx_match_participation_club_member_league_at", columnList = "clubMemberId, leagueAt")
+	})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MatchParticipation extends AbstractBaseTime {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long matchParticipationId;
+
+	private Long clubMemberId;
+
+	private Long memberId;
+
+	@Enumerated(EnumType.STRING)
+	private MatchType matchType;
+
+	private Long matchId;
+
+	private Long leagueId;
+
+	private LocalDateTime leagueAt;
+
+	@Enumerated(EnumType.STRING)
+	private MatchResult matchResult;
+
+	private int winSetCount;
+
+	private int loseSetCount;
+
+	private MatchParticipation(LeagueParticipant leagueParticipant, MatchType matchType, Long matchId, Long leagueId,
+		LocalDateTime leagueAt, MatchResult matchResult, int winSetCount, int loseSetCount) {
+		this.clubMemberId = leagueParticipant.getClubMember().getClubMemberId();
+		this.memberId = leagueParticipant.getMember().getId();
+		this.matchType = matchType;
+		this.matchId = matchId;
+		this.leagueId = leagueId;
+		this.leagueAt = leagueAt;
+		this.matchResult = matchResult;
+		this.winSetCount = winSetCount;
+		this.loseSetCount = loseSetCount;
+	}
+
+	public static List<MatchParticipation> fromSinglesMatch(SinglesMatch singlesMatch) {
+		List<MatchParticipation> participations = new ArrayList<>();
+		League league = singlesMatch.getLeague();
+		addParticipation(participations, singlesMatch.getLeagueParticipant1(), MatchType.SINGLES,
+			singlesMatch.getId(), league, singlesMatch.getPlayer1MatchResult(), singlesMatch.getPlayer1WinSetCount(),
+			singlesMatch.getPlayer2WinSetCount());
+		addParticipation(participations, singlesMatch.getLeagueParticipant2(), MatchType.SINGLES,
+			singlesMatch.getId(), league, singlesMatch.getPlayer2MatchResult(), singlesMatch.getPlayer2WinSetCount(),
+			singlesMatch.getPlayer1WinSetCount());
+		return participations;
+	}
+
+	public static List<MatchParticipation> fromDoublesMatch(DoublesMatch doublesMatch) {
+		List<MatchParticipation> participations = new ArrayList<>();
+		League league = doublesMatch.getLeague();
+		Team team1 = doublesMatch.getTeam1();
+		Team team2 = doublesMatch.getTeam2();
+		if (team1 != null) {
+			for (LeagueParticipant leagueParticipant : new LeagueParticipant[] {team1.getLeagueParticipant1(),
+				team1.getLeagueParticipant2()}) {
+				addParticipation(participations, leagueParticipant, MatchType.DOUBLES, doublesMatch.getId(), league,
+					doublesMatch.getTeam1MatchResult(), doublesMatch.getTeam1WinSetCount(),
+					doublesMatch.getTeam2WinSetCount());
+			}
+		}
+		if (team2 != null) {
+			for (LeagueParticipant leagueParticipant : new LeagueParticipant[] {team2.getLeagueParticipant1(),
+				team2.getLeagueParticipant2()}) {
+				addParticipation(participations, leagueParticipant, MatchType.DOUBLES, doublesMatch.getId(), league,
+					doublesMatch.getTeam2MatchResult(), doublesMatch.getTeam2WinSetCount(),
+					doublesMatch.getTeam1WinSetCount());
+			}
+		}
+		return participations;
+	}
+
+	private static void addParticipation(List<MatchParticipation> participations,
+		LeagueParticipant leagueParticipant, MatchType matchType, Long matchId, League league,
+		MatchResult matchResult, int winSetCount, int loseSetCount) {
+		if (leagueParticipant == null) {
+			return;
+		}
+		participations.add(new MatchParticipation(leagueParticipant, matchType, matchId, league.getLeagueId(),
+			league.getLeagueAt(), matchResult, winSetCount, loseSetCount));
+	}
+}
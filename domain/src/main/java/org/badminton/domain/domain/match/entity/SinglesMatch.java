@@ -65,6 +65,9 @@ public class SinglesMatch extends AbstractBaseTime {
 
 	private int roundNumber;
 
+	// 승자가 진출하는 다음 라운드 매치, 결승은 null
+	private Long nextMatchId;
+
 	@OneToMany(mappedBy = "singlesMatch", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<SinglesSet> singlesSets;
 
@@ -0,0 +1,13 @@
+package org.badminton.domain.domain.match.event;
+
+import org.badminton.domain.domain.match.info.ScoreBoardDeltaInfo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ScoreBoardUpdatedEvent {
+
+	private final ScoreBoardDeltaInfo scoreBoardDeltaInfo;
+}
@@ -41,4 +41,12 @@ public record BracketInfo(
 				.map(DoublesMatchInfo::fromDoublesMatch)
 				.toList());
 	}
+
+	public static BracketInfo fromDoublesBracket(int roundNumber, DoublesBracketInfo doublesBracketInfo) {
+		return new BracketInfo(doublesBracketInfo.leagueId(),
+			doublesBracketInfo.matchGenerationType(),
+			doublesBracketInfo.matchType(), doublesBracketInfo.leagueStatus(), roundNumber,
+			null,
+			doublesBracketInfo.matchInfos());
+	}
 }
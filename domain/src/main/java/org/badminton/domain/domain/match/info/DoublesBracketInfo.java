@@ -0,0 +1,17 @@
+package org.badminton.domain.domain.match.info;
+
+import java.util.List;
+
+import org.badminton.domain.common.enums.MatchGenerationType;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+
+public record DoublesBracketInfo(
+	Long leagueId,
+	MatchGenerationType matchGenerationType,
+	MatchType matchType,
+	LeagueStatus leagueStatus,
+	List<DoublesMatchInfo> matchInfos,
+	List<SetInfo.Main> setInfos
+) {
+}
@@ -0,0 +1,9 @@
+package org.badminton.domain.domain.match.info;
+
+import java.util.List;
+
+public record MatchResultSliceInfo(
+	List<MatchResultInfo> content,
+	boolean hasNext
+) {
+}
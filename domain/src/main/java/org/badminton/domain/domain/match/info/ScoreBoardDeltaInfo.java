@@ -0,0 +1,26 @@
+package org.badminton.domain.domain.match.info;
+
+import org.badminton.domain.common.enums.SetStatus;
+
+public record ScoreBoardDeltaInfo(
+	Long leagueId,
+	Long matchId,
+	int setNumber,
+	int score1,
+	int score2,
+	SetStatus setStatus
+) {
+
+	public static ScoreBoardDeltaInfo inProgress(Long leagueId, SetInfo.Main setInfo) {
+		return of(leagueId, setInfo, SetStatus.IN_PROGRESS);
+	}
+
+	public static ScoreBoardDeltaInfo finished(Long leagueId, SetInfo.Main setInfo) {
+		return of(leagueId, setInfo, SetStatus.FINISHED);
+	}
+
+	private static ScoreBoardDeltaInfo of(Long leagueId, SetInfo.Main setInfo, SetStatus setStatus) {
+		return new ScoreBoardDeltaInfo(leagueId, setInfo.getMatchId(), setInfo.getSetNumber(), setInfo.getScore1(),
+			setInfo.getScore2(), setStatus);
+	}
+}
@@ -5,22 +5,28 @@ import java.util.Optional;
 
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.info.DoublesBracketInfo;
+import org.badminton.domain.domain.match.vo.BracketLink;
 
 public interface DoublesMatchReader {
 	List<DoublesMatch> getDoublesBracket(Long leagueId);
 
+	DoublesBracketInfo getDoublesBracketInfo(Long leagueId);
+
 	boolean checkIfBracketEmpty(Long leagueId);
 
 	DoublesMatch getDoublesMatch(Long matchId);
 
 	DoublesMatch readDoublesMatch(Long leagueId, Long matchId);
 
-	List<DoublesMatch> findAllCompletedByClubMemberId(Long clubMemberId);
+	List<DoublesMatch> findAllWithParticipantsByIds(List<Long> matchIds);
 
 	List<DoublesMatch> findMatchesByLeagueAndRound(Long leagueId, Integer round);
 
 	DoublesMatch findFirstMatchByLeagueId(Long leagueId);
 
+	List<BracketLink> getBracketLinks(Long leagueId);
+
 	boolean allMatchesFinishedForLeague(Long leagueId);
 
 	boolean allMatchesNotStartedForLeague(Long leagueId);
@@ -3,7 +3,13 @@ package org.badminton.domain.domain.match.reader;
 import java.util.List;
 
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.info.DoublesMatchInfo;
+import org.badminton.domain.domain.match.info.SetInfo;
 
 public interface DoublesMatchRepositoryCustom {
-	List<DoublesMatch> findAllCompletedByClubMemberId(Long clubMemberId);
+	List<DoublesMatch> findAllWithParticipantsByIds(List<Long> matchIds);
+
+	List<DoublesMatchInfo> findBracketMatchInfos(Long leagueId);
+
+	List<SetInfo.Main> findBracketSetInfos(Long leagueId);
 }
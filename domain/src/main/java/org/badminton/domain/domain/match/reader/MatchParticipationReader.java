@@ -0,0 +1,10 @@
+package org.badminton.domain.domain.match.reader;
+
+import java.util.List;
+
+import org.badminton.domain.domain.match.entity.MatchParticipation;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
+
+public interface MatchParticipationReader {
+	List<MatchParticipation> readHistory(List<Long> clubMemberIds, MatchHistoryCursor cursor, int limit);
+}
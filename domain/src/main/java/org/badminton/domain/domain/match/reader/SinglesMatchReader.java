@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.vo.BracketLink;
 
 public interface SinglesMatchReader {
 	List<SinglesMatch> getSinglesBracket(Long leagueId);
@@ -15,7 +16,7 @@ public interface SinglesMatchReader {
 
 	SinglesMatch getSinglesMatch(Long leagueId, Long matchId);
 
-	List<SinglesMatch> getSinglesMatchesByClubMember(Long clubMemberId);
+	List<SinglesMatch> findAllWithParticipantsByIds(List<Long> matchIds);
 
 	List<SinglesMatch> findMatchesByLeagueAndRound(Long leagueId, int currentRoundNumber);
 
@@ -23,6 +24,8 @@ public interface SinglesMatchReader {
 
 	SinglesMatch findFirstMatchByLeagueId(Long leagueId);
 
+	List<BracketLink> getBracketLinks(Long leagueId);
+
 	boolean allMatchesFinishedForLeague(Long leagueId);
 
 	boolean allMatchesNotStartedForLeague(Long leagueId);
@@ -5,5 +5,5 @@ import java.util.List;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
 
 public interface SinglesMatchRepositoryCustom {
-	List<SinglesMatch> findAllCompletedByClubMemberId(Long clubMemberId);
+	List<SinglesMatch> findAllWithParticipantsByIds(List<Long> matchIds);
 }
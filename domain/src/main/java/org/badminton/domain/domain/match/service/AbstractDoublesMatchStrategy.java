@@ -45,19 +45,12 @@ public abstract class AbstractDoublesMatchStrategy implements MatchStrategy {
 
 	@Override
 	public BracketInfo retrieveBracketInLeague(Long leagueId) {
-		List<DoublesMatch> bracketInLeague = doublesMatchReader.getDoublesBracket(leagueId);
-		return BracketInfo.fromDoubles(FIRST_ROUND_NUMBER, bracketInLeague);
+		return BracketInfo.fromDoublesBracket(FIRST_ROUND_NUMBER, doublesMatchReader.getDoublesBracketInfo(leagueId));
 	}
 
 	@Override
 	public List<SetInfo.Main> retrieveAllSetsScoreInLeague(Long leagueId) {
-		return doublesMatchReader.getDoublesBracket(leagueId).stream()
-			.flatMap(doublesMatch ->
-				doublesMatch.getDoublesSets().stream()
-					.map(doublesSet -> SetInfo.fromDoublesSet(doublesMatch.getId(),
-						doublesSet.getSetNumber(), doublesSet))
-			)
-			.toList();
+		return doublesMatchReader.getDoublesBracketInfo(leagueId).setInfos();
 	}
 
 	@Override
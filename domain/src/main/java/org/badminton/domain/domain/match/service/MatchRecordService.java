@@ -1,5 +1,8 @@
 package org.badminton.domain.domain.match.service;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.badminton.domain.common.enums.MatchResult;
 import org.badminton.domain.common.enums.MatchType;
 import org.badminton.domain.domain.league.service.LeagueRecordService;
@@ -30,71 +33,36 @@ public class MatchRecordService {
 
 	private void processSinglesMatchResult(Long matchId) {
 		SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(matchId);
-		MatchResult player1Result = singlesMatch.getPlayer1MatchResult();
-
-		if (player1Result == MatchResult.WIN || player1Result == MatchResult.LOSE) {
-			String winnerToken = (player1Result == MatchResult.WIN) ?
-				singlesMatch.getLeagueParticipant1().getMember().getMemberToken() :
-				singlesMatch.getLeagueParticipant2().getMember().getMemberToken();
-			String loserToken = (player1Result == MatchResult.WIN) ?
-				singlesMatch.getLeagueParticipant2().getMember().getMemberToken() :
-				singlesMatch.getLeagueParticipant1().getMember().getMemberToken();
-
-			leagueRecordService.addWin(winnerToken);
-			leagueRecordService.addLoss(loserToken);
+		if (!isMatchResultDetermined(singlesMatch.getPlayer1MatchResult())) {
+			return;
 		}
 
-		if (player1Result == MatchResult.DRAW) {
-			String participant1Token = singlesMatch.getLeagueParticipant1().getMember().getMemberToken();
-			String participant2Token = singlesMatch.getLeagueParticipant2().getMember().getMemberToken();
-
-			leagueRecordService.addDraw(participant1Token);
-			leagueRecordService.addDraw(participant2Token);
-		}
+		Map<String, MatchResult> matchResults = new HashMap<>();
+		matchResults.put(singlesMatch.getLeagueParticipant1().getMember().getMemberToken(),
+			singlesMatch.getPlayer1MatchResult());
+		matchResults.put(singlesMatch.getLeagueParticipant2().getMember().getMemberToken(),
+			singlesMatch.getPlayer2MatchResult());
+		leagueRecordService.applyMatchResults(matchResults);
 	}
 
 	private void processDoublesMatchResult(Long matchId) {
 		DoublesMatch doublesMatch = doublesMatchReader.getDoublesMatch(matchId);
-		MatchResult team1Result = doublesMatch.getTeam1MatchResult();
-
-		if (team1Result == MatchResult.WIN || team1Result == MatchResult.LOSE) {
-			String[] winnerTokens = (team1Result == MatchResult.WIN) ?
-				getTeamMemberTokens(doublesMatch.getTeam1()) :
-				getTeamMemberTokens(doublesMatch.getTeam2());
-			String[] loserTokens = (team1Result == MatchResult.WIN) ?
-				getTeamMemberTokens(doublesMatch.getTeam2()) :
-				getTeamMemberTokens(doublesMatch.getTeam1());
-
-			addMatchResults(winnerTokens, loserTokens);
+		if (!isMatchResultDetermined(doublesMatch.getTeam1MatchResult())) {
+			return;
 		}
 
-		if (team1Result == MatchResult.DRAW) {
-
-			String[] memberTokens = doublesMatch.getAllMemberToken();
-			addDrawResults(memberTokens);
-
-		}
+		Map<String, MatchResult> matchResults = new HashMap<>();
+		putTeamResult(matchResults, doublesMatch.getTeam1(), doublesMatch.getTeam1MatchResult());
+		putTeamResult(matchResults, doublesMatch.getTeam2(), doublesMatch.getTeam2MatchResult());
+		leagueRecordService.applyMatchResults(matchResults);
 	}
 
-	private String[] getTeamMemberTokens(Team team) {
-		return new String[] {
-			team.getLeagueParticipant1().getMember().getMemberToken(),
-			team.getLeagueParticipant2().getMember().getMemberToken()
-		};
+	private boolean isMatchResultDetermined(MatchResult matchResult) {
+		return matchResult == MatchResult.WIN || matchResult == MatchResult.LOSE || matchResult == MatchResult.DRAW;
 	}
 
-	private void addMatchResults(String[] winnerTokens, String[] loserTokens) {
-		for (String winnerToken : winnerTokens) {
-			leagueRecordService.addWin(winnerToken);
-		}
-		for (String loserToken : loserTokens) {
-			leagueRecordService.addLoss(loserToken);
-		}
-	}
-
-	private void addDrawResults(String[] memberTokens) {
-		for (String memberToken : memberTokens) {
-			leagueRecordService.addDraw(memberToken);
-		}
+	private void putTeamResult(Map<String, MatchResult> matchResults, Team team, MatchResult teamResult) {
+		matchResults.put(team.getLeagueParticipant1().getMember().getMemberToken(), teamResult);
+		matchResults.put(team.getLeagueParticipant2().getMember().getMemberToken(), teamResult);
 	}
-}
\ No newline at end of file
+}
@@ -2,11 +2,12 @@ package org.badminton.domain.domain.match.service;
 
 import java.util.List;
 
-import org.badminton.domain.domain.match.info.MatchResultInfo;
+import org.badminton.domain.domain.match.info.MatchResultSliceInfo;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
 public interface MatchResultService {
 
-	List<MatchResultInfo> getAllMatchResultsByClubMember(Long clubMemberId);
+	MatchResultSliceInfo getMatchResultsByClubMembers(List<Long> clubMemberIds, MatchHistoryCursor cursor, int size);
 }
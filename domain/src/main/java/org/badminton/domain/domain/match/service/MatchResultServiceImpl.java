@@ -1,13 +1,22 @@
 package org.badminton.domain.domain.match.service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.common.policy.PageRequestPolicy;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.entity.MatchParticipation;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
 import org.badminton.domain.domain.match.info.MatchResultInfo;
+import org.badminton.domain.domain.match.info.MatchResultSliceInfo;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
+import org.badminton.domain.domain.match.reader.MatchParticipationReader;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -16,25 +25,55 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MatchResultServiceImpl implements MatchResultService {
 
+	private final MatchParticipationReader matchParticipationReader;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 
-	public List<MatchResultInfo> getAllMatchResultsByClubMember(Long clubMemberId) {
-		List<MatchResultInfo> matchResultInfoList = new ArrayList<>();
-
-		// 단식 경기 결과 가져오기
-		List<SinglesMatch> singlesMatches = singlesMatchReader.getSinglesMatchesByClubMember(clubMemberId);
-		for (SinglesMatch match : singlesMatches) {
-			matchResultInfoList.add(MatchResultInfo.fromSinglesMatch(match, clubMemberId));
+	@Override
+	public MatchResultSliceInfo getMatchResultsByClubMembers(List<Long> clubMemberIds, MatchHistoryCursor cursor,
+		int size) {
+		PageRequestPolicy.validateSize(size);
+		if (clubMemberIds.isEmpty()) {
+			return new MatchResultSliceInfo(List.of(), false);
 		}
+		// 한 페이지보다 하나 더 읽어 다음 페이지 존재 여부를 판단한다.
+		List<MatchParticipation> participations = matchParticipationReader.readHistory(clubMemberIds, cursor,
+			size + 1);
+		boolean hasNext = participations.size() > size;
+		List<MatchParticipation> page = hasNext ? participations.subList(0, size) : participations;
 
-		// 복식 경기 결과 가져오기
-		List<DoublesMatch> doublesMatches = doublesMatchReader.findAllCompletedByClubMemberId(clubMemberId);
-		for (DoublesMatch match : doublesMatches) {
-			matchResultInfoList.add(MatchResultInfo.fromDoublesMatch(match, clubMemberId));
-		}
+		// 이름은 바뀔 수 있으므로 전적 테이블로 고른 매치만 참가자와 함께 다시 읽는다.
+		Map<Long, SinglesMatch> singlesMatches = singlesMatchReader.findAllWithParticipantsByIds(
+				findMatchIds(page, MatchType.SINGLES)).stream()
+			.collect(Collectors.toMap(SinglesMatch::getId, Function.identity()));
+		Map<Long, DoublesMatch> doublesMatches = doublesMatchReader.findAllWithParticipantsByIds(
+				findMatchIds(page, MatchType.DOUBLES)).stream()
+			.collect(Collectors.toMap(DoublesMatch::getId, Function.identity()));
+
+		List<MatchResultInfo> content = page.stream()
+			.map(participation -> toMatchResultInfo(participation, singlesMatches, doublesMatches))
+			.filter(Objects::nonNull)
+			.toList();
+		return new MatchResultSliceInfo(content, hasNext);
+	}
 
-		matchResultInfoList.sort((r1, r2) -> r2.leagueAt().compareTo(r1.leagueAt()));
-		return matchResultInfoList;
+	private List<Long> findMatchIds(List<MatchParticipation> participations, MatchType matchType) {
+		return participations.stream()
+			.filter(participation -> participation.getMatchType() == matchType)
+			.map(MatchParticipation::getMatchId)
+			.toList();
+	}
+
+	// 대진표를 다시 만들며 지워진 매치는 전적에서 제외한다.
+	private MatchResultInfo toMatchResultInfo(MatchParticipation participation,
+		Map<Long, SinglesMatch> singlesMatches, Map<Long, DoublesMatch> doublesMatches) {
+		if (participation.getMatchType() == MatchType.SINGLES) {
+			SinglesMatch singlesMatch = singlesMatches.get(participation.getMatchId());
+			return singlesMatch == null ? null :
+				MatchResultInfo.fromSinglesMatch(singlesMatch, participation.getClubMemberId());
+		}
+		DoublesMatch doublesMatch = doublesMatches.get(participation.getMatchId());
+		return doublesMatch == null ? null :
+			MatchResultInfo.fromDoublesMatch(doublesMatch, participation.getClubMemberId());
 	}
 }
@@ -1,9 +1,19 @@
 package org.badminton.domain.domain.match.store;
 
+import java.util.List;
+
+import org.badminton.domain.domain.league.vo.Team;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
 
 public interface DoublesMatchStore {
 	void deleteDoublesBracket(Long leagueId);
 
 	void store(DoublesMatch doublesMatch);
+
+	// 라운드 순서대로 전달된 매치와 세트를 한 번에 저장하고, 각 매치를 다음 라운드의 (순번 / 2) 번째 매치와 연결한다.
+	void storeBracket(List<List<DoublesMatch>> rounds);
+
+	void assignWinner(Long leagueId, Long matchId, Team winner);
+
+	void assignByeWinner(Long leagueId, Long matchId, Team winner);
 }
@@ -0,0 +1,13 @@
+package org.badminton.domain.domain.match.store;
+
+import java.util.List;
+
+import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.entity.SinglesMatch;
+
+public interface MatchParticipationStore {
+	// 종료된 매치만 기록하며, 이미 기록된 매치는 다시 쓰지 않는다.
+	void storeSinglesMatches(List<SinglesMatch> singlesMatches);
+
+	void storeDoublesMatches(List<DoublesMatch> doublesMatches);
+}
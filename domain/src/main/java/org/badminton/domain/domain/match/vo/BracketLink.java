@@ -0,0 +1,8 @@
+package org.badminton.domain.domain.match.vo;
+
+public record BracketLink(
+	Long matchId,
+	int roundNumber,
+	Long nextMatchId
+) {
+}
@@ -9,8 +9,10 @@ public class LeagueMatchSetRedisKey {
 	public static final String LEAGUE_ID_PREFIX = "_LEAGUE_";
 	private static final String MATCH_ID_PREFIX = "_MATCH_";
 	private static final String SET_NUMBER_PREFIX = "_SET_";
+	private static final String LEAGUE_INDEX_PREFIX = "IN_PROGRESS_INDEX_LEAGUE_";
 
 	private final String key;
+	private final String leagueIndexKey;
 	private final Long leagueId;
 	private final Long matchId;
 	private final int setNumber;
@@ -19,8 +21,13 @@ public class LeagueMatchSetRedisKey {
 		this.key =
 			IN_PROGRESS_MATCH_PREFIX + LEAGUE_ID_PREFIX + leagueId + MATCH_ID_PREFIX + matchId + SET_NUMBER_PREFIX
 				+ setNumber;
+		this.leagueIndexKey = leagueIndexKeyOf(leagueId);
 		this.leagueId = leagueId;
 		this.matchId = matchId;
 		this.setNumber = setNumber;
 	}
+
+	public static String leagueIndexKeyOf(Long leagueId) {
+		return LEAGUE_INDEX_PREFIX + leagueId;
+	}
 }
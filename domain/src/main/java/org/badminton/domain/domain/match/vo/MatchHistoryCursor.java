@@ -0,0 +1,17 @@
+package org.badminton.domain.domain.match.vo;
+
+import java.time.LocalDateTime;
+
+// 경기 기록은 (leagueAt, leagueId, matchId) 내림차순으로 정렬되며 마지막으로 받은 경기 다음부터 조회한다.
+public record MatchHistoryCursor(
+	LocalDateTime leagueAt,
+	Long leagueId,
+	Long matchId
+) {
+	public static MatchHistoryCursor of(LocalDateTime leagueAt, Long leagueId, Long matchId) {
+		if (leagueAt == null || leagueId == null || matchId == null) {
+			return null;
+		}
+		return new MatchHistoryCursor(leagueAt, leagueId, matchId);
+	}
+}
@@ -6,6 +6,8 @@ import lombok.Getter;
 
 @Getter
 public class MatchRedisKey {
+	private static final String DIRTY_MEMBER_DELIMITER = ":";
+
 	private final String key;
 	private final String field;
 	private final MatchType matchType;
@@ -20,6 +22,16 @@ public class MatchRedisKey {
 		this.setNumber = Integer.parseInt(field);
 	}
 
+	public static MatchRedisKey fromDirtyMember(String dirtyMember) {
+		int delimiterIndex = dirtyMember.lastIndexOf(DIRTY_MEMBER_DELIMITER);
+		return new MatchRedisKey(dirtyMember.substring(0, delimiterIndex),
+			dirtyMember.substring(delimiterIndex + 1));
+	}
+
+	public String toDirtyMember() {
+		return key + DIRTY_MEMBER_DELIMITER + field;
+	}
+
 	private MatchType parseMatchType(String key) {
 		if (key.length() < 6) {
 			return null;
@@ -1,7 +1,11 @@
 package org.badminton.domain.domain.member;
 
+import java.util.List;
+
 import org.badminton.domain.domain.member.entity.Member;
 
 public interface MemberStore {
 	void store(Member member);
+
+	void updateTiers(List<Long> memberIds, Member.MemberTier tier);
 }
@@ -0,0 +1,12 @@
+package org.badminton.domain.domain.member;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+	void store(String memberToken, String refreshToken, Duration timeToLive);
+
+	Optional<String> read(String memberToken);
+
+	void revoke(String memberToken);
+}
@@ -22,6 +22,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ClubStatistics extends AbstractBaseTime {
 
+	public static final double LEAGUE_WEIGHT = 1.5;
+	public static final double REGISTRATION_WEIGHT = 0.5;
+	public static final double VISIT_WEIGHT = 0.2;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long clubStatisticsId;
@@ -59,7 +63,8 @@ public class ClubStatistics extends AbstractBaseTime {
 	}
 
 	private void updateScore() {
-		this.popularityScore = registrationCount * 0.5 + visitedCount * 0.2;
-		this.activityScore = leagueCount * 1.5 + registrationCount * 0.5 + visitedCount * 0.2;
+		this.popularityScore = registrationCount * REGISTRATION_WEIGHT + visitedCount * VISIT_WEIGHT;
+		this.activityScore = leagueCount * LEAGUE_WEIGHT + registrationCount * REGISTRATION_WEIGHT
+			+ visitedCount * VISIT_WEIGHT;
 	}
 }
@@ -14,11 +14,9 @@ public interface ClubStatisticsReader {
 
 	List<ClubStatistics> findAll();
 
-	List<ClubCache> readTop10PopularClub();
+	boolean hasLeaderboard();
 
-	List<ClubCache> readTop10RecentlyActiveClub();
+	List<ClubCache> readPopularClubs(int page, int size);
 
-	List<ClubCache> refreshTop10PopularClubsCache();
-
-	List<ClubCache> refreshActivityClubsCache();
+	List<ClubCache> readActiveClubs(int page, int size);
 }
@@ -1,9 +1,10 @@
 package org.badminton.domain.domain.statistics;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ClubStatisticsRepositoryCustom {
 	List<Long> findAllClubId();
 
-	void increaseClubVisitCount(String clubToken);
+	List<Long> increaseClubVisitCounts(Map<String, Long> visitCountsByClubToken);
 }
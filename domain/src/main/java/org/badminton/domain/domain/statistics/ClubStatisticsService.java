@@ -9,6 +9,8 @@ public interface ClubStatisticsService {
 
 	void increaseVisitedClubCount(String clubToken);
 
+	void flushVisitedClubCounts();
+
 	void createStatistic(ClubCreateInfo clubCreateInfo);
 
 	List<Long> clubIdByList();
@@ -17,11 +19,15 @@ public interface ClubStatisticsService {
 
 	void updateByCountAndClubId(Long clubId, int count);
 
-	List<ClubCardInfo> getTop10PopularClub();
+	List<ClubCardInfo> getPopularClubs(int page, int size);
+
+	List<ClubCardInfo> getRecentlyActiveClubs(int page, int size);
+
+	void refreshClubCard(String clubToken);
 
-	List<ClubCardInfo> getTop10RecentlyActiveClub();
+	void refreshLeaderboard();
 
-	void refreshPopularClubsCache();
+	void removeFromLeaderboard(String clubToken);
 
-	void refreshRecentlyActivityClubsCache();
+	void expireLeaderboardPages();
 }
@@ -2,6 +2,7 @@ package org.badminton.domain.domain.statistics;
 
 import java.util.List;
 
+import org.badminton.domain.common.policy.PageRequestPolicy;
 import org.badminton.domain.domain.club.ClubPage;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
@@ -20,16 +21,22 @@ public class ClubStatisticsServiceImpl implements ClubStatisticsService {
 	private final ClubStatisticsStore clubStatisticsStore;
 
 	@Override
-	@Transactional
 	public void increaseVisitedClubCount(String clubToken) {
 		clubStatisticsStore.increaseClubVisitCount(clubToken);
 	}
 
+	@Override
+	@Transactional
+	public void flushVisitedClubCounts() {
+		clubStatisticsStore.flushClubVisitCounts();
+	}
+
 	@Override
 	@Transactional
 	public void createStatistic(ClubCreateInfo clubCreateInfo) {
 		ClubStatistics clubStatistics = new ClubStatistics(clubCreateInfo);
 		clubStatisticsStore.store(clubStatistics);
+		clubStatisticsStore.expireLeaderboardPages();
 	}
 
 	@Override
@@ -47,33 +54,45 @@ public class ClubStatisticsServiceImpl implements ClubStatisticsService {
 	}
 
 	@Override
-	@Transactional
-	public List<ClubCardInfo> getTop10PopularClub() {
-
-		List<ClubCache> clubCaches = clubStatisticsReader.readTop10PopularClub();
+	@Transactional(readOnly = true)
+	public List<ClubCardInfo> getPopularClubs(int page, int size) {
+		PageRequestPolicy.validatePage(page, size);
+		ensureLeaderboard();
+		List<ClubCache> clubCaches = clubStatisticsReader.readPopularClubs(page, size);
 		var response = ClubPage.builder().clubCacheList(clubCaches).build();
 		return response.clubListToRedisPageCardInfo();
 	}
 
 	@Override
-	@Transactional
-	public List<ClubCardInfo> getTop10RecentlyActiveClub() {
-
-		List<ClubCache> clubCaches = clubStatisticsReader.readTop10RecentlyActiveClub();
+	@Transactional(readOnly = true)
+	public List<ClubCardInfo> getRecentlyActiveClubs(int page, int size) {
+		PageRequestPolicy.validatePage(page, size);
+		ensureLeaderboard();
+		List<ClubCache> clubCaches = clubStatisticsReader.readActiveClubs(page, size);
 		var response = ClubPage.builder().clubCacheList(clubCaches).build();
 		return response.clubListToRedisPageCardInfo();
 	}
 
 	@Override
-	@Transactional
-	public void refreshPopularClubsCache() {
-		clubStatisticsReader.refreshTop10PopularClubsCache();
+	@Transactional(readOnly = true)
+	public void refreshClubCard(String clubToken) {
+		clubStatisticsStore.refreshClubCard(clubToken);
 	}
 
 	@Override
-	@Transactional
-	public void refreshRecentlyActivityClubsCache() {
-		clubStatisticsReader.refreshActivityClubsCache();
+	@Transactional(readOnly = true)
+	public void refreshLeaderboard() {
+		clubStatisticsStore.refreshLeaderboard();
+	}
+
+	@Override
+	public void removeFromLeaderboard(String clubToken) {
+		clubStatisticsStore.removeFromLeaderboard(clubToken);
+	}
+
+	@Override
+	public void expireLeaderboardPages() {
+		clubStatisticsStore.expireLeaderboardPages();
 	}
 
 	@Override
@@ -83,4 +102,11 @@ public class ClubStatisticsServiceImpl implements ClubStatisticsService {
 		originStatistic.increaseLeagueCount(count);
 		clubStatisticsStore.store(originStatistic);
 	}
+
+	// Redis 가 비워진 경우(재시작, 장애 복구)에만 DB 에서 순위표를 다시 만든다.
+	private void ensureLeaderboard() {
+		if (!clubStatisticsReader.hasLeaderboard()) {
+			clubStatisticsStore.refreshLeaderboardIfEmpty();
+		}
+	}
 }
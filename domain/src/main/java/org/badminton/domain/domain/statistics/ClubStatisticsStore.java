@@ -4,4 +4,16 @@ public interface ClubStatisticsStore {
 	void store(ClubStatistics clubStatistics);
 
 	void increaseClubVisitCount(String clubToken);
+
+	void flushClubVisitCounts();
+
+	void refreshClubCard(String clubToken);
+
+	void refreshLeaderboard();
+
+	void refreshLeaderboardIfEmpty();
+
+	void removeFromLeaderboard(String clubToken);
+
+	void expireLeaderboardPages();
 }
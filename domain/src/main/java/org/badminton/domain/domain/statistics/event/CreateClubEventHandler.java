@@ -18,8 +18,7 @@ public class CreateClubEventHandler {
 	@TransactionalEventListener
 	public void createClubEventListener(CreateClubEvent event) {
 		clubStatisticsService.createStatistic(event.getClubCreateInfo());
-		clubStatisticsService.refreshPopularClubsCache();
-		clubStatisticsService.refreshRecentlyActivityClubsCache();
+		clubStatisticsService.refreshClubCard(event.getClubCreateInfo().clubToken());
 		clubService.refreshRecentlyCreatedClubsCache();
 	}
 }
@@ -2,7 +2,6 @@ package org.badminton.domain.domain.statistics.event;
 
 import org.badminton.domain.domain.statistics.ClubStatisticsService;
 import org.badminton.domain.domain.statistics.DistributedLockProcessor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -17,7 +16,6 @@ public class ReadClubEventHandler {
 	private final ClubStatisticsService clubStatisticsService;
 	private final DistributedLockProcessor distributedLockProcessor;
 
-	@Async
 	@TransactionalEventListener
 	public void readClubEventListener(ReadClubEvent event) {
 		clubStatisticsService.increaseVisitedClubCount(event.getClubToken());
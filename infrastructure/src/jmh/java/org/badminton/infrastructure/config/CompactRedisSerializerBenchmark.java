@@ -0,0 +1,133 @@
+package org.badminton.infrastructure.config;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
+import org.badminton.domain.domain.match.info.SinglesMatchPlayerInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// 이전 방식(GenericJackson2JsonRedisSerializer 로 쓰고 Object 로 읽은 뒤 convertValue)과
+// 타입이 고정된 배열 형식 직렬화기의 인코딩, 디코딩 시간을 비교한다. 값 크기는 준비 단계에서 출력한다.
+// ./gradlew :infrastructure:jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactRedisSerializerBenchmark {
+
+	private static final int CLUB_CARD_COUNT = 10;
+
+	private ObjectMapper objectMapper;
+	private GenericJackson2JsonRedisSerializer genericSerializer;
+	private CompactJsonRedisSerializer<List<ClubCache>> clubCardsSerializer;
+	private CompactJsonRedisSerializer<LeagueSetsScoreInProgressInfo> inProgressSetSerializer;
+	private JavaType clubCardsType;
+
+	private List<ClubCache> clubCards;
+	private LeagueSetsScoreInProgressInfo inProgressSet;
+	private byte[] genericClubCards;
+	private byte[] compactClubCards;
+	private byte[] genericInProgressSet;
+	private byte[] compactInProgressSet;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		CompactRedisSerializers compactRedisSerializers = new CompactRedisSerializers(objectMapper);
+		genericSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+		clubCardsSerializer = compactRedisSerializers.forType(new TypeReference<List<ClubCache>>() {
+		});
+		inProgressSetSerializer = compactRedisSerializers.forType(LeagueSetsScoreInProgressInfo.class);
+		clubCardsType = objectMapper.getTypeFactory().constructType(new TypeReference<List<ClubCache>>() {
+		});
+
+		clubCards = new ArrayList<>();
+		LocalDateTime createdAt = LocalDateTime.of(2024, 10, 1, 12, 0);
+		for (int i = 0; i < CLUB_CARD_COUNT; i++) {
+			clubCards.add(new ClubCache("club-token-" + i, "배드민턴 동호회 " + i, "주말마다 함께 운동하는 동호회입니다.",
+				"https://badminton-images.s3.ap-northeast-2.amazonaws.com/club/" + i + ".png", createdAt,
+				createdAt.plusDays(i), 3L + i, 7L + i, 12L + i));
+		}
+		inProgressSet = new LeagueSetsScoreInProgressInfo(1L,
+			new SinglesMatchPlayerInfo("선수1", "https://badminton-images.s3.ap-northeast-2.amazonaws.com/member/1.png",
+				"선수2", "https://badminton-images.s3.ap-northeast-2.amazonaws.com/member/2.png"),
+			null, 15, 13, 1, 2);
+
+		genericClubCards = genericSerializer.serialize(clubCards);
+		compactClubCards = clubCardsSerializer.serialize(clubCards);
+		genericInProgressSet = genericSerializer.serialize(inProgressSet);
+		compactInProgressSet = inProgressSetSerializer.serialize(inProgressSet);
+		System.out.printf("club cards x%d bytes: generic=%d compact=%d%n", CLUB_CARD_COUNT, genericClubCards.length,
+			compactClubCards.length);
+		System.out.printf("in-progress set bytes: generic=%d compact=%d%n", genericInProgressSet.length,
+			compactInProgressSet.length);
+	}
+
+	@Benchmark
+	public byte[] encodeClubCardsGeneric() {
+		return genericSerializer.serialize(clubCards);
+	}
+
+	@Benchmark
+	public byte[] encodeClubCardsCompact() {
+		return clubCardsSerializer.serialize(clubCards);
+	}
+
+	@Benchmark
+	public List<ClubCache> decodeClubCardsGeneric() {
+		return objectMapper.convertValue(genericSerializer.deserialize(genericClubCards), clubCardsType);
+	}
+
+	@Benchmark
+	public List<ClubCache> decodeClubCardsCompact() {
+		return clubCardsSerializer.deserialize(compactClubCards);
+	}
+
+	@Benchmark
+	public byte[] encodeInProgressSetGeneric() {
+		return genericSerializer.serialize(inProgressSet);
+	}
+
+	@Benchmark
+	public byte[] encodeInProgressSetCompact() {
+		return inProgressSetSerializer.serialize(inProgressSet);
+	}
+
+	@Benchmark
+	public LeagueSetsScoreInProgressInfo decodeInProgressSetGeneric() {
+		return objectMapper.convertValue(genericSerializer.deserialize(genericInProgressSet),
+			LeagueSetsScoreInProgressInfo.class);
+	}
+
+	@Benchmark
+	public LeagueSetsScoreInProgressInfo decodeInProgressSetCompact() {
+		return inProgressSetSerializer.deserialize(compactInProgressSet);
+	}
+}
@@ -0,0 +1,162 @@
+package org.badminton.infrastructure.match.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.reader.DoublesMatchReader;
+import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.badminton.infrastructure.match.bracket.BracketTopologyCache;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.badminton.infrastructure.match.repository.DoublesBracketJdbcRepository;
+import org.badminton.infrastructure.match.repository.SinglesBracketJdbcRepository;
+import org.badminton.infrastructure.match.store.DoublesMatchStoreImpl;
+import org.badminton.infrastructure.match.store.SinglesMatchStoreImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+// 8/64/256/1024 명 토너먼트 대진표를 메모리에서 만들고 JDBC 배치 인자를 채우는 데까지 걸리는 시간을 잰다.
+// 실제 DB 로는 보내지 않으므로 INSERT, UPDATE 왕복 비용은 빠져 있다.
+// ./gradlew :infrastructure:jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentBracketBenchmark {
+
+	private static final Long LEAGUE_ID = 1L;
+
+	@Param({"8", "64", "256", "1024"})
+	private int playerCount;
+
+	private BatchArgumentJdbcTemplate jdbcTemplate;
+	private TournamentSinglesBracketCreator singlesBracketCreator;
+	private TournamentDoublesBracketCreator doublesBracketCreator;
+	private League league;
+	private List<LeagueParticipant> participants;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		jdbcTemplate = new BatchArgumentJdbcTemplate();
+		BracketVersion bracketVersion = new BracketVersion(null) {
+			@Override
+			public void bump(Long leagueId) {
+			}
+		};
+		SinglesMatchReader singlesMatchReader = emptyReader(SinglesMatchReader.class);
+		DoublesMatchReader doublesMatchReader = emptyReader(DoublesMatchReader.class);
+		BracketTopologyCache bracketTopologyCache = new BracketTopologyCache(singlesMatchReader, doublesMatchReader);
+
+		singlesBracketCreator = new TournamentSinglesBracketCreator(
+			new SinglesMatchStoreImpl(null, new SinglesBracketJdbcRepository(jdbcTemplate), bracketVersion, null),
+			singlesMatchReader, bracketTopologyCache);
+		doublesBracketCreator = new TournamentDoublesBracketCreator(bracketTopologyCache,
+			new DoublesMatchStoreImpl(null, new DoublesBracketJdbcRepository(jdbcTemplate), bracketVersion, null),
+			doublesMatchReader);
+
+		league = newEntity(League.class, "leagueId", LEAGUE_ID);
+		participants = new ArrayList<>();
+		for (long participantId = 1; participantId <= playerCount; participantId++) {
+			participants.add(newEntity(LeagueParticipant.class, "leagueParticipantId", participantId));
+		}
+	}
+
+	@Benchmark
+	public long singlesBracket() {
+		List<LeagueParticipant> currentParticipants = new ArrayList<>(participants);
+		int totalRounds = singlesBracketCreator.getTotalRounds(league, currentParticipants);
+		singlesBracketCreator.generateAllMatches(league, new ArrayList<>(), currentParticipants, totalRounds);
+		return jdbcTemplate.boundParameterCount;
+	}
+
+	@Benchmark
+	public long doublesBracket() {
+		List<LeagueParticipant> currentParticipants = new ArrayList<>(participants);
+		int totalRounds = doublesBracketCreator.getTotalRounds(league, currentParticipants);
+		doublesBracketCreator.generateAllMatches(league, new ArrayList<>(), currentParticipants, totalRounds);
+		return jdbcTemplate.boundParameterCount;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T emptyReader(Class<T> readerType) {
+		return (T)Proxy.newProxyInstance(readerType.getClassLoader(), new Class<?>[] {readerType},
+			(proxy, method, args) -> List.class.isAssignableFrom(method.getReturnType()) ? List.of() : null);
+	}
+
+	private static <T> T newEntity(Class<T> entityType, String idField, Long id) throws ReflectiveOperationException {
+		Constructor<T> constructor = entityType.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		T entity = constructor.newInstance();
+		Field field = entityType.getDeclaredField(idField);
+		field.setAccessible(true);
+		field.set(entity, id);
+		return entity;
+	}
+
+	// 배치 인자를 PreparedStatement 에 채우기만 하고, 매치 INSERT 에는 순서대로 증가하는 id 를 돌려준다.
+	private static class BatchArgumentJdbcTemplate extends JdbcTemplate {
+
+		private long boundParameterCount;
+		private long nextGeneratedId = 1;
+
+		private final PreparedStatement preparedStatement = (PreparedStatement)Proxy.newProxyInstance(
+			PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class},
+			(proxy, method, args) -> {
+				boundParameterCount++;
+				return null;
+			});
+
+		@Override
+		public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+			return bind(pss);
+		}
+
+		@Override
+		public int[] batchUpdate(PreparedStatementCreator psc, BatchPreparedStatementSetter pss,
+			KeyHolder generatedKeyHolder) {
+			int[] updateCounts = bind(pss);
+			for (int i = 0; i < updateCounts.length; i++) {
+				generatedKeyHolder.getKeyList().add(Map.of("GENERATED_KEY", nextGeneratedId++));
+			}
+			return updateCounts;
+		}
+
+		private int[] bind(BatchPreparedStatementSetter pss) {
+			int[] updateCounts = new int[pss.getBatchSize()];
+			for (int i = 0; i < updateCounts.length; i++) {
+				try {
+					pss.setValues(preparedStatement, i);
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+				updateCounts[i] = 1;
+			}
+			return updateCounts;
+		}
+	}
+}
@@ -0,0 +1,289 @@
+package org.badminton.infrastructure.club;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.club.vo.ClubRedisKey;
+import org.badminton.infrastructure.config.CompactJsonRedisSerializer;
+import org.badminton.infrastructure.config.CompactRedisSerializers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 전체 동호회 목록을 스냅샷 하나로 캐시한다.
+// Redis 해시에 동호회별 행을 두고, 각 서버는 로컬 스냅샷에서 요청한 페이지만 잘라 준다.
+// 동호회나 회원 구성이 바뀌면 바뀐 동호회의 행만 다시 계산해 쓰고 다른 서버에 알린다.
+// 행마다 버전을 함께 두어, 늦게 도착한 이전 계산 결과가 새 행을 덮어쓰지 못하게 한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubCatalogCache implements MessageListener {
+
+	private static final String VERSION_KEY = ClubRedisKey.getCatalogVersionKey();
+	private static final String FLOOR_VERSION_FIELD = "floor";
+	private static final String DELETED_ROW = "";
+	private static final String CHANGE_CHANNEL = "CLUB_CATALOG_CHANGE";
+	private static final String CLUB_ID_DELIMITER = ",";
+	// 커밋 이후 반영이 빠진 행은 하루에 한 번 DB 에서 전체를 다시 만들 때 바로잡는다.
+	private static final Duration CATALOG_TTL = Duration.ofDays(1);
+	// 변경 알림을 놓친 서버도 이 시간이 지나면 Redis 에서 다시 적재한다.
+	private static final Duration SNAPSHOT_MAX_AGE = Duration.ofMinutes(10);
+
+	// 저장된 행 버전(없으면 floor)보다 새 버전일 때만 행과 행 버전을 함께 쓰고, 쓴 clubId 를 돌려준다.
+	// floor 가 없으면 해시가 만료된 것이므로 쓰지 않고 다음 조회 때 전체를 다시 만든다.
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>(
+		"local floor = redis.call('HGET', KEYS[2], ARGV[2]) "
+			+ "if not floor then return {} end "
+			+ "local version = tonumber(ARGV[1]) "
+			+ "local applied = {} "
+			+ "for i = 3, #ARGV, 2 do "
+			+ "  local current = tonumber(redis.call('HGET', KEYS[2], ARGV[i]) or floor) "
+			+ "  if current < version then "
+			+ "    redis.call('HSET', KEYS[2], ARGV[i], ARGV[1]) "
+			+ "    if ARGV[i + 1] == '' then redis.call('HDEL', KEYS[1], ARGV[i]) "
+			+ "    else redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+			+ "    applied[#applied + 1] = ARGV[i] "
+			+ "  end "
+			+ "end "
+			+ "return applied", List.class);
+
+	// 더 새 버전으로 이미 다시 만들어졌으면 덮어쓰지 않는다. 행 버전은 모두 floor 로 맞춘다.
+	private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+		"local floor = redis.call('HGET', KEYS[2], ARGV[2]) "
+			+ "if floor and tonumber(floor) >= tonumber(ARGV[1]) then return 0 end "
+			+ "redis.call('DEL', KEYS[1], KEYS[2]) "
+			+ "redis.call('HSET', KEYS[2], ARGV[2], ARGV[1]) "
+			+ "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[3]) "
+			+ "return 1", Long.class);
+
+	private final ClubRepository clubRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final CompactRedisSerializers compactRedisSerializers;
+
+	private CompactJsonRedisSerializer<ClubCatalogEntry> entrySerializer;
+	private String catalogKey;
+	private String rowVersionKey;
+	private volatile ClubCatalogSnapshot snapshot;
+
+	@PostConstruct
+	private void init() {
+		entrySerializer = compactRedisSerializers.forType(ClubCatalogEntry.class);
+		// 행 해시는 서버가 함께 쓰므로 저장 형식 버전별로 키를 나눠, 배포 중 버전이 다른 서버가 서로의 행을 지우고 다시 만들지 않게 한다.
+		String schemaSuffix = ":v" + compactRedisSerializers.schemaVersion(ClubCatalogEntry.class);
+		catalogKey = ClubRedisKey.getCatalogKey() + schemaSuffix;
+		rowVersionKey = ClubRedisKey.getCatalogRowVersionKey() + schemaSuffix;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+	}
+
+	public Page<ClubCache> readPage(Pageable pageable) {
+		return currentSnapshot().slice(pageable);
+	}
+
+	public void refresh(Long clubId) {
+		refresh(List.of(clubId));
+	}
+
+	public void refresh(Collection<Long> clubIds) {
+		if (clubIds.isEmpty()) {
+			return;
+		}
+		// 커밋 전에 다시 계산하면 변경 전 데이터가 들어가므로 트랜잭션 안에서는 모아 두었다가 커밋 이후에 한 번에 반영한다.
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			pendingClubIds().addAll(clubIds);
+			return;
+		}
+		applyChanges(new LinkedHashSet<>(clubIds));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// 아직 적재하지 않았다면 다음 조회 때 최신 행을 읽는다.
+		if (snapshot == null) {
+			return;
+		}
+		List<Long> clubIds = Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8)
+				.split(CLUB_ID_DELIMITER))
+			.map(Long::parseLong)
+			.toList();
+		applyLocally(readRowChanges(clubIds));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Long> pendingClubIds() {
+		Set<Long> pending = (Set<Long>)TransactionSynchronizationManager.getResource(this);
+		if (pending != null) {
+			return pending;
+		}
+		Set<Long> clubIds = new LinkedHashSet<>();
+		TransactionSynchronizationManager.bindResource(this, clubIds);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				applyChanges(clubIds);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(ClubCatalogCache.this);
+			}
+		});
+		return clubIds;
+	}
+
+	// DB 를 읽기 전에 버전을 받으므로, 더 큰 버전을 받은 계산은 이 계산이 본 커밋을 모두 보고 읽은 것이다.
+	@SuppressWarnings("unchecked")
+	private void applyChanges(Set<Long> clubIds) {
+		long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+		Map<Long, ClubCatalogEntry> entries = clubRepository.findCatalogEntriesByClubIds(clubIds).stream()
+			.collect(Collectors.toMap(ClubCatalogEntry::clubId, Function.identity()));
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(version));
+		args.add(FLOOR_VERSION_FIELD);
+		for (Long clubId : clubIds) {
+			ClubCatalogEntry entry = entries.get(clubId);
+			args.add(String.valueOf(clubId));
+			args.add(entry == null ? DELETED_ROW : serialize(entry));
+		}
+		List<String> applied = stringRedisTemplate.execute(APPLY_SCRIPT, List.of(catalogKey, rowVersionKey),
+			args.toArray());
+		if (applied == null || applied.isEmpty()) {
+			return;
+		}
+
+		List<Long> appliedClubIds = applied.stream().map(Long::parseLong).toList();
+		applyLocally(appliedClubIds.stream()
+			.map(clubId -> new ClubCatalogSnapshot.RowChange(clubId, version, entries.get(clubId)))
+			.toList());
+		stringRedisTemplate.convertAndSend(CHANGE_CHANNEL,
+			applied.stream().collect(Collectors.joining(CLUB_ID_DELIMITER)));
+	}
+
+	// 행 버전을 먼저 읽으므로 함께 읽은 행은 적어도 그 버전만큼 새롭다.
+	private List<ClubCatalogSnapshot.RowChange> readRowChanges(List<Long> clubIds) {
+		List<Object> versionFields = new ArrayList<>();
+		clubIds.forEach(clubId -> versionFields.add(String.valueOf(clubId)));
+		versionFields.add(FLOOR_VERSION_FIELD);
+		List<Object> versions = stringRedisTemplate.opsForHash().multiGet(rowVersionKey, versionFields);
+		Object floorVersion = versions.get(clubIds.size());
+		if (floorVersion == null) {
+			return List.of();
+		}
+		List<Object> rows = stringRedisTemplate.opsForHash().multiGet(catalogKey,
+			versionFields.subList(0, clubIds.size()));
+
+		List<ClubCatalogSnapshot.RowChange> changes = new ArrayList<>();
+		for (int i = 0; i < clubIds.size(); i++) {
+			Object version = versions.get(i) == null ? floorVersion : versions.get(i);
+			ClubCatalogEntry entry = rows.get(i) == null ? null : deserialize((String)rows.get(i));
+			// 읽을 수 없는 행을 삭제로 반영하지 않는다. 스냅샷을 다시 적재할 때 바로잡힌다.
+			if (rows.get(i) != null && entry == null) {
+				continue;
+			}
+			changes.add(new ClubCatalogSnapshot.RowChange(clubIds.get(i), Long.parseLong((String)version), entry));
+		}
+		return changes;
+	}
+
+	private synchronized void applyLocally(List<ClubCatalogSnapshot.RowChange> changes) {
+		ClubCatalogSnapshot current = snapshot;
+		if (current == null || changes.isEmpty()) {
+			return;
+		}
+		snapshot = current.apply(changes);
+	}
+
+	private ClubCatalogSnapshot currentSnapshot() {
+		ClubCatalogSnapshot current = snapshot;
+		if (current != null && !current.isOlderThan(SNAPSHOT_MAX_AGE)) {
+			return current;
+		}
+		synchronized (this) {
+			if (snapshot == null || snapshot.isOlderThan(SNAPSHOT_MAX_AGE)) {
+				snapshot = load();
+			}
+			return snapshot;
+		}
+	}
+
+	// 행 버전을 먼저 읽어 두면 해시의 행은 적어도 그 버전까지의 변경을 담고 있다.
+	private ClubCatalogSnapshot load() {
+		Map<Object, Object> versions = stringRedisTemplate.opsForHash().entries(rowVersionKey);
+		Object floorVersion = versions.remove(FLOOR_VERSION_FIELD);
+		if (floorVersion == null) {
+			return rebuild();
+		}
+		List<ClubCatalogEntry> entries = new ArrayList<>();
+		try {
+			for (Object row : stringRedisTemplate.opsForHash().values(catalogKey)) {
+				ClubCatalogEntry entry = deserialize((String)row);
+				if (entry == null) {
+					return rebuild();
+				}
+				entries.add(entry);
+			}
+		} catch (SerializationException e) {
+			// 읽을 수 없는 행이 남아 있으면 DB 에서 다시 만든다.
+			log.warn("동호회 목록 스냅샷 역직렬화 실패", e);
+			return rebuild();
+		}
+		Map<Long, Long> rowVersions = new HashMap<>();
+		versions.forEach((clubId, version) ->
+			rowVersions.put(Long.parseLong((String)clubId), Long.parseLong((String)version)));
+		return ClubCatalogSnapshot.of(Long.parseLong((String)floorVersion), rowVersions, entries);
+	}
+
+	private ClubCatalogSnapshot rebuild() {
+		log.info("동호회 목록 스냅샷을 DB 에서 다시 만듭니다.");
+		long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+		List<ClubCatalogEntry> entries = clubRepository.findAllCatalogEntries();
+
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(version));
+		args.add(FLOOR_VERSION_FIELD);
+		args.add(String.valueOf(CATALOG_TTL.toSeconds()));
+		for (ClubCatalogEntry entry : entries) {
+			args.add(String.valueOf(entry.clubId()));
+			args.add(serialize(entry));
+		}
+		stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(catalogKey, rowVersionKey), args.toArray());
+		return ClubCatalogSnapshot.of(version, Map.of(), entries);
+	}
+
+	private String serialize(ClubCatalogEntry entry) {
+		return entrySerializer.encode(entry);
+	}
+
+	private ClubCatalogEntry deserialize(String row) {
+		return entrySerializer.decode(row);
+	}
+}
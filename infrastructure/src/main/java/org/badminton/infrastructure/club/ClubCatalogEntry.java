@@ -0,0 +1,17 @@
+package org.badminton.infrastructure.club;
+
+import java.time.LocalDateTime;
+
+import org.badminton.domain.domain.club.vo.ClubCache;
+
+public record ClubCatalogEntry(
+	Long clubId,
+	ClubCache clubCache
+) {
+	public ClubCatalogEntry(Long clubId, String clubToken, String clubName, String clubDescription, String clubImage,
+		LocalDateTime createdAt, LocalDateTime modifiedAt, Long goldClubMemberCount, Long silverClubMemberCount,
+		Long bronzeClubMemberCount) {
+		this(clubId, new ClubCache(clubToken, clubName, clubDescription, clubImage, createdAt, modifiedAt,
+			goldClubMemberCount, silverClubMemberCount, bronzeClubMemberCount));
+	}
+}
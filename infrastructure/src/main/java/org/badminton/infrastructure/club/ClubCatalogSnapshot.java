@@ -0,0 +1,119 @@
+package org.badminton.infrastructure.club;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.badminton.domain.domain.club.vo.ClubCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// 전체 동호회 목록이다. 정렬 기준별 목록은 처음 요청될 때 만들어 같은 스냅샷 동안 재사용한다.
+// 동호회마다 마지막으로 반영한 행 버전을 들고 있어 변경 알림이 어떤 순서로 와도 더 새로운 행만 반영한다.
+class ClubCatalogSnapshot {
+
+	private static final String DEFAULT_SORT_PROPERTY = "clubId";
+	private static final Map<String, Comparator<ClubCatalogEntry>> COMPARATORS = Map.of(
+		"clubId", Comparator.comparing(ClubCatalogEntry::clubId),
+		"clubName", byClubCache(ClubCache::clubName),
+		"createdAt", byClubCache(ClubCache::createdAt),
+		"modifiedAt", byClubCache(ClubCache::modifiedAt)
+	);
+
+	private final long floorVersion;
+	private final Map<Long, Long> rowVersions;
+	private final Map<Long, ClubCatalogEntry> entries;
+	private final long loadedAtMillis;
+	private final Map<String, List<ClubCatalogEntry>> sortedEntries = new ConcurrentHashMap<>();
+
+	private ClubCatalogSnapshot(long floorVersion, Map<Long, Long> rowVersions, Map<Long, ClubCatalogEntry> entries,
+		long loadedAtMillis) {
+		this.floorVersion = floorVersion;
+		this.rowVersions = rowVersions;
+		this.entries = entries;
+		this.loadedAtMillis = loadedAtMillis;
+	}
+
+	// rowVersions 에 없는 동호회는 floorVersion 으로 쓰인 행이다.
+	static ClubCatalogSnapshot of(long floorVersion, Map<Long, Long> rowVersions,
+		Collection<ClubCatalogEntry> entries) {
+		Map<Long, ClubCatalogEntry> entryMap = new HashMap<>();
+		entries.forEach(entry -> entryMap.put(entry.clubId(), entry));
+		return new ClubCatalogSnapshot(floorVersion, new HashMap<>(rowVersions), entryMap,
+			System.currentTimeMillis());
+	}
+
+	boolean isOlderThan(Duration maxAge) {
+		return System.currentTimeMillis() - loadedAtMillis > maxAge.toMillis();
+	}
+
+	// 이미 반영한 버전 이하의 변경은 버린다. 바뀐 행이 없으면 현재 스냅샷을 그대로 돌려준다.
+	ClubCatalogSnapshot apply(Collection<RowChange> changes) {
+		Map<Long, Long> nextRowVersions = null;
+		Map<Long, ClubCatalogEntry> nextEntries = null;
+		for (RowChange change : changes) {
+			if (change.version() <= rowVersions.getOrDefault(change.clubId(), floorVersion)) {
+				continue;
+			}
+			if (nextEntries == null) {
+				nextRowVersions = new HashMap<>(rowVersions);
+				nextEntries = new HashMap<>(entries);
+			}
+			nextRowVersions.put(change.clubId(), change.version());
+			if (change.entry() == null) {
+				nextEntries.remove(change.clubId());
+			} else {
+				nextEntries.put(change.clubId(), change.entry());
+			}
+		}
+		if (nextEntries == null) {
+			return this;
+		}
+		return new ClubCatalogSnapshot(floorVersion, nextRowVersions, nextEntries, loadedAtMillis);
+	}
+
+	Page<ClubCache> slice(Pageable pageable) {
+		Sort.Order order = pageable.getSort().stream()
+			.filter(sortOrder -> COMPARATORS.containsKey(sortOrder.getProperty()))
+			.findFirst()
+			.orElse(Sort.Order.asc(DEFAULT_SORT_PROPERTY));
+		List<ClubCatalogEntry> sorted = sortedEntries.computeIfAbsent(order.getProperty(), this::sort);
+
+		int total = sorted.size();
+		long offset = pageable.getOffset();
+		if (offset >= total) {
+			return new PageImpl<>(List.of(), pageable, total);
+		}
+		int end = (int)Math.min(offset + pageable.getPageSize(), total);
+		List<ClubCache> content = new ArrayList<>(end - (int)offset);
+		for (int i = (int)offset; i < end; i++) {
+			int index = order.isAscending() ? i : total - 1 - i;
+			content.add(sorted.get(index).clubCache());
+		}
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private List<ClubCatalogEntry> sort(String property) {
+		return entries.values().stream()
+			.sorted(COMPARATORS.get(property).thenComparing(ClubCatalogEntry::clubId))
+			.toList();
+	}
+
+	private static <T extends Comparable<? super T>> Comparator<ClubCatalogEntry> byClubCache(
+		Function<ClubCache, T> keyExtractor) {
+		return Comparator.comparing(entry -> keyExtractor.apply(entry.clubCache()),
+			Comparator.nullsFirst(Comparator.naturalOrder()));
+	}
+
+	// entry 가 null 이면 삭제된 동호회다.
+	record RowChange(Long clubId, long version, ClubCatalogEntry entry) {
+	}
+}
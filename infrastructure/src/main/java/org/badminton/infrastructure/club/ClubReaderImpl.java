@@ -1,7 +1,11 @@
 package org.badminton.infrastructure.club;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.badminton.domain.common.exception.club.ClubNotExistException;
 import org.badminton.domain.domain.club.ClubReader;
@@ -9,14 +13,16 @@ import org.badminton.domain.domain.club.entity.Club;
 import org.badminton.domain.domain.club.info.ClubCardInfo;
 import org.badminton.domain.domain.club.vo.ClubCache;
 import org.badminton.domain.domain.club.vo.ClubRedisKey;
+import org.badminton.domain.domain.club.vo.ClubSearchCursor;
+import org.badminton.domain.domain.club.vo.ClubSearchSlice;
+import org.badminton.infrastructure.config.RedisCacheLoader;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,64 +32,103 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClubReaderImpl implements ClubReader {
 	private static final String RECENTLY_TOP10_REDIS_KEY = ClubRedisKey.getTop10RecentlyKey();
+	private static final int RECENTLY_TOP10_SIZE = 10;
+	private static final Duration RECENTLY_TOP10_TTL = Duration.ofMinutes(1);
+	private static final Duration RECENTLY_TOP10_STALE_TTL = Duration.ofMinutes(5);
+	private static final TypeReference<List<ClubCardInfo>> RECENTLY_TOP10_TYPE = new TypeReference<>() {
+	};
+	private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+	private static final Pattern LIKE_WILDCARDS = Pattern.compile("[\\\\%_]");
+	private static final int NGRAM_TOKEN_SIZE = 2;
 	private final ClubRepository clubRepository;
-	private final RedisTemplate<String, Object> redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final ClubCatalogCache clubCatalogCache;
+	private final RedisCacheLoader redisCacheLoader;
 
 	@Override
 	public Page<ClubCache> readAllClubs(Pageable pageable) {
-		String key = ClubRedisKey.getClubsPageKey(pageable.getPageNumber());
-		Object cachedClubs = redisTemplate.opsForValue().get(key);
-
-		if (cachedClubs != null) {
-			RedisPage<ClubCache> redisPage = objectMapper.convertValue(cachedClubs,
-				new TypeReference<>() {
-				});
-			return redisPage.toPage(pageable);
+		return clubCatalogCache.readPage(pageable);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ClubSearchSlice keywordSearch(String keyword, ClubSearchCursor cursor, int size) {
+		String term = normalizeKeyword(keyword);
+		List<ClubSearchRow> rows = term.isEmpty()
+			? readLatestClubRows(cursor, size + 1)
+			: searchClubRows(term, cursor, size + 1);
+
+		boolean hasNext = rows.size() > size;
+		List<ClubSearchRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+		if (pageRows.isEmpty()) {
+			return new ClubSearchSlice(List.of(), false, null);
 		}
 
-		return refreshClubs(key, pageable);
-	}
+		List<Long> clubIds = pageRows.stream().map(ClubSearchRow::getClubId).toList();
+		Map<String, ClubCache> clubCacheByToken = new HashMap<>();
+		for (ClubCache clubCache : clubRepository.findAllClubsByClubIds(clubIds)) {
+			clubCacheByToken.put(clubCache.clubToken(), clubCache);
+		}
 
-	private Page<ClubCache> refreshClubs(String key, Pageable pageable) {
-		Page<ClubCache> redisClubs = clubRepository.findAllClubs(pageable);
-		redisTemplate.opsForValue().set(key, redisClubs, 1, TimeUnit.MINUTES);
-		return redisClubs;
+		// 검색 순서를 유지한 채 그 사이에 삭제된 동호회는 빠진다.
+		List<ClubCache> clubCaches = pageRows.stream()
+			.map(row -> clubCacheByToken.get(row.getClubToken()))
+			.filter(Objects::nonNull)
+			.toList();
+		ClubSearchRow last = pageRows.get(pageRows.size() - 1);
+		ClubSearchCursor nextCursor = hasNext ? ClubSearchCursor.of(last.getMatchRank(), last.getClubId()) : null;
+		return new ClubSearchSlice(clubCaches, hasNext, nextCursor);
 	}
 
-	@Override
-	public Page<ClubCache> keywordSearch(String keyword, Pageable pageable) {
-		Page<Club> clubs = clubRepository.findAllByClubNameContainingIgnoreCaseAndIsClubDeletedIsFalse(keyword,
-			pageable);
-		return clubs.map(ClubCache::from);
+	private List<ClubSearchRow> searchClubRows(String term, ClubSearchCursor cursor, int limit) {
+		String booleanQuery = toBooleanQuery(term);
+		String likeTerm = LIKE_WILDCARDS.matcher(term).replaceAll("\\\\$0");
+		if (cursor == null || cursor.matchRank() == null) {
+			return clubRepository.searchByKeyword(booleanQuery, likeTerm, limit);
+		}
+		return clubRepository.searchByKeywordAfter(booleanQuery, likeTerm, cursor.matchRank(), cursor.clubId(),
+			limit);
 	}
 
-	@Override
-	@Transactional(readOnly = true)
-	public List<ClubCardInfo> readRecentlyCreatedClubs() {
-
-		Object cachedClubs = redisTemplate.opsForValue().get(RECENTLY_TOP10_REDIS_KEY);
+	private List<ClubSearchRow> readLatestClubRows(ClubSearchCursor cursor, int limit) {
+		if (cursor == null) {
+			return clubRepository.findLatestClubRows(limit);
+		}
+		return clubRepository.findClubRowsBefore(cursor.clubId(), limit);
+	}
 
-		if (cachedClubs != null) {
-			return objectMapper.convertValue(cachedClubs, new TypeReference<List<ClubCardInfo>>() {
-			});
+	// 불리언 모드 연산자를 지운 검색어다. 비어 있으면 검색어가 없는 것으로 본다.
+	private String normalizeKeyword(String keyword) {
+		if (keyword == null) {
+			return "";
 		}
+		return BOOLEAN_OPERATORS.matcher(keyword).replaceAll(" ").trim().replaceAll("\\s+", " ");
+	}
 
-		return refreshRecentlyCreatedClubsCache();
+	// ngram 토큰(기본 2글자)보다 짧은 검색어는 접두어로, 나머지는 구문으로 찾는다.
+	private String toBooleanQuery(String term) {
+		if (term.length() < NGRAM_TOKEN_SIZE) {
+			return term + "*";
+		}
+		return "\"" + term + "\"";
+	}
 
+	@Override
+	public List<ClubCardInfo> readRecentlyCreatedClubs() {
+		return redisCacheLoader.get(RECENTLY_TOP10_REDIS_KEY, RECENTLY_TOP10_TYPE, RECENTLY_TOP10_TTL,
+			RECENTLY_TOP10_STALE_TTL, this::loadRecentlyCreatedClubs);
 	}
 
 	@Override
 	public List<ClubCardInfo> refreshRecentlyCreatedClubsCache() {
-		List<Club> clubs = clubRepository.findTop10ByIsClubDeletedIsFalseOrderByCreatedAtDesc();
+		return redisCacheLoader.refresh(RECENTLY_TOP10_REDIS_KEY, RECENTLY_TOP10_TYPE, RECENTLY_TOP10_TTL,
+			RECENTLY_TOP10_STALE_TTL, this::loadRecentlyCreatedClubs);
+	}
 
-		List<ClubCardInfo> clubCardInfos = clubs.stream()
-			.map(ClubCardInfo::from)
+	// 백그라운드 갱신에서도 호출되므로 지연 로딩 없이 티어별 인원까지 한 번에 조회한다.
+	private List<ClubCardInfo> loadRecentlyCreatedClubs() {
+		return clubRepository.findRecentlyCreatedCatalogEntries(PageRequest.of(0, RECENTLY_TOP10_SIZE)).stream()
+			.map(entry -> ClubCardInfo.from(entry.clubCache()))
 			.toList();
-
-		redisTemplate.opsForValue().set(RECENTLY_TOP10_REDIS_KEY, clubCardInfos, 1, TimeUnit.MINUTES);
-
-		return clubCardInfos;
 	}
 
 	@Override
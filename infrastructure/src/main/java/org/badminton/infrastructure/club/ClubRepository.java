@@ -1,41 +1,146 @@
 package org.badminton.infrastructure.club;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.badminton.domain.domain.club.entity.Club;
 import org.badminton.domain.domain.club.vo.ClubCache;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClubRepository extends JpaRepository<Club, Long> {
 	Optional<Club> findByClubToken(String clubToken);
 
 	Optional<Club> findByClubTokenAndIsClubDeletedFalse(String clubToken);
 
-	Page<Club> findAllByClubNameContainingIgnoreCaseAndIsClubDeletedIsFalse(String keyword, Pageable pageable);
-	
-	List<Club> findTop10ByIsClubDeletedIsFalseOrderByCreatedAtDesc();
+	// 관련도 점수는 다른 동호회 행이 바뀌어도 달라지므로, 행 자신만으로 정해지는 일치 등급과 clubId 로 정렬한다.
+	// 이름이 검색어로 시작하면 3, 이름에 포함되면 2, 설명에만 있으면 1 이다.
+	@Query(value = """
+		    SELECT s.clubId AS clubId, s.clubToken AS clubToken, s.matchRank AS matchRank
+		    FROM (
+		        SELECT c.clubId AS clubId, c.clubToken AS clubToken,
+		            CASE
+		                WHEN c.clubName LIKE CONCAT(:term, '%') THEN 3
+		                WHEN c.clubName LIKE CONCAT('%', :term, '%') THEN 2
+		                ELSE 1
+		            END AS matchRank
+		        FROM club c
+		        WHERE MATCH(c.clubName, c.clubDescription) AGAINST(:keyword IN BOOLEAN MODE)
+		            AND c.isClubDeleted = false
+		    ) s
+		    ORDER BY s.matchRank DESC, s.clubId DESC
+		    LIMIT :limit
+		""", nativeQuery = true)
+	List<ClubSearchRow> searchByKeyword(@Param("keyword") String keyword, @Param("term") String term,
+		@Param("limit") int limit);
+
+	@Query(value = """
+		    SELECT s.clubId AS clubId, s.clubToken AS clubToken, s.matchRank AS matchRank
+		    FROM (
+		        SELECT c.clubId AS clubId, c.clubToken AS clubToken,
+		            CASE
+		                WHEN c.clubName LIKE CONCAT(:term, '%') THEN 3
+		                WHEN c.clubName LIKE CONCAT('%', :term, '%') THEN 2
+		                ELSE 1
+		            END AS matchRank
+		        FROM club c
+		        WHERE MATCH(c.clubName, c.clubDescription) AGAINST(:keyword IN BOOLEAN MODE)
+		            AND c.isClubDeleted = false
+		    ) s
+		    WHERE s.matchRank < :lastMatchRank
+		        OR (s.matchRank = :lastMatchRank AND s.clubId < :lastClubId)
+		    ORDER BY s.matchRank DESC, s.clubId DESC
+		    LIMIT :limit
+		""", nativeQuery = true)
+	List<ClubSearchRow> searchByKeywordAfter(@Param("keyword") String keyword, @Param("term") String term,
+		@Param("lastMatchRank") int lastMatchRank, @Param("lastClubId") Long lastClubId, @Param("limit") int limit);
+
+	@Query(value = """
+		    SELECT c.clubId AS clubId, c.clubToken AS clubToken, NULL AS matchRank
+		    FROM club c
+		    WHERE c.isClubDeleted = false
+		    ORDER BY c.clubId DESC
+		    LIMIT :limit
+		""", nativeQuery = true)
+	List<ClubSearchRow> findLatestClubRows(@Param("limit") int limit);
+
+	@Query(value = """
+		    SELECT c.clubId AS clubId, c.clubToken AS clubToken, NULL AS matchRank
+		    FROM club c
+		    WHERE c.isClubDeleted = false AND c.clubId < :lastClubId
+		    ORDER BY c.clubId DESC
+		    LIMIT :limit
+		""", nativeQuery = true)
+	List<ClubSearchRow> findClubRowsBefore(@Param("lastClubId") Long lastClubId, @Param("limit") int limit);
 
 	Club findByClubId(Long clubId);
 
 	boolean existsByClubNameAndIsClubDeletedFalse(String clubName);
 
+	// 탈퇴한 회원은 티어별 인원에서 뺀다.
+	@Query("""
+		    SELECT new org.badminton.infrastructure.club.ClubCatalogEntry(
+		        c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		    )
+		    FROM Club c
+		    LEFT JOIN c.clubMembers cm
+		    LEFT JOIN cm.member m
+		    WHERE c.isClubDeleted = false
+		    GROUP BY c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt
+		""")
+	List<ClubCatalogEntry> findAllCatalogEntries();
+
+	@Query("""
+		    SELECT new org.badminton.infrastructure.club.ClubCatalogEntry(
+		        c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		    )
+		    FROM Club c
+		    LEFT JOIN c.clubMembers cm
+		    LEFT JOIN cm.member m
+		    WHERE c.isClubDeleted = false
+		    GROUP BY c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt
+		    ORDER BY c.createdAt DESC
+		""")
+	List<ClubCatalogEntry> findRecentlyCreatedCatalogEntries(Pageable pageable);
+
+	@Query("""
+		    SELECT new org.badminton.infrastructure.club.ClubCatalogEntry(
+		        c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		    )
+		    FROM Club c
+		    LEFT JOIN c.clubMembers cm
+		    LEFT JOIN cm.member m
+		    WHERE c.isClubDeleted = false AND c.clubId IN :clubIds
+		    GROUP BY c.clubId, c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt
+		""")
+	List<ClubCatalogEntry> findCatalogEntriesByClubIds(@Param("clubIds") Collection<Long> clubIds);
+
+	// 탈퇴한 회원은 티어별 인원에서 뺀다.
 	@Query(value = """
 		    SELECT new org.badminton.domain.domain.club.vo.ClubCache(
 		        c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
-		        SUM(CASE WHEN cm.member.tier = 'GOLD' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'SILVER' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN cm.deleted = false AND m.tier = 'BRONZE' THEN 1 ELSE 0 END)
 		    )
 		    FROM Club c
 		    LEFT JOIN c.clubMembers cm
-		    JOIN cm.member m
-		    WHERE c.isClubDeleted = false
+		    LEFT JOIN cm.member m
+		    WHERE c.clubId IN :clubIds
 		    GROUP BY c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt, c.clubId
 		""")
-	Page<ClubCache> findAllClubs(Pageable pageable);
+	List<ClubCache> findAllClubsByClubIds(@Param("clubIds") Collection<Long> clubIds);
 }
 
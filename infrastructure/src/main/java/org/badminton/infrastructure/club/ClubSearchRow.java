@@ -0,0 +1,9 @@
+package org.badminton.infrastructure.club;
+
+public interface ClubSearchRow {
+	Long getClubId();
+
+	String getClubToken();
+
+	Integer getMatchRank();
+}
@@ -13,10 +13,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClubStoreImpl implements ClubStore {
 	private final ClubRepository clubRepository;
+	private final ClubCatalogCache clubCatalogCache;
 
 	@Override
 	@Transactional
 	public Club store(Club club) {
-		return clubRepository.save(club);
+		Club storedClub = clubRepository.save(club);
+		clubCatalogCache.refresh(storedClub.getClubId());
+		return storedClub;
 	}
 }
@@ -4,8 +4,59 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.badminton.domain.domain.clubmember.entity.ClubMemberBanRecord;
+import org.badminton.domain.domain.clubmember.info.ClubMemberBanLiftInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BannedClubMemberRepository extends JpaRepository<ClubMemberBanRecord, Long> {
-	List<ClubMemberBanRecord> findAllByEndDateBeforeAndIsActiveTrue(LocalDateTime now);
+
+	@Query("""
+		SELECT new org.badminton.domain.domain.clubmember.info.ClubMemberBanLiftInfo(
+		    banRecord.clubMemberBanRecordId, clubMember.clubMemberId, member.memberToken
+		)
+		FROM ClubMemberBanRecord banRecord
+		JOIN banRecord.clubMember clubMember
+		JOIN clubMember.member member
+		WHERE banRecord.endDate < :now
+		  AND banRecord.isActive = true
+		  AND banRecord.clubMemberBanRecordId > :lastBanRecordId
+		ORDER BY banRecord.clubMemberBanRecordId ASC
+		""")
+	List<ClubMemberBanLiftInfo> findExpiredBansAfter(
+		@Param("now") LocalDateTime now,
+		@Param("lastBanRecordId") Long lastBanRecordId,
+		Pageable pageable
+	);
+
+	@Modifying
+	@Query("""
+		UPDATE ClubMemberBanRecord banRecord
+		SET banRecord.isActive = false, banRecord.modifiedAt = :modifiedAt
+		WHERE banRecord.clubMemberBanRecordId IN (:banRecordIds)
+		  AND banRecord.isActive = true
+		""")
+	int deactivateByBanRecordIds(
+		@Param("banRecordIds") List<Long> banRecordIds,
+		@Param("modifiedAt") LocalDateTime modifiedAt
+	);
+
+	// 아직 유효한 다른 정지 기록이 남아 있는 클럽 멤버는 정지 상태를 유지한다.
+	@Modifying
+	@Query("""
+		UPDATE ClubMember clubMember
+		SET clubMember.banned = false, clubMember.modifiedAt = :modifiedAt
+		WHERE clubMember.clubMemberId IN (:clubMemberIds)
+		  AND NOT EXISTS (
+		      SELECT 1 FROM ClubMemberBanRecord banRecord
+		      WHERE banRecord.clubMember = clubMember
+		        AND banRecord.isActive = true
+		  )
+		""")
+	int liftByClubMemberIds(
+		@Param("clubMemberIds") List<Long> clubMemberIds,
+		@Param("modifiedAt") LocalDateTime modifiedAt
+	);
 }
@@ -0,0 +1,72 @@
+package org.badminton.infrastructure.clubmember;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
+import org.badminton.domain.domain.clubmember.info.ClubMemberAuthorizationInfo;
+import org.badminton.infrastructure.config.VersionedInvalidation;
+import org.badminton.infrastructure.config.VersionedInvalidationFactory;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubMemberAuthorizationCacheImpl implements ClubMemberAuthorizationCache {
+
+	private static final String VERSION_KEY_PREFIX = "CLUB_MEMBER_AUTH_VERSION_";
+	private static final String INVALIDATION_CHANNEL = "CLUB_MEMBER_AUTH_INVALIDATION";
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofMinutes(5);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 10_000;
+
+	private final ClubMemberRepository clubMemberRepository;
+	private final VersionedInvalidationFactory versionedInvalidationFactory;
+
+	private final Cache<String, ClubMemberAuthorizationInfo> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+		.expireAfterWrite(LOCAL_CACHE_TTL)
+		.build();
+
+	private VersionedInvalidation authorizationVersion;
+
+	@PostConstruct
+	private void init() {
+		authorizationVersion = versionedInvalidationFactory.create(VERSION_KEY_PREFIX, INVALIDATION_CHANNEL);
+		authorizationVersion.addListener(this::invalidateOlderThan);
+	}
+
+	@Override
+	public ClubMemberAuthorizationInfo getAuthorization(String memberToken) {
+		return localCache.get(memberToken, this::load);
+	}
+
+	@Override
+	public void evict(String memberToken) {
+		authorizationVersion.bump(memberToken);
+	}
+
+	// 이미 새 버전으로 다시 적재된 항목은 그대로 둔다.
+	private void invalidateOlderThan(String memberToken, long version) {
+		localCache.asMap().computeIfPresent(memberToken,
+			(key, authorization) -> authorization.version() < version ? null : authorization);
+	}
+
+	private ClubMemberAuthorizationInfo load(String memberToken) {
+		long version = authorizationVersion.current(memberToken);
+		Map<String, String> clubRoles = clubMemberRepository.findAllActiveWithClubByMemberToken(memberToken)
+			.stream()
+			.collect(Collectors.toUnmodifiableMap(
+				clubMember -> clubMember.getClub().getClubToken(),
+				clubMember -> clubMember.getRole().name(),
+				(role1, role2) -> role1));
+		return new ClubMemberAuthorizationInfo(memberToken, version, clubRoles);
+	}
+}
@@ -36,6 +36,17 @@ public interface ClubMemberRepository extends JpaRepository<ClubMember, Long> {
 
 	List<ClubMember> findAllByDeletedFalseAndBannedFalseAndMemberMemberToken(String memberToken);
 
+	@Query("""
+		   SELECT cm
+		   FROM ClubMember cm
+		   JOIN FETCH cm.club c
+		   WHERE cm.member.memberToken = :memberToken
+		     AND cm.deleted = false
+		     AND cm.banned = false
+		     AND c.isClubDeleted = false
+		""")
+	List<ClubMember> findAllActiveWithClubByMemberToken(@Param("memberToken") String memberToken);
+
 	Optional<ClubMember> findByClubClubTokenAndMemberMemberToken(String clubToken, String memberToken);
 
 	boolean existsByClubClubTokenAndMemberMemberTokenAndDeletedFalse(String clubToken, String memberToken);
@@ -48,6 +59,9 @@ public interface ClubMemberRepository extends JpaRepository<ClubMember, Long> {
 
 	Optional<ClubMember> findByClubMemberId(Long clubMemberId);
 
+	@Query("SELECT DISTINCT cm.club.clubId FROM ClubMember cm WHERE cm.member.id IN :memberIds AND cm.deleted = false")
+	List<Long> findClubIdsByMemberIds(@Param("memberIds") List<Long> memberIds);
+
 	Integer countByClubClubIdAndDeletedFalse(Long clubId);
 
 	ClubMember findByClubClubTokenAndRole(String clubToken, ClubMember.ClubMemberRole role);
@@ -2,9 +2,11 @@ package org.badminton.infrastructure.clubmember;
 
 import org.badminton.domain.domain.club.entity.Club;
 import org.badminton.domain.domain.club.info.ClubCreateInfo;
+import org.badminton.domain.domain.clubmember.ClubMemberAuthorizationCache;
 import org.badminton.domain.domain.clubmember.ClubMemberStore;
 import org.badminton.domain.domain.clubmember.entity.ClubMember;
 import org.badminton.domain.domain.member.entity.Member;
+import org.badminton.infrastructure.club.ClubCatalogCache;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -15,16 +17,23 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClubMemberStoreImpl implements ClubMemberStore {
 	private final ClubMemberRepository clubMemberRepository;
+	private final ClubMemberAuthorizationCache clubMemberAuthorizationCache;
+	private final ClubCatalogCache clubCatalogCache;
 
 	@Override
 	public void store(ClubMember member) {
 		clubMemberRepository.save(member);
+		clubMemberAuthorizationCache.evict(member.getMember().getMemberToken());
+		clubCatalogCache.refresh(member.getClub().getClubId());
 	}
 
 	@Override
 	public ClubMember createClubMember(ClubCreateInfo clubCreateInfo, Member member, ClubMember.ClubMemberRole role) {
 		var club = new Club(clubCreateInfo);
 		var clubMember = new ClubMember(club, member, role);
-		return clubMemberRepository.save(clubMember);
+		ClubMember savedClubMember = clubMemberRepository.save(clubMember);
+		clubMemberAuthorizationCache.evict(member.getMemberToken());
+		clubCatalogCache.refresh(clubCreateInfo.clubId());
+		return savedClubMember;
 	}
 }
@@ -0,0 +1,68 @@
+package org.badminton.infrastructure.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// 값 타입이 정해진 키 공간에서 쓰는 직렬화기다. 클래스 이름을 싣지 않으므로 한 번에 원하는 타입으로 읽는다.
+// 값 앞에 "v{버전}|" 를 붙이고, 다른 버전으로 쓰인 값은 null 로 읽어 캐시 미스로 처리한다.
+public class CompactJsonRedisSerializer<T> implements RedisSerializer<T> {
+
+	private final ObjectWriter writer;
+	private final ObjectReader reader;
+	private final byte[] schemaPrefix;
+
+	CompactJsonRedisSerializer(ObjectMapper compactObjectMapper, JavaType type, String schemaVersion) {
+		this.writer = compactObjectMapper.writerFor(type);
+		this.reader = compactObjectMapper.readerFor(type);
+		this.schemaPrefix = ("v" + schemaVersion + "|").getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public byte[] serialize(T value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+		try {
+			byte[] json = writer.writeValueAsBytes(value);
+			byte[] bytes = Arrays.copyOf(schemaPrefix, schemaPrefix.length + json.length);
+			System.arraycopy(json, 0, bytes, schemaPrefix.length, json.length);
+			return bytes;
+		} catch (IOException e) {
+			throw new SerializationException("Redis 값 직렬화 실패", e);
+		}
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0 || !hasSchemaPrefix(bytes)) {
+			return null;
+		}
+		try {
+			return reader.readValue(bytes, schemaPrefix.length, bytes.length - schemaPrefix.length);
+		} catch (IOException e) {
+			throw new SerializationException("Redis 값 역직렬화 실패", e);
+		}
+	}
+
+	public String encode(T value) {
+		return new String(serialize(value), StandardCharsets.UTF_8);
+	}
+
+	public T decode(String value) {
+		return value == null ? null : deserialize(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private boolean hasSchemaPrefix(byte[] bytes) {
+		return bytes.length >= schemaPrefix.length
+			&& Arrays.equals(bytes, 0, schemaPrefix.length, schemaPrefix, 0, schemaPrefix.length);
+	}
+}
@@ -0,0 +1,110 @@
+package org.badminton.infrastructure.config;
+
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.badminton.domain.domain.club.info.ClubCardInfo;
+import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.match.info.DoublesMatchPlayerInfo;
+import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
+import org.badminton.domain.domain.match.info.SinglesMatchPlayerInfo;
+import org.badminton.domain.domain.match.info.TeamInfo;
+import org.badminton.infrastructure.club.ClubCatalogEntry;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+// Redis 에 캐시하는 record 는 필드 이름 없이 선언 순서대로 배열로 쓴다.
+// 배열만으로는 필드가 바뀐 것을 알 수 없어 타입이 맞으면 다른 필드로 잘못 읽히므로, 값 앞에 저장 형식 버전을 붙인다.
+// 버전은 값 타입이 담는 record 의 필드 이름과 타입을 선언 순서대로 따라가 만든 해시다.
+// 필드를 추가, 삭제, 재배치하면 버전이 저절로 바뀌고, 버전이 다른 값은 없는 값으로 보고 다시 적재한다.
+@Component
+public class CompactRedisSerializers {
+
+	private static final List<Class<?>> ARRAY_SHAPED_TYPES = List.of(
+		ClubCache.class,
+		ClubCardInfo.class,
+		ClubCatalogEntry.class,
+		LeagueSetsScoreInProgressInfo.class,
+		SinglesMatchPlayerInfo.class,
+		DoublesMatchPlayerInfo.class,
+		TeamInfo.class,
+		RedisCacheLoader.CachedValue.class
+	);
+
+	private final ObjectMapper compactObjectMapper;
+	private final Map<JavaType, String> schemaVersions = new ConcurrentHashMap<>();
+
+	public CompactRedisSerializers(ObjectMapper objectMapper) {
+		this.compactObjectMapper = objectMapper.copy();
+		for (Class<?> type : ARRAY_SHAPED_TYPES) {
+			compactObjectMapper.configOverride(type).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.ARRAY));
+		}
+	}
+
+	public <T> CompactJsonRedisSerializer<T> forType(Class<T> type) {
+		return forType(typeFactory().constructType(type));
+	}
+
+	public <T> CompactJsonRedisSerializer<T> forType(TypeReference<T> type) {
+		return forType(typeFactory().constructType(type));
+	}
+
+	public <T> CompactJsonRedisSerializer<T> forType(JavaType type) {
+		return new CompactJsonRedisSerializer<>(compactObjectMapper, type, schemaVersion(type));
+	}
+
+	public String schemaVersion(Class<?> type) {
+		return schemaVersion(typeFactory().constructType(type));
+	}
+
+	public String schemaVersion(JavaType type) {
+		return schemaVersions.computeIfAbsent(type, key -> {
+			StringBuilder shape = new StringBuilder();
+			appendShape(key, shape, new HashSet<>());
+			CRC32 crc = new CRC32();
+			crc.update(shape.toString().getBytes(StandardCharsets.UTF_8));
+			return Long.toHexString(crc.getValue());
+		});
+	}
+
+	public TypeFactory typeFactory() {
+		return compactObjectMapper.getTypeFactory();
+	}
+
+	// 제네릭 인자(List 의 원소, CachedValue 의 값)와 record 필드 타입까지 따라가며 모양을 적는다.
+	private void appendShape(JavaType type, StringBuilder shape, Set<JavaType> visiting) {
+		Class<?> rawType = type.getRawClass();
+		shape.append(rawType.getName());
+		if (type.containedTypeCount() > 0) {
+			shape.append('<');
+			for (int i = 0; i < type.containedTypeCount(); i++) {
+				appendShape(type.containedType(i), shape, visiting);
+				shape.append(',');
+			}
+			shape.append('>');
+		}
+		if (!rawType.isRecord() || !visiting.add(type)) {
+			return;
+		}
+		shape.append('(');
+		for (RecordComponent component : rawType.getRecordComponents()) {
+			shape.append(component.getName()).append(':');
+			appendShape(typeFactory().resolveMemberType(component.getGenericType(), type.getBindings()), shape,
+				visiting);
+			shape.append(';');
+		}
+		shape.append(')');
+		visiting.remove(type);
+	}
+}
@@ -0,0 +1,91 @@
+package org.badminton.infrastructure.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+// 로컬 Caffeine(L1) 을 Redis 캐시(L2) 앞에 둔 캐시다.
+// 값을 쓰거나 지우면 NearCacheInvalidation 이 다른 서버에 알려 그 서버의 L1 에서도 지운다.
+public class NearCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+	private final Cache redisCache;
+	private final NearCacheInvalidation nearCacheInvalidation;
+
+	NearCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache, Cache redisCache,
+		NearCacheInvalidation nearCacheInvalidation) {
+		super(false);
+		this.name = name;
+		this.localCache = localCache;
+		this.redisCache = redisCache;
+		this.nearCacheInvalidation = nearCacheInvalidation;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		String localKey = toLocalKey(key);
+		Object value = localCache.getIfPresent(localKey);
+		if (value != null) {
+			return value;
+		}
+		ValueWrapper valueWrapper = redisCache.get(key);
+		if (valueWrapper == null || valueWrapper.get() == null) {
+			return null;
+		}
+		localCache.put(localKey, valueWrapper.get());
+		return valueWrapper.get();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		return (T)localCache.get(toLocalKey(key), localKey -> redisCache.get(key, valueLoader));
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (value == null) {
+			evict(key);
+			return;
+		}
+		String localKey = toLocalKey(key);
+		redisCache.put(key, value);
+		localCache.put(localKey, value);
+		nearCacheInvalidation.evictOthers(name, localKey);
+	}
+
+	@Override
+	public void evict(Object key) {
+		// 커밋 전에 지우면 다른 요청이 변경 전 데이터를 다시 적재할 수 있으므로 커밋 이후에 지운다.
+		NearCacheInvalidation.afterCommit(() -> {
+			redisCache.evict(key);
+			localCache.invalidate(toLocalKey(key));
+		});
+		nearCacheInvalidation.evictOthers(name, toLocalKey(key));
+	}
+
+	@Override
+	public void clear() {
+		NearCacheInvalidation.afterCommit(() -> {
+			redisCache.clear();
+			localCache.invalidateAll();
+		});
+		nearCacheInvalidation.clearOthers(name);
+	}
+
+	private String toLocalKey(Object key) {
+		return String.valueOf(key);
+	}
+}
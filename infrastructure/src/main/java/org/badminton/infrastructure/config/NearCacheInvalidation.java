@@ -0,0 +1,96 @@
+package org.badminton.infrastructure.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// Redis 앞에 두는 서버 로컬 L1 캐시와 서버 간 L1 무효화를 한 곳에서 관리한다.
+// 값을 쓰거나 지운 서버는 자기 L1 을 직접 고치고, 다른 서버에는 트랜잭션 안이면 커밋 이후에 알린다.
+// 메시지를 놓치더라도 L1 은 영역마다 정한 TTL 이 지나면 Redis 에서 다시 읽는다.
+@Component
+@RequiredArgsConstructor
+public class NearCacheInvalidation implements MessageListener {
+
+	private static final String INVALIDATION_CHANNEL = "NEAR_CACHE_INVALIDATION";
+	private static final String MESSAGE_DELIMITER = ":";
+	private static final String EVICT = "E";
+	private static final String CLEAR = "C";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, Cache<String, Object>> regions = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	private void init() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	public Cache<String, Object> region(String region, Duration ttl, long maximumSize) {
+		return regions.computeIfAbsent(region, name -> Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(ttl)
+			.build());
+	}
+
+	public void evictOthers(String region, String key) {
+		afterCommit(() -> publish(String.join(MESSAGE_DELIMITER, nodeId, region, EVICT, key)));
+	}
+
+	public void clearOthers(String region) {
+		afterCommit(() -> publish(String.join(MESSAGE_DELIMITER, nodeId, region, CLEAR)));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_DELIMITER, 4);
+		// 자기가 보낸 메시지는 이미 로컬에 반영했으므로 무시한다.
+		if (nodeId.equals(parts[0])) {
+			return;
+		}
+		Cache<String, Object> localCache = regions.get(parts[1]);
+		if (localCache == null) {
+			return;
+		}
+		if (CLEAR.equals(parts[2])) {
+			localCache.invalidateAll();
+			return;
+		}
+		localCache.invalidate(parts[3]);
+	}
+
+	static void afterCommit(Runnable runnable) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					runnable.run();
+				}
+			});
+			return;
+		}
+		runnable.run();
+	}
+
+	private void publish(String message) {
+		stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+	}
+}
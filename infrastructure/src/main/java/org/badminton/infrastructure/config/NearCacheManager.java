@@ -0,0 +1,46 @@
+package org.badminton.infrastructure.config;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+// RedisCacheManager 의 캐시마다 NearCacheInvalidation 의 L1 영역을 붙여 NearCache 로 돌려준다.
+public class NearCacheManager implements CacheManager {
+
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(30);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 10_000;
+
+	private final RedisCacheManager redisCacheManager;
+	private final NearCacheInvalidation nearCacheInvalidation;
+	private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+
+	public NearCacheManager(RedisCacheManager redisCacheManager, NearCacheInvalidation nearCacheInvalidation) {
+		this.redisCacheManager = redisCacheManager;
+		this.nearCacheInvalidation = nearCacheInvalidation;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return caches.computeIfAbsent(name, this::createCache);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return redisCacheManager.getCacheNames();
+	}
+
+	private NearCache createCache(String name) {
+		Cache redisCache = redisCacheManager.getCache(name);
+		if (redisCache == null) {
+			return null;
+		}
+		return new NearCache(name,
+			nearCacheInvalidation.region(name, LOCAL_CACHE_TTL, LOCAL_CACHE_MAXIMUM_SIZE), redisCache,
+			nearCacheInvalidation);
+	}
+}
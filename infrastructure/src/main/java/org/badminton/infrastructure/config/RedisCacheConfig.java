@@ -2,23 +2,31 @@ package org.badminton.infrastructure.config;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 
+import org.badminton.domain.domain.club.vo.ClubCache;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
 @Configuration
 public class RedisCacheConfig {
 
+	public static final String CLUB_LEADERBOARD_CACHE = "clubLeaderboard";
+
 	@Value("${spring.data.redis.host}")
 	private String redisHost;
 
@@ -34,7 +42,8 @@ public class RedisCacheConfig {
 	}
 
 	@Bean
-	public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+	public NearCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+		CompactRedisSerializers compactRedisSerializers, NearCacheInvalidation nearCacheInvalidation) {
 		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
 			.disableCachingNullValues()
 			.entryTtl(Duration.ofMinutes(30))
@@ -46,12 +55,22 @@ public class RedisCacheConfig {
 		HashMap<String, RedisCacheConfiguration> configMap = new HashMap<>();
 		configMap.put("userAgeCache", RedisCacheConfiguration.defaultCacheConfig()
 			.entryTtl(Duration.ofMinutes(30)));
+		// 순위표 페이지는 버전이 붙은 키로 읽으므로 TTL 은 지난 버전 페이지가 남는 시간이자 방문 수 반영 지연의 상한이다.
+		configMap.put(CLUB_LEADERBOARD_CACHE, configuration
+			.entryTtl(Duration.ofMinutes(1))
+			.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+				compactRedisSerializers.forType(new TypeReference<List<ClubCache>>() {
+				}))));
 
-		return RedisCacheManager
+		// 캐시를 비울 때 KEYS 대신 SCAN 으로 키를 찾는다.
+		RedisCacheManager redisCacheManager = RedisCacheManager
 			.RedisCacheManagerBuilder
-			.fromConnectionFactory(connectionFactory)
+			.fromCacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
 			.cacheDefaults(configuration)
 			.withInitialCacheConfigurations(configMap)
 			.build();
+		// 빈으로 등록되지 않으므로 초기 캐시 설정을 직접 적재한다.
+		redisCacheManager.afterPropertiesSet();
+		return new NearCacheManager(redisCacheManager, nearCacheInvalidation);
 	}
 }
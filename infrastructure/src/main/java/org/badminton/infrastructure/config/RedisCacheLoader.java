@@ -0,0 +1,221 @@
+package org.badminton.infrastructure.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 조회 결과를 Redis 에 캐시하면서 만료 순간 여러 요청이 한꺼번에 DB 로 몰리지 않게 한다.
+// - 값이 없으면 서버 안에서는 키마다 한 요청만, 서버 사이에서는 Redisson 락을 잡은 한 서버만 적재한다.
+// - 만료가 가까울수록 높은 확률로 한 요청이 미리 백그라운드 갱신을 시작한다.
+// - 만료 후 staleTtl 동안은 이전 값을 돌려주면서 백그라운드에서 갱신한다.
+// - Redis 에서 읽은 값은 NearCacheInvalidation 의 L1 영역에도 잠깐 두고, 다른 서버가 값을 새로 쓰면 그 서버의 L1 에서 지운다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCacheLoader {
+
+	private static final String LOCK_KEY_PREFIX = "CACHE_LOAD_LOCK_";
+	private static final Duration LOCK_WAIT = Duration.ofSeconds(3);
+	private static final Duration LOCK_LEASE = Duration.ofSeconds(10);
+	private static final double EARLY_REFRESH_BETA = 1.0;
+	private static final int REFRESH_THREAD_COUNT = 2;
+	private static final String LOCAL_CACHE_REGION = "redisCacheLoader";
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(5);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 1_000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedissonClient redissonClient;
+	private final CompactRedisSerializers compactRedisSerializers;
+	private final NearCacheInvalidation nearCacheInvalidation;
+
+	private Cache<String, Object> localCache;
+
+	private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+	private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+	private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(REFRESH_THREAD_COUNT);
+
+	@PostConstruct
+	private void init() {
+		localCache = nearCacheInvalidation.region(LOCAL_CACHE_REGION, LOCAL_CACHE_TTL, LOCAL_CACHE_MAXIMUM_SIZE);
+	}
+
+	@PreDestroy
+	private void shutdown() {
+		refreshExecutor.shutdown();
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key, TypeReference<T> type, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+		JavaType valueType = compactRedisSerializers.typeFactory().constructType(type);
+		CachedValue<T> cachedValue = (CachedValue<T>)localCache.getIfPresent(key);
+		if (cachedValue == null) {
+			cachedValue = read(key, valueType);
+		}
+		if (cachedValue == null) {
+			return loadOnce(key, valueType, ttl, staleTtl, loader);
+		}
+		if (shouldRefresh(cachedValue)) {
+			refreshInBackground(key, valueType, ttl, staleTtl, loader);
+		}
+		return cachedValue.value();
+	}
+
+	// 원본이 바뀐 것을 알고 있을 때 캐시를 바로 다시 채운다.
+	public <T> T refresh(String key, TypeReference<T> type, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+		JavaType valueType = compactRedisSerializers.typeFactory().constructType(type);
+		return loadAndWrite(key, valueType, ttl, staleTtl, loader);
+	}
+
+	// 남은 시간이 적재에 걸린 시간에 비해 짧을수록 미리 갱신할 확률이 높아진다.
+	private boolean shouldRefresh(CachedValue<?> cachedValue) {
+		long now = System.currentTimeMillis();
+		double earlyMillis = -cachedValue.loadMillis() * EARLY_REFRESH_BETA
+			* Math.log(ThreadLocalRandom.current().nextDouble());
+		return now + earlyMillis >= cachedValue.expiresAt();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T loadOnce(String key, JavaType valueType, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+		if (inFlightLoad != null) {
+			return (T)join(inFlightLoad);
+		}
+		try {
+			T value = loadWithLock(key, valueType, ttl, staleTtl, loader);
+			load.complete(value);
+			return value;
+		} catch (RuntimeException exception) {
+			load.completeExceptionally(exception);
+			throw exception;
+		} finally {
+			inFlightLoads.remove(key, load);
+		}
+	}
+
+	private <T> T loadWithLock(String key, JavaType valueType, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+		RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + key);
+		try {
+			lock.tryLock(LOCK_WAIT.toMillis(), LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS);
+			// 락을 기다리는 동안 다른 서버가 채웠다면 그 값을 쓴다. 락을 얻지 못했어도 값이 없으면 직접 적재한다.
+			CachedValue<T> cachedValue = read(key, valueType);
+			if (cachedValue != null) {
+				return cachedValue.value();
+			}
+			return loadAndWrite(key, valueType, ttl, staleTtl, loader);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return loader.get();
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private <T> void refreshInBackground(String key, JavaType valueType, Duration ttl, Duration staleTtl,
+		Supplier<T> loader) {
+		if (!refreshingKeys.add(key)) {
+			return;
+		}
+		CompletableFuture.runAsync(() -> {
+			RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + key);
+			try {
+				// 다른 서버가 이미 갱신 중이면 그 결과를 기다리지 않고 넘어간다.
+				if (lock.tryLock(0, LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+					loadAndWrite(key, valueType, ttl, staleTtl, loader);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				log.warn("캐시 백그라운드 갱신 실패 key: {}", key, e);
+			} finally {
+				if (lock.isHeldByCurrentThread()) {
+					lock.unlock();
+				}
+				refreshingKeys.remove(key);
+			}
+		}, refreshExecutor);
+	}
+
+	private <T> T loadAndWrite(String key, JavaType valueType, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+		long startedAt = System.currentTimeMillis();
+		T value = loader.get();
+		long loadedAt = System.currentTimeMillis();
+		CachedValue<T> cachedValue = new CachedValue<>(value, loadedAt - startedAt, loadedAt + ttl.toMillis());
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(key, cachedValueSerializer(valueType).encode(cachedValue), ttl.plus(staleTtl));
+			localCache.put(key, cachedValue);
+			nearCacheInvalidation.evictOthers(LOCAL_CACHE_REGION, key);
+		} catch (SerializationException e) {
+			log.warn("캐시 직렬화 실패 key: {}", key, e);
+		}
+		return value;
+	}
+
+	private <T> CachedValue<T> read(String key, JavaType valueType) {
+		String json = stringRedisTemplate.opsForValue().get(key);
+		if (json == null) {
+			return null;
+		}
+		try {
+			CachedValue<T> cachedValue = this.<T>cachedValueSerializer(valueType).decode(json);
+			// 저장 형식 버전이 다른 값은 없는 것으로 보고 다시 적재한다.
+			if (cachedValue == null) {
+				return null;
+			}
+			localCache.put(key, cachedValue);
+			return cachedValue;
+		} catch (SerializationException e) {
+			log.warn("캐시 역직렬화 실패 key: {}", key, e);
+			return null;
+		}
+	}
+
+	private <T> CompactJsonRedisSerializer<CachedValue<T>> cachedValueSerializer(JavaType valueType) {
+		return compactRedisSerializers.forType(
+			compactRedisSerializers.typeFactory().constructParametricType(CachedValue.class, valueType));
+	}
+
+	private Object join(CompletableFuture<Object> load) {
+		try {
+			return load.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw exception;
+		}
+	}
+
+	record CachedValue<T>(
+		T value,
+		long loadMillis,
+		long expiresAt
+	) {
+	}
+}
@@ -1,10 +1,11 @@
 package org.badminton.infrastructure.config;
 
+import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -31,22 +32,23 @@ public class RedisConfig {
 		return objectMapper;
 	}
 
+	// 진행 중인 세트 점수 키 공간은 값 타입이 정해져 있으므로 타입 정보 없이 저장하고 바로 읽는다.
 	@Bean
-	public RedisTemplate<String, Object> redisTemplate(
+	public RedisTemplate<String, LeagueSetsScoreInProgressInfo> inProgressSetRedisTemplate(
 		RedisConnectionFactory connectionFactory,
-		ObjectMapper objectMapper
+		CompactRedisSerializers compactRedisSerializers
 	) {
-		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		RedisTemplate<String, LeagueSetsScoreInProgressInfo> redisTemplate = new RedisTemplate<>();
 		redisTemplate.setConnectionFactory(connectionFactory);
-
-		// Value 를 JSON 으로 저장
-		GenericJackson2JsonRedisSerializer valueSerializer =
-			new GenericJackson2JsonRedisSerializer(objectMapper);
-
-		// Key 를 문자열로 저장
 		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(valueSerializer);
-
+		redisTemplate.setValueSerializer(compactRedisSerializers.forType(LeagueSetsScoreInProgressInfo.class));
 		return redisTemplate;
 	}
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
 }
@@ -0,0 +1,90 @@
+package org.badminton.infrastructure.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 키마다 Redis 에 버전을 두고, 버전을 올리면 모든 서버의 리스너에게 새 버전을 알린다.
+// 로컬 캐시는 적재할 때 읽은 버전을 함께 보관하고, 더 높은 버전을 받으면 그 항목을 버린다.
+public class VersionedInvalidation implements MessageListener {
+
+	private static final String MESSAGE_DELIMITER = ":";
+
+	private final String versionKeyPrefix;
+	private final String channel;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	VersionedInvalidation(String versionKeyPrefix, String channel, StringRedisTemplate stringRedisTemplate) {
+		this.versionKeyPrefix = versionKeyPrefix;
+		this.channel = channel;
+		this.stringRedisTemplate = stringRedisTemplate;
+	}
+
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	public long current(String key) {
+		String version = stringRedisTemplate.opsForValue().get(versionKeyPrefix + key);
+		return version == null ? 0L : Long.parseLong(version);
+	}
+
+	// 커밋 전에 올리면 다른 요청이 변경 전 데이터를 새 버전으로 적재할 수 있으므로 커밋 이후에 올린다.
+	// 한 트랜잭션에서 같은 키를 여러 번 올려도 한 번만 올린다.
+	@SuppressWarnings("unchecked")
+	public void bump(String key) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			increment(key);
+			return;
+		}
+		Set<String> pendingKeys = (Set<String>)TransactionSynchronizationManager.getResource(this);
+		if (pendingKeys == null) {
+			Set<String> keys = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, keys);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					keys.forEach(VersionedInvalidation.this::increment);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(VersionedInvalidation.this);
+				}
+			});
+			pendingKeys = keys;
+		}
+		pendingKeys.add(key);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+		long version = Long.parseLong(body.substring(0, delimiterIndex));
+		notifyListeners(body.substring(delimiterIndex + 1), version);
+	}
+
+	private void increment(String key) {
+		Long version = stringRedisTemplate.opsForValue().increment(versionKeyPrefix + key);
+		notifyListeners(key, version);
+		stringRedisTemplate.convertAndSend(channel, version + MESSAGE_DELIMITER + key);
+	}
+
+	private void notifyListeners(String key, long version) {
+		listeners.forEach(listener -> listener.onVersionChanged(key, version));
+	}
+
+	public interface Listener {
+		void onVersionChanged(String key, long version);
+	}
+}
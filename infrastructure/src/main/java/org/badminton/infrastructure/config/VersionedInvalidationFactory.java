@@ -0,0 +1,23 @@
+package org.badminton.infrastructure.config;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class VersionedInvalidationFactory {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	public VersionedInvalidation create(String versionKeyPrefix, String channel) {
+		VersionedInvalidation versionedInvalidation = new VersionedInvalidation(versionKeyPrefix, channel,
+			stringRedisTemplate);
+		redisMessageListenerContainer.addMessageListener(versionedInvalidation, new ChannelTopic(channel));
+		return versionedInvalidation;
+	}
+}
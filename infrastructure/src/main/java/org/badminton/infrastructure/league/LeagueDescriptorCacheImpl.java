@@ -0,0 +1,73 @@
+package org.badminton.infrastructure.league;
+
+import java.time.Duration;
+
+import org.badminton.domain.common.exception.league.LeagueNotExistException;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
+import org.badminton.domain.domain.league.info.LeagueDescriptorInfo;
+import org.badminton.infrastructure.config.VersionedInvalidation;
+import org.badminton.infrastructure.config.VersionedInvalidationFactory;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 매치 요청마다 필요한 리그의 매치 타입, 생성 타입, 라운드 수, 상태를 리그 단위로 캐시한다.
+@Component
+@RequiredArgsConstructor
+public class LeagueDescriptorCacheImpl implements LeagueDescriptorCache {
+
+	private static final String VERSION_KEY_PREFIX = "LEAGUE_DESCRIPTOR_VERSION_";
+	private static final String INVALIDATION_CHANNEL = "LEAGUE_DESCRIPTOR_INVALIDATION";
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofMinutes(10);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 10_000;
+
+	private final LeagueRepository leagueRepository;
+	private final BracketVersion bracketVersion;
+	private final VersionedInvalidationFactory versionedInvalidationFactory;
+
+	private final Cache<Long, CachedDescriptor> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+		.expireAfterWrite(LOCAL_CACHE_TTL)
+		.build();
+
+	private VersionedInvalidation descriptorVersion;
+
+	@PostConstruct
+	private void init() {
+		descriptorVersion = versionedInvalidationFactory.create(VERSION_KEY_PREFIX, INVALIDATION_CHANNEL);
+		descriptorVersion.addListener((leagueId, version) -> invalidateOlderThan(Long.parseLong(leagueId), version));
+		// 경기 시작, 종료처럼 매치 저장과 함께 바뀌는 리그 상태는 대진표 버전이 오를 때 함께 무효화한다.
+		bracketVersion.addListener((leagueId, version) -> localCache.invalidate(leagueId));
+	}
+
+	@Override
+	public LeagueDescriptorInfo getDescriptor(Long leagueId) {
+		return localCache.get(leagueId, this::load).descriptor();
+	}
+
+	@Override
+	public void evict(Long leagueId) {
+		descriptorVersion.bump(String.valueOf(leagueId));
+	}
+
+	// 이미 새 버전으로 다시 적재된 항목은 그대로 둔다.
+	private void invalidateOlderThan(Long leagueId, long version) {
+		localCache.asMap().computeIfPresent(leagueId,
+			(key, cachedDescriptor) -> cachedDescriptor.version() < version ? null : cachedDescriptor);
+	}
+
+	private CachedDescriptor load(Long leagueId) {
+		long version = descriptorVersion.current(String.valueOf(leagueId));
+		LeagueDescriptorInfo descriptor = leagueRepository.findLeagueDescriptorByLeagueId(leagueId)
+			.orElseThrow(() -> new LeagueNotExistException(leagueId));
+		return new CachedDescriptor(version, descriptor);
+	}
+
+	private record CachedDescriptor(long version, LeagueDescriptorInfo descriptor) {
+	}
+}
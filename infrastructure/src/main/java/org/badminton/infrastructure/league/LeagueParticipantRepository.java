@@ -5,7 +5,11 @@ import java.util.Optional;
 
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.league.vo.LeagueParticipantCount;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LeagueParticipantRepository extends JpaRepository<LeagueParticipant, Long> {
 
@@ -20,7 +24,26 @@ public interface LeagueParticipantRepository extends JpaRepository<LeaguePartici
 
 	int countByLeague(League league);
 
+	@Query("""
+		SELECT new org.badminton.domain.domain.league.vo.LeagueParticipantCount(participant.league.leagueId, COUNT(participant))
+		FROM LeagueParticipant participant
+		WHERE participant.league.leagueId IN (:leagueIds)
+		  AND participant.canceled = false
+		GROUP BY participant.league.leagueId
+		""")
+	List<LeagueParticipantCount> countParticipantsByLeagueIds(@Param("leagueIds") List<Long> leagueIds);
+
+	@Query("""
+		SELECT participant.member.memberToken
+		FROM LeagueParticipant participant
+		WHERE participant.league.leagueId = :leagueId
+		  AND participant.canceled = false
+		""")
+	List<String> findMemberTokensByLeagueId(@Param("leagueId") Long leagueId);
+
 	boolean existsByMemberIdAndLeagueLeagueId(Long memberId, Long leagueId);
 
+	// 승자 배정이 영속성 컨텍스트를 비우므로 이후에 쓰는 연관 엔티티를 함께 읽어 둔다.
+	@EntityGraph(attributePaths = {"league", "member"})
 	List<LeagueParticipant> findAllByClubMemberClubMemberIdAndCanceledIsFalse(Long clubMemberId);
 }
@@ -8,11 +8,13 @@ import org.badminton.domain.common.enums.MatchGenerationType;
 import org.badminton.domain.common.exception.league.LeagueAlreadyCanceledException;
 import org.badminton.domain.common.exception.league.LeagueCreationWithin3HoursException;
 import org.badminton.domain.common.exception.league.LeagueNotExistException;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.league.LeagueReader;
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.enums.AllowedLeagueStatus;
 import org.badminton.domain.domain.league.enums.LeagueStatus;
 import org.badminton.domain.domain.league.enums.Region;
+import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -25,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LeagueReaderImpl implements LeagueReader {
 	private final LeagueRepository leagueRepository;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 
 	@Override
 	public League readLeague(String clubToken, Long leagueId) {
@@ -61,9 +64,7 @@ public class LeagueReaderImpl implements LeagueReader {
 
 	@Override
 	public MatchGenerationType getMatchGenerationTypeByLeagueId(Long leagueId) {
-		return leagueRepository.getMatchGenerationTypeByLeagueId(leagueId).orElseThrow(
-			() -> new LeagueNotExistException(leagueId)
-		);
+		return leagueDescriptorCache.getDescriptor(leagueId).matchGenerationType();
 	}
 
 	@Override
@@ -84,53 +85,13 @@ public class LeagueReaderImpl implements LeagueReader {
 	}
 
 	@Override
-	public Page<League> readLeagueStatusIsNotAllAndRegionIsNotAll(AllowedLeagueStatus leagueStatus, Region region,
-		LocalDate date, Pageable pageable) {
+	public Page<OngoingAndUpcomingLeagueInfo> readOngoingAndUpcomingLeagues(AllowedLeagueStatus leagueStatus,
+		Region region, LocalDate date, Pageable pageable) {
 		LocalDateTime startOfDay = date.atStartOfDay();
 		LocalDateTime endOfDay = date.atTime(23, 59, 59, 9);
-
-		return leagueRepository.findAllByLeagueAtBetweenAndLeagueStatusAndAddressRegion(
-			startOfDay,
-			endOfDay,
-			leagueStatus.getStatus(),
-			Region.getNameByCode(region.name()),
-			pageable
-		);
-	}
-
-	@Override
-	public Page<League> readLeagueStatusIsAllAndRegionIsNotAll(Region region, LocalDate date, Pageable pageable) {
-		LocalDateTime startOfDay = date.atStartOfDay();
-		LocalDateTime endOfDay = date.atTime(23, 59, 59, 9);
-		return leagueRepository.findAllByLeagueAtBetweenAndAddressRegion(
-			startOfDay,
-			endOfDay,
-			Region.getNameByCode(region.name()),
-			pageable
-		);
-	}
-
-	@Override
-	public Page<League> readLeagueStatusIsNotAllAndRegionIsAll(AllowedLeagueStatus leagueStatus, LocalDate date,
-		Pageable pageable) {
-		LocalDateTime startOfDay = date.atStartOfDay();
-		LocalDateTime endOfDay = date.atTime(23, 59, 59, 9);
-		return leagueRepository.findAllByLeagueAtBetweenAndLeagueStatus(
-			startOfDay,
-			endOfDay,
-			leagueStatus.getStatus(),
-			pageable
-		);
-	}
-
-	@Override
-	public Page<League> readLeagueStatusIsAllAndRegionIsAll(LocalDate date, Pageable pageable) {
-		LocalDateTime startOfDay = date.atStartOfDay();
-		LocalDateTime endOfDay = date.atTime(23, 59, 59, 9);
-		return leagueRepository.findAllByLeagueAtBetween(
-			startOfDay,
-			endOfDay,
-			pageable
-		);
+		LeagueStatus statusCondition = leagueStatus == AllowedLeagueStatus.ALL ? null : leagueStatus.getStatus();
+		String regionCondition = region == Region.ALL ? null : Region.getNameByCode(region.name());
+		return leagueRepository.findOngoingAndUpcomingLeagues(startOfDay, endOfDay, statusCondition,
+			regionCondition, pageable);
 	}
 }
@@ -1,5 +1,7 @@
 package org.badminton.infrastructure.league;
 
+import java.util.List;
+
 import org.badminton.domain.domain.league.LeagueRecordReader;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.springframework.stereotype.Component;
@@ -17,4 +19,9 @@ public class LeagueRecordReaderImpl implements LeagueRecordReader {
 	public LeagueRecord getLeagueRecord(String memberToken) {
 		return leagueRecordRepository.findByMemberMemberToken(memberToken).orElse(null);
 	}
+
+	@Override
+	public List<LeagueRecord> getLeagueRecordsWithMember(List<String> memberTokens) {
+		return leagueRecordRepository.findAllWithMemberByMemberTokens(memberTokens);
+	}
 }
@@ -1,14 +1,32 @@
 package org.badminton.infrastructure.league;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LeagueRecordRepository extends JpaRepository<LeagueRecord, Long> {
 	Optional<LeagueRecord> findByMember(Member member);
 
 	Optional<LeagueRecord> findByMemberMemberToken(String memberToken);
 
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		UPDATE LeagueRecord record
+		SET record.winCount = record.winCount + :winCount,
+			record.loseCount = record.loseCount + :loseCount,
+			record.drawCount = record.drawCount + :drawCount,
+			record.matchCount = record.matchCount + 1
+		WHERE record.member.id = (SELECT m.id FROM Member m WHERE m.memberToken = :memberToken)
+		""")
+	int increaseRecord(@Param("memberToken") String memberToken, @Param("winCount") int winCount,
+		@Param("loseCount") int loseCount, @Param("drawCount") int drawCount);
+
+	@Query("SELECT record FROM LeagueRecord record JOIN FETCH record.member m WHERE m.memberToken IN :memberTokens")
+	List<LeagueRecord> findAllWithMemberByMemberTokens(@Param("memberTokens") List<String> memberTokens);
 }
\ No newline at end of file
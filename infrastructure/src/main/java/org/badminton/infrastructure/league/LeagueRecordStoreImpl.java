@@ -1,5 +1,7 @@
 package org.badminton.infrastructure.league;
 
+import org.badminton.domain.common.enums.MatchResult;
+import org.badminton.domain.common.exception.league.LeagueRecordNotExistException;
 import org.badminton.domain.domain.league.LeagueRecordStore;
 import org.badminton.domain.domain.league.entity.LeagueRecord;
 import org.badminton.domain.domain.member.entity.Member;
@@ -24,4 +26,16 @@ public class LeagueRecordStoreImpl implements LeagueRecordStore {
 	public void store(LeagueRecord leagueRecord) {
 		leagueRecordRepository.save(leagueRecord);
 	}
+
+	@Override
+	public void increaseRecord(String memberToken, MatchResult matchResult) {
+		int updatedCount = leagueRecordRepository.increaseRecord(memberToken,
+			matchResult == MatchResult.WIN ? 1 : 0,
+			matchResult == MatchResult.LOSE ? 1 : 0,
+			matchResult == MatchResult.DRAW ? 1 : 0);
+		// 전적 행이 없으면 경기 결과가 조용히 사라지므로 트랜잭션을 되돌린다.
+		if (updatedCount != 1) {
+			throw new LeagueRecordNotExistException(memberToken);
+		}
+	}
 }
@@ -4,16 +4,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import org.badminton.domain.common.enums.MatchGenerationType;
+import org.badminton.domain.domain.league.LeagueRepositoryCustom;
 import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.info.LeagueDescriptorInfo;
+import org.badminton.domain.domain.league.vo.LeagueStatusCandidate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface LeagueRepository extends JpaRepository<League, Long> {
+public interface LeagueRepository extends JpaRepository<League, Long>, LeagueRepositoryCustom {
 
 	Optional<League> findByClubClubTokenAndLeagueId(String clubToken, Long leagueId);
 
@@ -24,44 +27,72 @@ public interface LeagueRepository extends JpaRepository<League, Long> {
 
 	Integer countByClubClubIdAndLeagueStatus(Long clubId, LeagueStatus leagueStatus);
 
-	@Query("SELECT league.matchGenerationType FROM League league WHERE league.leagueId = :leagueId")
-	Optional<MatchGenerationType> getMatchGenerationTypeByLeagueId(@Param("leagueId") Long leagueId);
-
-	Page<League> findAllByLeagueAtBetweenAndLeagueStatusAndAddressRegion(
-		LocalDateTime leagueAt,
-		LocalDateTime endOfDay,
-		LeagueStatus leagueStatus,
-		String addressRegion,
+	@Query("""
+		SELECT new org.badminton.domain.domain.league.info.LeagueDescriptorInfo(
+			league.leagueId, league.matchType, league.matchGenerationType, league.totalRounds, league.leagueStatus)
+		FROM League league
+		WHERE league.leagueId = :leagueId
+		""")
+	Optional<LeagueDescriptorInfo> findLeagueDescriptorByLeagueId(@Param("leagueId") Long leagueId);
+
+	@Query("""
+		SELECT league
+		FROM League league
+		WHERE league.leagueAt < :leagueAt
+		  AND league.leagueStatus NOT IN (:excludedStatuses)
+		  AND league.leagueId > :lastLeagueId
+		ORDER BY league.leagueId ASC
+		""")
+	List<League> findAllByLeagueAtBeforeAndLeagueIdAfter(
+		@Param("leagueAt") LocalDateTime leagueAt,
+		@Param("excludedStatuses") List<LeagueStatus> excludedStatuses,
+		@Param("lastLeagueId") Long lastLeagueId,
 		Pageable pageable
 	);
 
-	Page<League> findAllByLeagueAtBetweenAndAddressRegion(
-		LocalDateTime startOfDay,
-		LocalDateTime endOfDay,
-		String nameByCode,
-		Pageable pageable
+	@Query("SELECT MIN(league.leagueId) FROM League league WHERE league.recruitingClosedAt < :currentTime AND league.leagueStatus NOT IN (:excludedStatuses)")
+	Long findMinLeagueIdByRecruitingClosedAtBefore(
+		@Param("currentTime") LocalDateTime currentTime,
+		@Param("excludedStatuses") List<LeagueStatus> excludedStatuses
 	);
 
-	Page<League> findAllByLeagueAtBetweenAndLeagueStatus(
-		LocalDateTime startOfDay,
-		LocalDateTime endOfDay,
-		LeagueStatus status,
-		Pageable pageable
+	@Query("SELECT MAX(league.leagueId) FROM League league WHERE league.recruitingClosedAt < :currentTime AND league.leagueStatus NOT IN (:excludedStatuses)")
+	Long findMaxLeagueIdByRecruitingClosedAtBefore(
+		@Param("currentTime") LocalDateTime currentTime,
+		@Param("excludedStatuses") List<LeagueStatus> excludedStatuses
 	);
 
-	Page<League> findAllByLeagueAtBetween(
-		LocalDateTime startOfDay,
-		LocalDateTime endOfDay,
+	@Query("""
+		SELECT new org.badminton.domain.domain.league.vo.LeagueStatusCandidate(
+		    league.leagueId, league.leagueStatus, league.matchType, league.matchGenerationType, league.leagueAt
+		)
+		FROM League league
+		WHERE league.recruitingClosedAt < :currentTime
+		  AND league.leagueStatus NOT IN (:excludedStatuses)
+		  AND league.leagueId > :lastLeagueId
+		  AND league.leagueId <= :maxLeagueId
+		ORDER BY league.leagueId ASC
+		""")
+	List<LeagueStatusCandidate> findStatusCandidatesByRecruitingClosedAtBefore(
+		@Param("currentTime") LocalDateTime currentTime,
+		@Param("excludedStatuses") List<LeagueStatus> excludedStatuses,
+		@Param("lastLeagueId") Long lastLeagueId,
+		@Param("maxLeagueId") Long maxLeagueId,
 		Pageable pageable
 	);
 
-	@Query("SELECT league FROM League league WHERE league.leagueAt < :yesterday")
-	List<League> findAllByLeagueAtBefore(@Param("yesterday") LocalDateTime yesterday);
-
-	@Query("SELECT league FROM League league WHERE league.recruitingClosedAt < :currentTime AND league.leagueStatus NOT IN (:excludedStatuses)")
-	List<League> findAllByRecruitingClosedAtAfter(
-		@Param("currentTime") LocalDateTime currentTime,
-		@Param("excludedStatuses") List<LeagueStatus> excludedStatuses
+	@Modifying
+	@Query("""
+		UPDATE League league
+		SET league.leagueStatus = :toStatus, league.modifiedAt = :modifiedAt
+		WHERE league.leagueId IN (:leagueIds)
+		  AND league.leagueStatus = :fromStatus
+		""")
+	int updateLeagueStatusByLeagueIds(
+		@Param("leagueIds") List<Long> leagueIds,
+		@Param("fromStatus") LeagueStatus fromStatus,
+		@Param("toStatus") LeagueStatus toStatus,
+		@Param("modifiedAt") LocalDateTime modifiedAt
 	);
 
 	boolean existsByLeagueOwnerMemberTokenAndLeagueAtBetween(
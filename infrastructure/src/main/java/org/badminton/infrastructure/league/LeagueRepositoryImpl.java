@@ -0,0 +1,102 @@
+package org.badminton.infrastructure.league;
+
+import static org.badminton.domain.domain.club.entity.QClub.club;
+import static org.badminton.domain.domain.league.entity.QLeague.league;
+import static org.badminton.domain.domain.league.entity.QLeagueParticipant.leagueParticipant;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.badminton.domain.domain.league.LeagueRepositoryCustom;
+import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.enums.LeagueStatus;
+import org.badminton.domain.domain.league.info.OngoingAndUpcomingLeagueInfo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LeagueRepositoryImpl implements LeagueRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    // 참여 인원은 상관 서브쿼리로 함께 조회해 경기마다 인원을 따로 세지 않는다.
+    @Override
+    public Page<OngoingAndUpcomingLeagueInfo> findOngoingAndUpcomingLeagues(LocalDateTime startOfDay,
+            LocalDateTime endOfDay, LeagueStatus leagueStatus, String region, Pageable pageable) {
+        BooleanExpression[] conditions = {
+                league.leagueAt.between(startOfDay, endOfDay),
+                leagueStatusEq(leagueStatus),
+                regionEq(region)
+        };
+
+        List<OngoingAndUpcomingLeagueInfo> content = queryFactory
+                .select(league.leagueId, league.leagueAt, league.leagueName, league.description,
+                        league.matchType, league.playerLimitCount, league.leagueStatus, league.requiredTier,
+                        club.clubToken,
+                        JPAExpressions.select(leagueParticipant.count())
+                                .from(leagueParticipant)
+                                .where(leagueParticipant.league.leagueId.eq(league.leagueId),
+                                        leagueParticipant.canceled.isFalse()))
+                .from(league)
+                .join(league.club, club)
+                .where(conditions)
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toOngoingAndUpcomingLeagueInfo)
+                .toList();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(league.count())
+                .from(league)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    private OngoingAndUpcomingLeagueInfo toOngoingAndUpcomingLeagueInfo(Tuple tuple) {
+        Long recruitedMemberCount = tuple.get(9, Long.class);
+        return new OngoingAndUpcomingLeagueInfo(
+                tuple.get(league.leagueId),
+                tuple.get(league.leagueAt),
+                tuple.get(league.leagueName),
+                tuple.get(league.description),
+                tuple.get(league.matchType),
+                tuple.get(league.playerLimitCount),
+                recruitedMemberCount == null ? 0 : recruitedMemberCount.intValue(),
+                tuple.get(league.leagueStatus),
+                tuple.get(league.requiredTier),
+                tuple.get(club.clubToken)
+        );
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        PathBuilder<League> leaguePath = new PathBuilder<>(League.class, league.getMetadata());
+        return sort.stream()
+                .map(order -> new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                        leaguePath.getComparable(order.getProperty(), Comparable.class)))
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    private BooleanExpression leagueStatusEq(LeagueStatus leagueStatus) {
+        return leagueStatus == null ? null : league.leagueStatus.eq(leagueStatus);
+    }
+
+    private BooleanExpression regionEq(String region) {
+        return region == null ? null : league.address.region.eq(region);
+    }
+}
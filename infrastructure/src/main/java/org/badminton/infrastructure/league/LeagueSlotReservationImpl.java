@@ -0,0 +1,119 @@
+package org.badminton.infrastructure.league;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.common.exception.league.LeagueParticipationDuplicateException;
+import org.badminton.domain.common.exception.league.ParticipationLimitReachedException;
+import org.badminton.domain.domain.league.LeagueSlotReservation;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+// 리그별 참여자 멤버 토큰 집합을 Redis 에 두고, 집합의 크기를 참여 인원으로 사용한다.
+// 집합이 없으면 DB 의 참여자로 채운 뒤 선점한다. 빈 리그도 집합이 남도록 표식 원소를 함께 넣는다.
+@Component
+@RequiredArgsConstructor
+public class LeagueSlotReservationImpl implements LeagueSlotReservation {
+
+	private static final String SLOT_KEY_PREFIX = "LEAGUE_PARTICIPATION_SLOTS_";
+	private static final String SEED_MARKER = "__SEEDED__";
+	private static final Duration SLOT_TTL = Duration.ofDays(1);
+
+	private static final long NOT_SEEDED = -1L;
+	private static final long DUPLICATED = 0L;
+	private static final long RESERVED = 1L;
+	private static final long LIMIT_REACHED = 2L;
+
+	private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+			+ "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return 0 end "
+			+ "if redis.call('SCARD', KEYS[1]) - 1 >= tonumber(ARGV[2]) then return 2 end "
+			+ "redis.call('SADD', KEYS[1], ARGV[1]) "
+			+ "return 1", Long.class);
+
+	private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+			+ "redis.call('SADD', KEYS[1], unpack(ARGV, 2)) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "return 1", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final LeagueParticipantRepository leagueParticipantRepository;
+
+	@Override
+	public void reserve(Long leagueId, String memberToken, int playerLimitCount) {
+		Long result = executeReserve(leagueId, memberToken, playerLimitCount);
+		if (result == NOT_SEEDED) {
+			seed(leagueId);
+			result = executeReserve(leagueId, memberToken, playerLimitCount);
+		}
+
+		if (result == DUPLICATED) {
+			throw new LeagueParticipationDuplicateException(leagueId, memberToken);
+		}
+		if (result == LIMIT_REACHED) {
+			throw new ParticipationLimitReachedException(leagueId);
+		}
+		if (result == RESERVED) {
+			compensateOnRollback(leagueId, memberToken);
+		}
+	}
+
+	@Override
+	public void release(Long leagueId, String memberToken) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					remove(leagueId, memberToken);
+				}
+			});
+			return;
+		}
+		remove(leagueId, memberToken);
+	}
+
+	private Long executeReserve(Long leagueId, String memberToken, int playerLimitCount) {
+		return stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(toKey(leagueId)), memberToken,
+			String.valueOf(playerLimitCount));
+	}
+
+	// 여러 서버가 동시에 채우더라도 먼저 채운 결과만 남는다.
+	private void seed(Long leagueId) {
+		List<String> arguments = new ArrayList<>();
+		arguments.add(String.valueOf(SLOT_TTL.toSeconds()));
+		arguments.add(SEED_MARKER);
+		arguments.addAll(leagueParticipantRepository.findMemberTokensByLeagueId(leagueId));
+		stringRedisTemplate.execute(SEED_SCRIPT, List.of(toKey(leagueId)), arguments.toArray());
+	}
+
+	// DB 저장이 실패해 롤백되면 선점한 자리를 되돌린다.
+	private void compensateOnRollback(Long leagueId, String memberToken) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					remove(leagueId, memberToken);
+				}
+			}
+		});
+	}
+
+	private void remove(Long leagueId, String memberToken) {
+		stringRedisTemplate.opsForSet().remove(toKey(leagueId), memberToken);
+	}
+
+	private String toKey(Long leagueId) {
+		return SLOT_KEY_PREFIX + leagueId;
+	}
+}
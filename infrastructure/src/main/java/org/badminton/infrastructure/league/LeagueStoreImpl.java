@@ -1,5 +1,6 @@
 package org.badminton.infrastructure.league;
 
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.league.LeagueStore;
 import org.badminton.domain.domain.league.entity.League;
 import org.springframework.stereotype.Component;
@@ -12,9 +13,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LeagueStoreImpl implements LeagueStore {
 	private final LeagueRepository leagueRepository;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 
 	@Override
 	public League store(League league) {
-		return leagueRepository.save(league);
+		League storedLeague = leagueRepository.save(league);
+		leagueDescriptorCache.evict(storedLeague.getLeagueId());
+		return storedLeague;
 	}
 }
@@ -0,0 +1,90 @@
+package org.badminton.infrastructure.match.bracket;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 대진표 응답을 리그와 대진표 버전 단위로 로컬과 Redis 에 캐시한다.
+// 버전이 키에 포함되어 있으므로 버전이 오르면 이전 응답은 더 이상 읽히지 않고 만료된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BracketResponseCache {
+
+	private static final String RESPONSE_KEY_PREFIX = "BRACKET_RESPONSE_";
+	private static final Duration REDIS_CACHE_TTL = Duration.ofMinutes(10);
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofMinutes(10);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 1_000;
+
+	private final BracketVersion bracketVersion;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Cache<Long, CachedResponse> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+		.expireAfterWrite(LOCAL_CACHE_TTL)
+		.build();
+
+	public long currentVersion(Long leagueId) {
+		return bracketVersion.current(leagueId);
+	}
+
+	public static String toETag(Long leagueId, long version) {
+		return "\"" + leagueId + "-" + version + "\"";
+	}
+
+	public <T> T get(Long leagueId, long version, Class<T> type, Supplier<T> loader) {
+		CachedResponse cachedResponse = localCache.getIfPresent(leagueId);
+		if (cachedResponse != null && cachedResponse.version() == version
+			&& type.isInstance(cachedResponse.response())) {
+			return type.cast(cachedResponse.response());
+		}
+		T response = readFromRedis(leagueId, version, type)
+			.orElseGet(() -> writeToRedis(leagueId, version, loader.get()));
+		// 동시에 더 새로운 버전이 적재되었다면 덮어쓰지 않는다.
+		localCache.asMap().merge(leagueId, new CachedResponse(version, response),
+			(existing, loaded) -> existing.version() > loaded.version() ? existing : loaded);
+		return response;
+	}
+
+	private <T> Optional<T> readFromRedis(Long leagueId, long version, Class<T> type) {
+		String json = stringRedisTemplate.opsForValue().get(toKey(leagueId, version));
+		if (json == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(json, type));
+		} catch (JsonProcessingException e) {
+			log.warn("대진표 응답 캐시 역직렬화 실패 leagueId: {}", leagueId, e);
+			return Optional.empty();
+		}
+	}
+
+	private <T> T writeToRedis(Long leagueId, long version, T response) {
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(toKey(leagueId, version), objectMapper.writeValueAsString(response), REDIS_CACHE_TTL);
+		} catch (JsonProcessingException e) {
+			log.warn("대진표 응답 캐시 직렬화 실패 leagueId: {}", leagueId, e);
+		}
+		return response;
+	}
+
+	private String toKey(Long leagueId, long version) {
+		return RESPONSE_KEY_PREFIX + leagueId + "_" + version;
+	}
+
+	private record CachedResponse(long version, Object response) {
+	}
+}
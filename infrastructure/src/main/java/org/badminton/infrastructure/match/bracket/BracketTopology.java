@@ -0,0 +1,73 @@
+package org.badminton.infrastructure.match.bracket;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.badminton.domain.domain.match.vo.BracketLink;
+
+// 리그 대진표의 매치 -> 다음 라운드 매치 연결을 정렬된 배열로 들고 있는 불변 구조
+public final class BracketTopology {
+
+	private static final long NO_NEXT_MATCH = 0L;
+
+	private final long[] matchIds;
+	private final long[] nextMatchIds;
+
+	private BracketTopology(long[] matchIds, long[] nextMatchIds) {
+		this.matchIds = matchIds;
+		this.nextMatchIds = nextMatchIds;
+	}
+
+	// links 는 (roundNumber, matchId) 순으로 정렬되어 있어야 한다.
+	public static BracketTopology from(List<BracketLink> links) {
+		TreeMap<Integer, List<BracketLink>> rounds = new TreeMap<>();
+		for (BracketLink link : links) {
+			rounds.computeIfAbsent(link.roundNumber(), roundNumber -> new ArrayList<>()).add(link);
+		}
+
+		List<long[]> edges = new ArrayList<>(links.size());
+		rounds.forEach((roundNumber, roundLinks) -> {
+			List<BracketLink> nextRoundLinks = rounds.get(roundNumber + 1);
+			for (int i = 0; i < roundLinks.size(); i++) {
+				BracketLink link = roundLinks.get(i);
+				edges.add(new long[] {link.matchId(), resolveNextMatchId(link, i, nextRoundLinks)});
+			}
+		});
+		edges.sort(Comparator.comparingLong(edge -> edge[0]));
+
+		long[] matchIds = new long[edges.size()];
+		long[] nextMatchIds = new long[edges.size()];
+		for (int i = 0; i < edges.size(); i++) {
+			matchIds[i] = edges.get(i)[0];
+			nextMatchIds[i] = edges.get(i)[1];
+		}
+		return new BracketTopology(matchIds, nextMatchIds);
+	}
+
+	// nextMatchId 가 저장되기 전에 만들어진 대진표는 라운드 내 순서로 다음 매치를 계산한다.
+	private static long resolveNextMatchId(BracketLink link, int indexInRound, List<BracketLink> nextRoundLinks) {
+		if (link.nextMatchId() != null) {
+			return link.nextMatchId();
+		}
+		if (nextRoundLinks == null || nextRoundLinks.size() <= indexInRound / 2) {
+			return NO_NEXT_MATCH;
+		}
+		return nextRoundLinks.get(indexInRound / 2).matchId();
+	}
+
+	public boolean contains(Long matchId) {
+		return Arrays.binarySearch(matchIds, matchId) >= 0;
+	}
+
+	public Optional<Long> findNextMatchId(Long matchId) {
+		int index = Arrays.binarySearch(matchIds, matchId);
+		if (index < 0 || nextMatchIds[index] == NO_NEXT_MATCH) {
+			return Optional.empty();
+		}
+		return Optional.of(nextMatchIds[index]);
+	}
+}
@@ -0,0 +1,64 @@
+package org.badminton.infrastructure.match.bracket;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.badminton.domain.domain.match.reader.DoublesMatchReader;
+import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BracketTopologyCache {
+
+	private static final Duration TOPOLOGY_TTL = Duration.ofHours(6);
+	private static final long TOPOLOGY_MAXIMUM_SIZE = 1_000;
+
+	private final SinglesMatchReader singlesMatchReader;
+	private final DoublesMatchReader doublesMatchReader;
+
+	private final Cache<Long, BracketTopology> singlesTopologies = newCache();
+	private final Cache<Long, BracketTopology> doublesTopologies = newCache();
+
+	private static Cache<Long, BracketTopology> newCache() {
+		return Caffeine.newBuilder()
+			.maximumSize(TOPOLOGY_MAXIMUM_SIZE)
+			.expireAfterAccess(TOPOLOGY_TTL)
+			.build();
+	}
+
+	public Optional<Long> findSinglesNextMatchId(Long leagueId, Long matchId) {
+		return findNextMatchId(singlesTopologies, leagueId, matchId,
+			key -> BracketTopology.from(singlesMatchReader.getBracketLinks(key)));
+	}
+
+	public Optional<Long> findDoublesNextMatchId(Long leagueId, Long matchId) {
+		return findNextMatchId(doublesTopologies, leagueId, matchId,
+			key -> BracketTopology.from(doublesMatchReader.getBracketLinks(key)));
+	}
+
+	public void evictSingles(Long leagueId) {
+		singlesTopologies.invalidate(leagueId);
+	}
+
+	public void evictDoubles(Long leagueId) {
+		doublesTopologies.invalidate(leagueId);
+	}
+
+	private Optional<Long> findNextMatchId(Cache<Long, BracketTopology> topologies, Long leagueId, Long matchId,
+		Function<Long, BracketTopology> loader) {
+		BracketTopology topology = topologies.get(leagueId, loader);
+		// 다른 서버에서 대진표를 다시 생성했다면 매치 id 가 달라지므로 다시 적재한다.
+		if (!topology.contains(matchId)) {
+			topology = loader.apply(leagueId);
+			topologies.put(leagueId, topology);
+		}
+		return topology.findNextMatchId(matchId);
+	}
+}
@@ -0,0 +1,43 @@
+package org.badminton.infrastructure.match.bracket;
+
+import org.badminton.infrastructure.config.VersionedInvalidation;
+import org.badminton.infrastructure.config.VersionedInvalidationFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 리그별 대진표 버전이다. 세트 종료, 경기 시작, 대진표 재생성 등 매치가 저장되면 커밋 이후 버전을 올리고 모든 서버에 알린다.
+@Component
+@RequiredArgsConstructor
+public class BracketVersion {
+
+	private static final String VERSION_KEY_PREFIX = "BRACKET_VERSION_";
+	private static final String CHANGE_CHANNEL = "BRACKET_VERSION_CHANGED";
+
+	private final VersionedInvalidationFactory versionedInvalidationFactory;
+
+	private VersionedInvalidation versionedInvalidation;
+
+	@PostConstruct
+	private void init() {
+		versionedInvalidation = versionedInvalidationFactory.create(VERSION_KEY_PREFIX, CHANGE_CHANNEL);
+	}
+
+	public void addListener(Listener listener) {
+		versionedInvalidation.addListener(
+			(leagueId, version) -> listener.onBracketChanged(Long.parseLong(leagueId), version));
+	}
+
+	public long current(Long leagueId) {
+		return versionedInvalidation.current(String.valueOf(leagueId));
+	}
+
+	public void bump(Long leagueId) {
+		versionedInvalidation.bump(String.valueOf(leagueId));
+	}
+
+	public interface Listener {
+		void onBracketChanged(Long leagueId, long version);
+	}
+}
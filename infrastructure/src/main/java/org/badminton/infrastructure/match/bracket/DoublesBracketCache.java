@@ -0,0 +1,64 @@
+package org.badminton.infrastructure.match.bracket;
+
+import java.time.Duration;
+
+import org.badminton.domain.domain.league.LeagueReader;
+import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.match.info.DoublesBracketInfo;
+import org.badminton.domain.domain.match.reader.DoublesMatchRepositoryCustom;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 복식 대진표 조회 모델을 리그 단위로 캐시한다. 대진표 버전이 오르면 모든 서버에서 무효화한다.
+@Component
+@RequiredArgsConstructor
+public class DoublesBracketCache {
+
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofMinutes(10);
+	private static final long LOCAL_CACHE_MAXIMUM_SIZE = 1_000;
+
+	private final DoublesMatchRepositoryCustom doublesMatchRepositoryCustom;
+	private final LeagueReader leagueReader;
+	private final BracketVersion bracketVersion;
+
+	private final Cache<Long, CachedBracket> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_CACHE_MAXIMUM_SIZE)
+		.expireAfterWrite(LOCAL_CACHE_TTL)
+		.build();
+
+	@PostConstruct
+	private void init() {
+		bracketVersion.addListener(this::invalidateOlderThan);
+	}
+
+	public DoublesBracketInfo getBracket(Long leagueId) {
+		return localCache.get(leagueId, this::load).bracket();
+	}
+
+	// 이미 새 버전으로 다시 적재된 항목은 그대로 둔다.
+	private void invalidateOlderThan(Long leagueId, long version) {
+		localCache.asMap().computeIfPresent(leagueId,
+			(key, cachedBracket) -> cachedBracket.version() < version ? null : cachedBracket);
+	}
+
+	private CachedBracket load(Long leagueId) {
+		long version = bracketVersion.current(leagueId);
+		League league = leagueReader.readLeagueById(leagueId);
+		DoublesBracketInfo bracket = new DoublesBracketInfo(
+			league.getLeagueId(),
+			league.getMatchGenerationType(),
+			league.getMatchType(),
+			league.getLeagueStatus(),
+			doublesMatchRepositoryCustom.findBracketMatchInfos(leagueId),
+			doublesMatchRepositoryCustom.findBracketSetInfos(leagueId));
+		return new CachedBracket(version, bracket);
+	}
+
+	private record CachedBracket(long version, DoublesBracketInfo bracket) {
+	}
+}
@@ -10,8 +10,11 @@ import org.badminton.domain.common.exception.match.BracketNotExistException;
 import org.badminton.domain.common.exception.match.MatchNotExistException;
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.info.DoublesBracketInfo;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
 import org.badminton.domain.domain.match.reader.DoublesMatchRepositoryCustom;
+import org.badminton.domain.domain.match.vo.BracketLink;
+import org.badminton.infrastructure.match.bracket.DoublesBracketCache;
 import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +26,7 @@ public class DoublesMatchReaderImpl implements DoublesMatchReader {
 
 	private final DoublesMatchRepository doublesMatchRepository;
 	private final DoublesMatchRepositoryCustom doublesMatchRepositoryCustom;
+	private final DoublesBracketCache doublesBracketCache;
 
 	@Override
 	public List<DoublesMatch> getDoublesBracket(Long leagueId) {
@@ -33,6 +37,15 @@ public class DoublesMatchReaderImpl implements DoublesMatchReader {
 		return bracketInLeague;
 	}
 
+	@Override
+	public DoublesBracketInfo getDoublesBracketInfo(Long leagueId) {
+		DoublesBracketInfo doublesBracketInfo = doublesBracketCache.getBracket(leagueId);
+		if (doublesBracketInfo.matchInfos().isEmpty()) {
+			throw new BracketNotExistException(leagueId);
+		}
+		return doublesBracketInfo;
+	}
+
 	@Override
 	public boolean checkIfBracketEmpty(Long leagueId) {
 		List<DoublesMatch> bracketInLeague = doublesMatchRepository.findAllByLeague_LeagueId(leagueId);
@@ -52,8 +65,11 @@ public class DoublesMatchReaderImpl implements DoublesMatchReader {
 	}
 
 	@Override
-	public List<DoublesMatch> findAllCompletedByClubMemberId(Long clubMemberId) {
-		return doublesMatchRepositoryCustom.findAllCompletedByClubMemberId(clubMemberId);
+	public List<DoublesMatch> findAllWithParticipantsByIds(List<Long> matchIds) {
+		if (matchIds.isEmpty()) {
+			return List.of();
+		}
+		return doublesMatchRepositoryCustom.findAllWithParticipantsByIds(matchIds);
 	}
 
 	@Override
@@ -66,6 +82,11 @@ public class DoublesMatchReaderImpl implements DoublesMatchReader {
 		return doublesMatchRepository.findFirstByLeagueLeagueIdOrderByIdAsc(leagueId);
 	}
 
+	@Override
+	public List<BracketLink> getBracketLinks(Long leagueId) {
+		return doublesMatchRepository.findBracketLinksByLeagueId(leagueId);
+	}
+
 	@Override
 	public boolean allMatchesFinishedForLeague(Long leagueId) {
 		return doublesMatchRepository.allMatchesFinishedForLeague(leagueId);
@@ -0,0 +1,43 @@
+package org.badminton.infrastructure.match.reader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.badminton.domain.domain.match.entity.MatchParticipation;
+import org.badminton.domain.domain.match.reader.MatchParticipationReader;
+import org.badminton.domain.domain.match.vo.MatchHistoryCursor;
+import org.badminton.infrastructure.match.repository.MatchParticipationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MatchParticipationReaderImpl implements MatchParticipationReader {
+
+	private static final Comparator<MatchParticipation> HISTORY_ORDER = Comparator
+		.comparing(MatchParticipation::getLeagueAt)
+		.thenComparing(MatchParticipation::getLeagueId)
+		.thenComparing(MatchParticipation::getMatchId)
+		.reversed();
+
+	private final MatchParticipationRepository matchParticipationRepository;
+
+	// IN 조건으로 묶으면 (clubMemberId, leagueAt) 인덱스 순서를 쓰지 못해 전체 전적을 정렬하게 되므로
+	// 동호회 회원마다 한 페이지씩 읽어 합친다.
+	@Override
+	public List<MatchParticipation> readHistory(List<Long> clubMemberIds, MatchHistoryCursor cursor, int limit) {
+		PageRequest pageRequest = PageRequest.of(0, limit);
+		List<MatchParticipation> participations = new ArrayList<>();
+		for (Long clubMemberId : clubMemberIds) {
+			participations.addAll(cursor == null
+				? matchParticipationRepository.findLatestByClubMemberId(clubMemberId, pageRequest)
+				: matchParticipationRepository.findByClubMemberIdBefore(clubMemberId, cursor.leagueAt(),
+				cursor.leagueId(), cursor.matchId(), pageRequest));
+		}
+		participations.sort(HISTORY_ORDER);
+		return participations.size() > limit ? participations.subList(0, limit) : participations;
+	}
+}
@@ -12,6 +12,7 @@ import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
 import org.badminton.domain.domain.match.reader.SinglesMatchRepositoryCustom;
+import org.badminton.domain.domain.match.vo.BracketLink;
 import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
 import org.springframework.stereotype.Component;
 
@@ -51,8 +52,11 @@ public class SinglesMatchReaderImpl implements SinglesMatchReader {
 	}
 
 	@Override
-	public List<SinglesMatch> getSinglesMatchesByClubMember(Long clubMemberId) {
-		return singlesMatchRepositoryCustom.findAllCompletedByClubMemberId(clubMemberId);
+	public List<SinglesMatch> findAllWithParticipantsByIds(List<Long> matchIds) {
+		if (matchIds.isEmpty()) {
+			return List.of();
+		}
+		return singlesMatchRepositoryCustom.findAllWithParticipantsByIds(matchIds);
 	}
 
 	@Override
@@ -70,6 +74,11 @@ public class SinglesMatchReaderImpl implements SinglesMatchReader {
 		return singlesMatchRepository.findFirstByLeagueLeagueIdOrderByIdAsc(leagueId);
 	}
 
+	@Override
+	public List<BracketLink> getBracketLinks(Long leagueId) {
+		return singlesMatchRepository.findBracketLinksByLeagueId(leagueId);
+	}
+
 	@Override
 	public boolean allMatchesFinishedForLeague(Long leagueId) {
 		return singlesMatchRepository.allMatchesFinishedForLeague(leagueId);
@@ -0,0 +1,141 @@
+package org.badminton.infrastructure.match.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.league.vo.Team;
+import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.entity.DoublesSet;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DoublesBracketJdbcRepository {
+
+	private static final String INSERT_MATCH_SQL = """
+		INSERT INTO doubles_match (leagueId, team1Participant1Id, team1Participant2Id, team2Participant1Id,
+		    team2Participant2Id, team1WinSetCount, team2WinSetCount, team1MatchResult, team2MatchResult, matchStatus,
+		    roundNumber, createdAt, modifiedAt)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String UPDATE_NEXT_MATCH_SQL = "UPDATE doubles_match SET nextMatchId = ? WHERE id = ?";
+	private static final String INSERT_SET_SQL = """
+		INSERT INTO doubles_set (doublesMatchId, setNumber, team1Score, team2Score, setStatus, createdAt, modifiedAt)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 저장한 순서대로 생성된 매치 id 를 돌려준다.
+	public List<Long> insertMatches(List<DoublesMatch> matches) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_MATCH_SQL, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					DoublesMatch match = matches.get(i);
+					ps.setLong(1, match.getLeague().getLeagueId());
+					setTeam(ps, 2, match.getTeam1());
+					setTeam(ps, 4, match.getTeam2());
+					ps.setInt(6, match.getTeam1WinSetCount());
+					ps.setInt(7, match.getTeam2WinSetCount());
+					ps.setString(8, match.getTeam1MatchResult().name());
+					ps.setString(9, match.getTeam2MatchResult().name());
+					ps.setString(10, match.getMatchStatus().name());
+					ps.setInt(11, match.getRoundNumber());
+					ps.setTimestamp(12, now);
+					ps.setTimestamp(13, now);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return matches.size();
+				}
+			},
+			keyHolder);
+
+		return keyHolder.getKeyList().stream()
+			.map(key -> ((Number)key.values().iterator().next()).longValue())
+			.toList();
+	}
+
+	public void updateNextMatchIds(List<Long> matchIds, List<Long> nextMatchIds) {
+		jdbcTemplate.batchUpdate(UPDATE_NEXT_MATCH_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ps.setLong(1, nextMatchIds.get(i));
+				ps.setLong(2, matchIds.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return matchIds.size();
+			}
+		});
+	}
+
+	public void insertSets(List<DoublesMatch> matches, List<Long> matchIds) {
+		List<Long> setMatchIds = new ArrayList<>();
+		List<DoublesSet> sets = new ArrayList<>();
+		for (int i = 0; i < matches.size(); i++) {
+			for (DoublesSet set : matches.get(i).getDoublesSets()) {
+				setMatchIds.add(matchIds.get(i));
+				sets.add(set);
+			}
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SET_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				DoublesSet set = sets.get(i);
+				ps.setLong(1, setMatchIds.get(i));
+				ps.setInt(2, set.getSetNumber());
+				ps.setInt(3, set.getTeam1Score());
+				ps.setInt(4, set.getTeam2Score());
+				ps.setString(5, set.getSetStatus().name());
+				ps.setTimestamp(6, now);
+				ps.setTimestamp(7, now);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return sets.size();
+			}
+		});
+	}
+
+	private void setTeam(PreparedStatement ps, int index, Team team) throws SQLException {
+		if (team == null) {
+			setParticipantId(ps, index, null);
+			setParticipantId(ps, index + 1, null);
+			return;
+		}
+		setParticipantId(ps, index, team.getLeagueParticipant1());
+		setParticipantId(ps, index + 1, team.getLeagueParticipant2());
+	}
+
+	private void setParticipantId(PreparedStatement ps, int index, LeagueParticipant participant)
+		throws SQLException {
+		if (participant == null) {
+			ps.setNull(index, Types.BIGINT);
+			return;
+		}
+		ps.setLong(index, participant.getLeagueParticipantId());
+	}
+}
@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.common.enums.SetStatus;
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.vo.BracketLink;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -36,6 +40,7 @@ public interface DoublesMatchRepository extends JpaRepository<DoublesMatch, Long
 		    LEFT JOIN FETCH t2.leagueParticipant2 lp4
 		    LEFT JOIN FETCH lp4.member m4
 		    WHERE dm.league.leagueId = :leagueId
+		    ORDER BY dm.id
 		""")
 	List<DoublesMatch> findAllDoublesMatch(@Param("leagueId") Long leagueId);
 
@@ -59,5 +64,81 @@ public interface DoublesMatchRepository extends JpaRepository<DoublesMatch, Long
 		@Param("leagueParticipant") LeagueParticipant leagueParticipant);
 
 	Optional<DoublesMatch> findByIdAndLeagueLeagueId(Long matchId, Long leagueId);
-}
 
+	@Modifying
+	@Query("UPDATE DoublesMatch match SET match.matchStatus = :matchStatus WHERE match.league.leagueId IN (:leagueIds)")
+	int updateMatchStatusByLeagueIds(@Param("leagueIds") List<Long> leagueIds,
+		@Param("matchStatus") MatchStatus matchStatus);
+
+	@Modifying
+	@Query("""
+		UPDATE DoublesSet doublesSet
+		SET doublesSet.setStatus = :setStatus
+		WHERE doublesSet.doublesMatch.id IN (
+		    SELECT match.id FROM DoublesMatch match WHERE match.league.leagueId IN (:leagueIds)
+		)
+		""")
+	int updateSetStatusByLeagueIds(@Param("leagueIds") List<Long> leagueIds, @Param("setStatus") SetStatus setStatus);
+
+	@Query("""
+		SELECT DISTINCT match.league.leagueId
+		FROM DoublesMatch match
+		WHERE match.league.leagueId IN (:leagueIds)
+		  AND match.matchStatus != 'FINISHED'
+		""")
+	List<Long> findLeagueIdsWithUnfinishedMatches(@Param("leagueIds") List<Long> leagueIds);
+
+	@Query("""
+		SELECT new org.badminton.domain.domain.match.vo.BracketLink(match.id, match.roundNumber, match.nextMatchId)
+		FROM DoublesMatch match
+		WHERE match.league.leagueId = :leagueId
+		ORDER BY match.roundNumber, match.id
+		""")
+	List<BracketLink> findBracketLinksByLeagueId(@Param("leagueId") Long leagueId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE DoublesMatch match
+		SET match.team1.leagueParticipant1 = :participant1, match.team1.leagueParticipant2 = :participant2
+		WHERE match.id = :matchId
+		""")
+	int updateTeam1(@Param("matchId") Long matchId, @Param("participant1") LeagueParticipant participant1,
+		@Param("participant2") LeagueParticipant participant2);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE DoublesMatch match
+		SET match.team1.leagueParticipant1 = :participant1, match.team1.leagueParticipant2 = :participant2
+		WHERE match.id = :matchId
+		  AND match.team1.leagueParticipant1 IS NULL
+		""")
+	int updateTeam1IfEmpty(@Param("matchId") Long matchId, @Param("participant1") LeagueParticipant participant1,
+		@Param("participant2") LeagueParticipant participant2);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE DoublesMatch match
+		SET match.team2.leagueParticipant1 = :participant1, match.team2.leagueParticipant2 = :participant2
+		WHERE match.id = :matchId
+		  AND match.team2.leagueParticipant1 IS NULL
+		  AND match.team1.leagueParticipant1 <> :participant1
+		""")
+	int updateTeam2IfEmpty(@Param("matchId") Long matchId, @Param("participant1") LeagueParticipant participant1,
+		@Param("participant2") LeagueParticipant participant2);
+
+	// 리그 일괄 종료로 결과 없이 끝난 매치는 전적에 남기지 않는다.
+	// 전적 행 존재 여부는 match_participation 의 (matchType, matchId, clubMemberId) 유니크 인덱스로 확인한다.
+	@Query("""
+		SELECT match.id FROM DoublesMatch match
+		WHERE match.matchStatus = 'FINISHED'
+		  AND match.team1MatchResult <> 'NONE'
+		  AND match.id > :lastMatchId
+		  AND NOT EXISTS (
+		      SELECT 1 FROM MatchParticipation participation
+		      WHERE participation.matchType = 'DOUBLES'
+		        AND participation.matchId = match.id
+		  )
+		ORDER BY match.id
+		""")
+	List<Long> findUnrecordedFinishedMatchIdsAfter(@Param("lastMatchId") Long lastMatchId, Pageable pageable);
+}
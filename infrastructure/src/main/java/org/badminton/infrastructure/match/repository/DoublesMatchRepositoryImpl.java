@@ -1,16 +1,23 @@
 package org.badminton.infrastructure.match.repository;
 
+import static org.badminton.domain.domain.league.entity.QLeague.league;
 import static org.badminton.domain.domain.match.entity.QDoublesMatch.doublesMatch;
+import static org.badminton.domain.domain.match.entity.QDoublesSet.doublesSet;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.common.enums.MatchResult;
+import org.badminton.domain.common.enums.MatchType;
+import org.badminton.domain.domain.clubmember.entity.QClubMember;
 import org.badminton.domain.domain.league.entity.QLeagueParticipant;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.info.DoublesMatchInfo;
+import org.badminton.domain.domain.match.info.MatchTeamInfo;
+import org.badminton.domain.domain.match.info.SetInfo;
 import org.badminton.domain.domain.match.reader.DoublesMatchRepositoryCustom;
+import org.badminton.domain.domain.member.entity.QMember;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,42 +25,162 @@ import org.springframework.stereotype.Repository;
 public class DoublesMatchRepositoryImpl implements DoublesMatchRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 전적 화면에서 쓰는 리그와 참가자 이름까지 한 번에 가져온다.
     @Override
-    public List<DoublesMatch> findAllCompletedByClubMemberId(Long clubMemberId) {
-        QLeagueParticipant leagueParticipant1 = new QLeagueParticipant("leagueParticipant1");
-        QLeagueParticipant leagueParticipant2 = new QLeagueParticipant("leagueParticipant2");
-        QLeagueParticipant leagueParticipant3 = new QLeagueParticipant("leagueParticipant3");
-        QLeagueParticipant leagueParticipant4 = new QLeagueParticipant("leagueParticipant4");
+    public List<DoublesMatch> findAllWithParticipantsByIds(List<Long> matchIds) {
+        BracketParticipant team1Participant1 = new BracketParticipant("team1Participant1");
+        BracketParticipant team1Participant2 = new BracketParticipant("team1Participant2");
+        BracketParticipant team2Participant1 = new BracketParticipant("team2Participant1");
+        BracketParticipant team2Participant2 = new BracketParticipant("team2Participant2");
 
         return queryFactory
                 .selectFrom(doublesMatch)
-                .join(leagueParticipant1)
-                .on(doublesMatch.team1.leagueParticipant1.leagueParticipantId.eq(
-                        leagueParticipant1.leagueParticipantId))
-                .join(leagueParticipant2)
-                .on(doublesMatch.team1.leagueParticipant2.leagueParticipantId.eq(
-                        leagueParticipant2.leagueParticipantId))
-                .join(leagueParticipant3)
-                .on(doublesMatch.team2.leagueParticipant1.leagueParticipantId.eq(
-                        leagueParticipant3.leagueParticipantId))
-                .join(leagueParticipant4)
-                .on(doublesMatch.team2.leagueParticipant2.leagueParticipantId.eq(
-                        leagueParticipant4.leagueParticipantId))
-                .where(
-                        doublesMatch.matchStatus.eq(MatchStatus.FINISHED)
-                                .and(
-                                        isClubMemberInParticipant(leagueParticipant1, clubMemberId)
-                                                .or(isClubMemberInParticipant(leagueParticipant2, clubMemberId))
-                                                .or(isClubMemberInParticipant(leagueParticipant3, clubMemberId))
-                                                .or(isClubMemberInParticipant(leagueParticipant4, clubMemberId))
-                                )
-                )
+                .join(doublesMatch.league, league).fetchJoin()
+                .join(doublesMatch.team1.leagueParticipant1, team1Participant1.participant).fetchJoin()
+                .join(team1Participant1.participant.clubMember, team1Participant1.clubMember).fetchJoin()
+                .join(team1Participant1.clubMember.member, team1Participant1.member).fetchJoin()
+                .join(doublesMatch.team1.leagueParticipant2, team1Participant2.participant).fetchJoin()
+                .join(team1Participant2.participant.clubMember, team1Participant2.clubMember).fetchJoin()
+                .join(team1Participant2.clubMember.member, team1Participant2.member).fetchJoin()
+                .join(doublesMatch.team2.leagueParticipant1, team2Participant1.participant).fetchJoin()
+                .join(team2Participant1.participant.clubMember, team2Participant1.clubMember).fetchJoin()
+                .join(team2Participant1.clubMember.member, team2Participant1.member).fetchJoin()
+                .join(doublesMatch.team2.leagueParticipant2, team2Participant2.participant).fetchJoin()
+                .join(team2Participant2.participant.clubMember, team2Participant2.clubMember).fetchJoin()
+                .join(team2Participant2.clubMember.member, team2Participant2.member).fetchJoin()
+                .where(doublesMatch.id.in(matchIds))
                 .fetch();
     }
 
-    private BooleanExpression isClubMemberInParticipant(QLeagueParticipant participant, Long clubMemberId) {
-        return participant.clubMember != null ? participant.clubMember.clubMemberId.eq(clubMemberId) :
-                Expressions.FALSE;
+    // 대진표 조회용으로 매치와 네 명의 참가자 정보를 한 번의 조회로 가져온다.
+    @Override
+    public List<DoublesMatchInfo> findBracketMatchInfos(Long leagueId) {
+        BracketParticipant team1Participant1 = new BracketParticipant("team1Participant1");
+        BracketParticipant team1Participant2 = new BracketParticipant("team1Participant2");
+        BracketParticipant team2Participant1 = new BracketParticipant("team2Participant1");
+        BracketParticipant team2Participant2 = new BracketParticipant("team2Participant2");
+
+        List<Tuple> rows = queryFactory
+                .select(doublesMatch.id, doublesMatch.roundNumber, doublesMatch.matchStatus,
+                        doublesMatch.team1WinSetCount, doublesMatch.team2WinSetCount,
+                        doublesMatch.team1MatchResult, doublesMatch.team2MatchResult,
+                        team1Participant1.participant.leagueParticipantId, team1Participant1.member.memberToken,
+                        team1Participant1.member.name, team1Participant1.member.profileImage,
+                        team1Participant1.member.tier, team1Participant1.clubMember.banned,
+                        team1Participant2.participant.leagueParticipantId, team1Participant2.member.memberToken,
+                        team1Participant2.member.name, team1Participant2.member.profileImage,
+                        team1Participant2.member.tier, team1Participant2.clubMember.banned,
+                        team2Participant1.participant.leagueParticipantId, team2Participant1.member.memberToken,
+                        team2Participant1.member.name, team2Participant1.member.profileImage,
+                        team2Participant1.member.tier, team2Participant1.clubMember.banned,
+                        team2Participant2.participant.leagueParticipantId, team2Participant2.member.memberToken,
+                        team2Participant2.member.name, team2Participant2.member.profileImage,
+                        team2Participant2.member.tier, team2Participant2.clubMember.banned)
+                .from(doublesMatch)
+                .leftJoin(doublesMatch.team1.leagueParticipant1, team1Participant1.participant)
+                .leftJoin(team1Participant1.participant.member, team1Participant1.member)
+                .leftJoin(team1Participant1.participant.clubMember, team1Participant1.clubMember)
+                .leftJoin(doublesMatch.team1.leagueParticipant2, team1Participant2.participant)
+                .leftJoin(team1Participant2.participant.member, team1Participant2.member)
+                .leftJoin(team1Participant2.participant.clubMember, team1Participant2.clubMember)
+                .leftJoin(doublesMatch.team2.leagueParticipant1, team2Participant1.participant)
+                .leftJoin(team2Participant1.participant.member, team2Participant1.member)
+                .leftJoin(team2Participant1.participant.clubMember, team2Participant1.clubMember)
+                .leftJoin(doublesMatch.team2.leagueParticipant2, team2Participant2.participant)
+                .leftJoin(team2Participant2.participant.member, team2Participant2.member)
+                .leftJoin(team2Participant2.participant.clubMember, team2Participant2.clubMember)
+                .where(doublesMatch.league.leagueId.eq(leagueId))
+                .orderBy(doublesMatch.id.asc())
+                .fetch();
+
+        return rows.stream()
+                .map(row -> toDoublesMatchInfo(row, team1Participant1, team1Participant2, team2Participant1,
+                        team2Participant2))
+                .toList();
     }
 
+    @Override
+    public List<SetInfo.Main> findBracketSetInfos(Long leagueId) {
+        return queryFactory
+                .select(doublesSet.doublesMatch.id, doublesSet.setNumber, doublesSet.team1Score,
+                        doublesSet.team2Score)
+                .from(doublesSet)
+                .where(doublesSet.doublesMatch.league.leagueId.eq(leagueId))
+                .orderBy(doublesSet.doublesMatch.id.asc(), doublesSet.setNumber.asc())
+                .fetch()
+                .stream()
+                .map(row -> SetInfo.Main.builder()
+                        .matchId(row.get(doublesSet.doublesMatch.id))
+                        .setNumber(row.get(doublesSet.setNumber))
+                        .score1(row.get(doublesSet.team1Score))
+                        .score2(row.get(doublesSet.team2Score))
+                        .matchType(MatchType.DOUBLES)
+                        .build())
+                .toList();
+    }
+
+    private DoublesMatchInfo toDoublesMatchInfo(Tuple row, BracketParticipant team1Participant1,
+            BracketParticipant team1Participant2, BracketParticipant team2Participant1,
+            BracketParticipant team2Participant2) {
+        int team1WinSetCount = row.get(doublesMatch.team1WinSetCount);
+        int team2WinSetCount = row.get(doublesMatch.team2WinSetCount);
+        List<String> winnersToken = null;
+        if (row.get(doublesMatch.team1MatchResult) == MatchResult.WIN) {
+            winnersToken = List.of(row.get(team1Participant1.member.memberToken),
+                    row.get(team1Participant2.member.memberToken));
+        } else if (row.get(doublesMatch.team2MatchResult) == MatchResult.WIN) {
+            winnersToken = List.of(row.get(team2Participant1.member.memberToken),
+                    row.get(team2Participant2.member.memberToken));
+        }
+
+        return new DoublesMatchInfo(
+                row.get(doublesMatch.id),
+                toMatchTeamInfo(row, team1Participant1, team1Participant2, team1WinSetCount),
+                team1WinSetCount,
+                toMatchTeamInfo(row, team2Participant1, team2Participant2, team2WinSetCount),
+                team2WinSetCount,
+                row.get(doublesMatch.roundNumber),
+                row.get(doublesMatch.matchStatus),
+                winnersToken
+        );
+    }
+
+    // 팀이 아직 정해지지 않은 매치는 엔티티 조회와 같이 null 로 둔다.
+    private MatchTeamInfo toMatchTeamInfo(Tuple row, BracketParticipant participant1,
+            BracketParticipant participant2, int winSetCounts) {
+        if (row.get(participant1.participant.leagueParticipantId) == null
+                && row.get(participant2.participant.leagueParticipantId) == null) {
+            return null;
+        }
+        return new MatchTeamInfo(
+                row.get(participant1.member.memberToken),
+                row.get(participant1.member.name),
+                row.get(participant1.member.profileImage),
+                row.get(participant2.member.memberToken),
+                row.get(participant2.member.name),
+                row.get(participant2.member.profileImage),
+                winSetCounts,
+                row.get(participant1.member.tier),
+                row.get(participant2.member.tier),
+                isBanned(row, participant1),
+                isBanned(row, participant2)
+        );
+    }
+
+    private boolean isBanned(Tuple row, BracketParticipant participant) {
+        return row.get(participant.member.memberToken) != null
+                && Boolean.TRUE.equals(row.get(participant.clubMember.banned));
+    }
+
+    private static class BracketParticipant {
+        private final QLeagueParticipant participant;
+        private final QMember member;
+        private final QClubMember clubMember;
+
+        private BracketParticipant(String alias) {
+            this.participant = new QLeagueParticipant(alias);
+            this.member = new QMember(alias + "Member");
+            this.clubMember = new QClubMember(alias + "ClubMember");
+        }
+    }
 }
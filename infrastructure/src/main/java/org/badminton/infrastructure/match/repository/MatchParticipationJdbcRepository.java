@@ -0,0 +1,57 @@
+package org.badminton.infrastructure.match.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.badminton.domain.domain.match.entity.MatchParticipation;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// 매치 종료 저장과 전적 보정 배치가 같은 매치를 동시에 기록할 수 있으므로 유니크 키에 걸리는 행은 무시한다.
+@Repository
+@RequiredArgsConstructor
+public class MatchParticipationJdbcRepository {
+
+	private static final String INSERT_IGNORE_SQL = """
+		INSERT IGNORE INTO match_participation (clubMemberId, memberId, matchType, matchId, leagueId, leagueAt,
+		    matchResult, winSetCount, loseSetCount, createdAt, modifiedAt)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void insertIgnoringDuplicates(List<MatchParticipation> participations) {
+		if (participations.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				MatchParticipation participation = participations.get(i);
+				ps.setLong(1, participation.getClubMemberId());
+				ps.setLong(2, participation.getMemberId());
+				ps.setString(3, participation.getMatchType().name());
+				ps.setLong(4, participation.getMatchId());
+				ps.setLong(5, participation.getLeagueId());
+				ps.setTimestamp(6, Timestamp.valueOf(participation.getLeagueAt()));
+				ps.setString(7, participation.getMatchResult().name());
+				ps.setInt(8, participation.getWinSetCount());
+				ps.setInt(9, participation.getLoseSetCount());
+				ps.setTimestamp(10, now);
+				ps.setTimestamp(11, now);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return participations.size();
+			}
+		});
+	}
+}
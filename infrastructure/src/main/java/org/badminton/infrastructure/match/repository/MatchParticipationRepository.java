@@ -0,0 +1,32 @@
+package org.badminton.infrastructure.match.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.badminton.domain.domain.match.entity.MatchParticipation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MatchParticipationRepository extends JpaRepository<MatchParticipation, Long> {
+
+	@Query("""
+		SELECT mp FROM MatchParticipation mp
+		WHERE mp.clubMemberId = :clubMemberId
+		ORDER BY mp.leagueAt DESC, mp.leagueId DESC, mp.matchId DESC
+		""")
+	List<MatchParticipation> findLatestByClubMemberId(@Param("clubMemberId") Long clubMemberId, Pageable pageable);
+
+	@Query("""
+		SELECT mp FROM MatchParticipation mp
+		WHERE mp.clubMemberId = :clubMemberId
+		AND (mp.leagueAt < :leagueAt
+			OR (mp.leagueAt = :leagueAt AND mp.leagueId < :leagueId)
+			OR (mp.leagueAt = :leagueAt AND mp.leagueId = :leagueId AND mp.matchId < :matchId))
+		ORDER BY mp.leagueAt DESC, mp.leagueId DESC, mp.matchId DESC
+		""")
+	List<MatchParticipation> findByClubMemberIdBefore(@Param("clubMemberId") Long clubMemberId,
+		@Param("leagueAt") LocalDateTime leagueAt, @Param("leagueId") Long leagueId, @Param("matchId") Long matchId,
+		Pageable pageable);
+}
@@ -1,15 +1,15 @@
 package org.badminton.infrastructure.match.repository;
 
-import static org.badminton.domain.domain.match.vo.LeagueMatchSetRedisKey.*;
-
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 import org.badminton.domain.common.enums.MatchType;
 import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
@@ -17,14 +17,21 @@ import org.badminton.domain.domain.match.vo.LeagueMatchSetRedisKey;
 import org.badminton.domain.domain.match.vo.MatchRedisKey;
 import org.badminton.domain.domain.match.vo.Score;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +41,34 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SetRepository {
 
-	private final RedisTemplate<String, Object> redisTemplate2;
-	private final ObjectMapper objectMapper;
+	private static final String DIRTY_SCORE_KEY = "MATCH_SCORE_DIRTY";
+	private static final String PROCESSING_SCORE_KEY = "MATCH_SCORE_DIRTY_PROCESSING";
+	private static final String DIRTY_SCORE_SEEDED_KEY = "MATCH_SCORE_DIRTY_SEEDED";
+	private static final long SCORE_KEY_SCAN_COUNT = 1000;
+	private static final Duration IN_PROGRESS_SET_TTL = Duration.ofHours(1);
+	private static final RedisScript<Long> DELETE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then "
+			+ "return redis.call('HDEL', KEYS[1], ARGV[1]) "
+			+ "end "
+			+ "return 0", Long.class);
+	// 꺼낸 키는 DB 저장이 끝날 때까지 처리 중 집합에 남겨, 중간에 프로세스가 죽어도 잃지 않는다.
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>(
+		"local members = redis.call('SPOP', KEYS[1], ARGV[1]) "
+			+ "if #members > 0 then redis.call('SADD', KEYS[2], unpack(members)) end "
+			+ "return members", List.class);
+	private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('SADD', KEYS[1], unpack(ARGV)) "
+			+ "return redis.call('SREM', KEYS[2], unpack(ARGV))", Long.class);
+	private static final RedisScript<Long> REQUEUE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"local count = redis.call('SCARD', KEYS[2]) "
+			+ "if count > 0 then "
+			+ "redis.call('SUNIONSTORE', KEYS[1], KEYS[1], KEYS[2]) "
+			+ "redis.call('DEL', KEYS[2]) "
+			+ "end "
+			+ "return count", Long.class);
+
+	private final RedisTemplate<String, LeagueSetsScoreInProgressInfo> inProgressSetRedisTemplate;
 
 	@Autowired
 	private StringRedisTemplate redisTemplate;
@@ -48,8 +81,10 @@ public class SetRepository {
 	}
 
 	public void setMatchSetScore(MatchType matchType, Long matchId, int setNumber, Score score) {
-		hashOps.put(matchType.getDescription() + matchId, String.valueOf(setNumber),
-			score.toString());
+		MatchRedisKey matchRedisKey = new MatchRedisKey(matchType.getDescription() + matchId,
+			String.valueOf(setNumber));
+		hashOps.put(matchRedisKey.getKey(), matchRedisKey.getField(), score.toString());
+		redisTemplate.opsForSet().add(DIRTY_SCORE_KEY, matchRedisKey.toDirtyMember());
 	}
 
 	public Optional<Score> getMatchSetScore(MatchType matchType, Long matchId, int setNumber) {
@@ -60,55 +95,148 @@ public class SetRepository {
 		return Optional.of(new Score(score));
 	}
 
-	public Map<MatchRedisKey, Score> getAllScores() {
-		Set<String> keys = redisTemplate.keys("*게임*");
-
-		Map<MatchRedisKey, Score> scores = new HashMap<>();
-		if (keys == null) {
-			return null;
+	// 꺼낸 키는 completeDirtyScores 나 requeueDirtyScores 로 처리 중 집합에서 빼야 한다.
+	@SuppressWarnings("unchecked")
+	public Map<MatchRedisKey, Score> drainDirtyScores(int batchSize) {
+		List<String> dirtyMembers = redisTemplate.execute(CLAIM_DIRTY_SCRIPT,
+			List.of(DIRTY_SCORE_KEY, PROCESSING_SCORE_KEY), String.valueOf(batchSize));
+		if (dirtyMembers == null || dirtyMembers.isEmpty()) {
+			return Collections.emptyMap();
 		}
-		for (String key : keys) {
-			log.info("*****key: {}", key);
-			Map<String, String> setNumberAndScore = hashOps.entries(key);
-			setNumberAndScore.forEach((field, value) -> {
-				log.info("*****field: {}, value: {}", field, value);
-				scores.put(new MatchRedisKey(key, field), new Score(value));
-			});
+		List<MatchRedisKey> matchRedisKeys = dirtyMembers.stream()
+			.map(MatchRedisKey::fromDirtyMember)
+			.toList();
+
+		List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			for (MatchRedisKey matchRedisKey : matchRedisKeys) {
+				stringRedisConnection.hGet(matchRedisKey.getKey(), matchRedisKey.getField());
+			}
+			return null;
+		});
+
+		Map<MatchRedisKey, Score> scores = new LinkedHashMap<>();
+		List<MatchRedisKey> deletedKeys = new ArrayList<>();
+		for (int i = 0; i < matchRedisKeys.size(); i++) {
+			Object value = values.get(i);
+			// 세트 종료로 이미 삭제된 점수는 DB 에 최종 점수가 저장되어 있으므로 건너뛴다.
+			if (value != null) {
+				scores.put(matchRedisKeys.get(i), new Score((String)value));
+			} else {
+				deletedKeys.add(matchRedisKeys.get(i));
+			}
 		}
+		completeDirtyScores(deletedKeys);
 		return scores;
 	}
 
+	// DB 저장이 커밋된 뒤에 호출한다.
+	public void completeDirtyScores(Collection<MatchRedisKey> matchRedisKeys) {
+		if (matchRedisKeys.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForSet().remove(PROCESSING_SCORE_KEY, (Object[])toDirtyMembers(matchRedisKeys));
+	}
+
+	public void requeueDirtyScores(Collection<MatchRedisKey> matchRedisKeys) {
+		if (matchRedisKeys.isEmpty()) {
+			return;
+		}
+		redisTemplate.execute(REQUEUE_SCRIPT, List.of(DIRTY_SCORE_KEY, PROCESSING_SCORE_KEY),
+			(Object[])toDirtyMembers(matchRedisKeys));
+	}
+
+	// 저장 도중 종료된 프로세스가 남긴 처리 중 키를 되돌리고, 인덱스 도입 전에 쓰인 점수를 한 번만 인덱스에 올린다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void recoverDirtyScores() {
+		Long requeued = redisTemplate.execute(REQUEUE_ALL_SCRIPT, List.of(DIRTY_SCORE_KEY, PROCESSING_SCORE_KEY));
+		if (requeued != null && requeued > 0) {
+			log.info("처리 중이던 세트 점수 키 {}개를 다시 저장 대상으로 돌림", requeued);
+		}
+		if (Boolean.FALSE.equals(redisTemplate.hasKey(DIRTY_SCORE_SEEDED_KEY))) {
+			seedDirtyScores();
+			redisTemplate.opsForValue().set(DIRTY_SCORE_SEEDED_KEY, "1");
+		}
+	}
+
+	private void seedDirtyScores() {
+		ScanOptions scanOptions = ScanOptions.scanOptions()
+			.match("*게임*")
+			.type(DataType.HASH)
+			.count(SCORE_KEY_SCAN_COUNT)
+			.build();
+		try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				if (!isMatchScoreKey(key)) {
+					continue;
+				}
+				String[] dirtyMembers = hashOps.keys(key).stream()
+					.map(field -> new MatchRedisKey(key, field).toDirtyMember())
+					.toArray(String[]::new);
+				if (dirtyMembers.length > 0) {
+					redisTemplate.opsForSet().add(DIRTY_SCORE_KEY, dirtyMembers);
+				}
+			}
+		}
+	}
+
+	private boolean isMatchScoreKey(String key) {
+		return key.startsWith(MatchType.SINGLES.getDescription()) || key.startsWith(MatchType.DOUBLES.getDescription());
+	}
+
+	private String[] toDirtyMembers(Collection<MatchRedisKey> matchRedisKeys) {
+		return matchRedisKeys.stream()
+			.map(MatchRedisKey::toDirtyMember)
+			.toArray(String[]::new);
+	}
+
+	public void deleteScoreIfUnchanged(MatchRedisKey matchRedisKey, Score score) {
+		redisTemplate.execute(DELETE_IF_UNCHANGED_SCRIPT, List.of(matchRedisKey.getKey()),
+			matchRedisKey.getField(), score.toString());
+	}
+
 	public void deleteScore(MatchRedisKey matchRedisKey) {
 		hashOps.delete(matchRedisKey.getKey(), matchRedisKey.getField());
+		redisTemplate.opsForSet().remove(DIRTY_SCORE_KEY, matchRedisKey.toDirtyMember());
+		redisTemplate.opsForSet().remove(PROCESSING_SCORE_KEY, matchRedisKey.toDirtyMember());
 	}
 
 	public void saveInProgressSet(LeagueMatchSetRedisKey key,
 		LeagueSetsScoreInProgressInfo leagueSetsScoreInProgressInfo) {
-		redisTemplate2.opsForValue()
-			.set(key.getKey(), leagueSetsScoreInProgressInfo, 1,
-				TimeUnit.HOURS);
+		long expireAt = System.currentTimeMillis() + IN_PROGRESS_SET_TTL.toMillis();
+		inProgressSetRedisTemplate.opsForValue()
+			.set(key.getKey(), leagueSetsScoreInProgressInfo, IN_PROGRESS_SET_TTL);
+		redisTemplate.opsForZSet().add(key.getLeagueIndexKey(), key.getKey(), expireAt);
+		redisTemplate.expire(key.getLeagueIndexKey(), IN_PROGRESS_SET_TTL);
 	}
 
 	public List<LeagueSetsScoreInProgressInfo> getInProgressSet(Long leagueId) {
-		Set<String> keys = redisTemplate2.keys(IN_PROGRESS_MATCH_PREFIX + LEAGUE_ID_PREFIX + leagueId + "*");
+		String leagueIndexKey = LeagueMatchSetRedisKey.leagueIndexKeyOf(leagueId);
+		// 인덱스의 score 는 각 세트 키의 만료 시각이므로, 만료된 항목을 먼저 정리한다.
+		redisTemplate.opsForZSet().removeRangeByScore(leagueIndexKey, 0, System.currentTimeMillis());
+		Set<String> keys = redisTemplate.opsForZSet().range(leagueIndexKey, 0, -1);
 		if (keys == null || keys.isEmpty()) {
 			return Collections.emptyList();
 		}
-		List<Object> allLeagueMatches = new ArrayList<>();
-		for (String key : keys) {
-			Object value = redisTemplate2.opsForValue().get(key);
-			if (value != null) {
-				allLeagueMatches.add(value);
-			}
+		List<LeagueSetsScoreInProgressInfo> values;
+		try {
+			values = inProgressSetRedisTemplate.opsForValue().multiGet(keys);
+		} catch (SerializationException e) {
+			// 저장 형식이 바뀌기 전에 쓰인 값은 읽지 않는다. 다음 점수 저장 때 다시 쓰인다.
+			log.warn("진행 중인 세트 점수 역직렬화 실패 leagueId: {}", leagueId, e);
+			return Collections.emptyList();
 		}
-		if (allLeagueMatches.isEmpty()) {
+		if (values == null) {
 			return Collections.emptyList();
 		}
-		return objectMapper.convertValue(allLeagueMatches, new TypeReference<List<LeagueSetsScoreInProgressInfo>>() {
-		});
+		return values.stream()
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
 	public void evictLeagueMatchSet(LeagueMatchSetRedisKey leagueMatchSetRedisKey) {
-		redisTemplate2.delete(leagueMatchSetRedisKey.getKey());
+		inProgressSetRedisTemplate.delete(leagueMatchSetRedisKey.getKey());
+		redisTemplate.opsForZSet().remove(leagueMatchSetRedisKey.getLeagueIndexKey(), leagueMatchSetRedisKey.getKey());
 	}
 }
@@ -0,0 +1,130 @@
+package org.badminton.infrastructure.match.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.entity.SinglesSet;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// IDENTITY 전략에서는 Hibernate 가 insert 를 배치로 묶지 않으므로 대진표 생성은 JDBC 배치로 저장한다.
+@Repository
+@RequiredArgsConstructor
+public class SinglesBracketJdbcRepository {
+
+	private static final String INSERT_MATCH_SQL = """
+		INSERT INTO singles_match (leagueId, leagueParticipant1Id, leagueParticipant2Id, player1WinSetCount,
+		    player2WinSetCount, player1MatchResult, player2MatchResult, matchStatus, roundNumber, createdAt, modifiedAt)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String UPDATE_NEXT_MATCH_SQL = "UPDATE singles_match SET nextMatchId = ? WHERE id = ?";
+	private static final String INSERT_SET_SQL = """
+		INSERT INTO singles_set (singlesMatchId, setNumber, player1Score, player2Score, setStatus, createdAt, modifiedAt)
+		VALUES (?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 저장한 순서대로 생성된 매치 id 를 돌려준다.
+	public List<Long> insertMatches(List<SinglesMatch> matches) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_MATCH_SQL, Statement.RETURN_GENERATED_KEYS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					SinglesMatch match = matches.get(i);
+					ps.setLong(1, match.getLeague().getLeagueId());
+					setParticipantId(ps, 2, match.getLeagueParticipant1());
+					setParticipantId(ps, 3, match.getLeagueParticipant2());
+					ps.setInt(4, match.getPlayer1WinSetCount());
+					ps.setInt(5, match.getPlayer2WinSetCount());
+					ps.setString(6, match.getPlayer1MatchResult().name());
+					ps.setString(7, match.getPlayer2MatchResult().name());
+					ps.setString(8, match.getMatchStatus().name());
+					ps.setInt(9, match.getRoundNumber());
+					ps.setTimestamp(10, now);
+					ps.setTimestamp(11, now);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return matches.size();
+				}
+			},
+			keyHolder);
+
+		return keyHolder.getKeyList().stream()
+			.map(key -> ((Number)key.values().iterator().next()).longValue())
+			.toList();
+	}
+
+	public void updateNextMatchIds(List<Long> matchIds, List<Long> nextMatchIds) {
+		jdbcTemplate.batchUpdate(UPDATE_NEXT_MATCH_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				ps.setLong(1, nextMatchIds.get(i));
+				ps.setLong(2, matchIds.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return matchIds.size();
+			}
+		});
+	}
+
+	public void insertSets(List<SinglesMatch> matches, List<Long> matchIds) {
+		List<Long> setMatchIds = new ArrayList<>();
+		List<SinglesSet> sets = new ArrayList<>();
+		for (int i = 0; i < matches.size(); i++) {
+			for (SinglesSet set : matches.get(i).getSinglesSets()) {
+				setMatchIds.add(matchIds.get(i));
+				sets.add(set);
+			}
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SET_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				SinglesSet set = sets.get(i);
+				ps.setLong(1, setMatchIds.get(i));
+				ps.setInt(2, set.getSetNumber());
+				ps.setInt(3, set.getPlayer1Score());
+				ps.setInt(4, set.getPlayer2Score());
+				ps.setString(5, set.getSetStatus().name());
+				ps.setTimestamp(6, now);
+				ps.setTimestamp(7, now);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return sets.size();
+			}
+		});
+	}
+
+	private void setParticipantId(PreparedStatement ps, int index, LeagueParticipant participant)
+		throws SQLException {
+		if (participant == null) {
+			ps.setNull(index, Types.BIGINT);
+			return;
+		}
+		ps.setLong(index, participant.getLeagueParticipantId());
+	}
+}
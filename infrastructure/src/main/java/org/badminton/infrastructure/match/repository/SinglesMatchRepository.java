@@ -4,9 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.common.enums.SetStatus;
 import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.vo.BracketLink;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -34,6 +38,7 @@ public interface SinglesMatchRepository extends JpaRepository<SinglesMatch, Long
 		    LEFT JOIN FETCH m2.leagueRecord lr2
 		    LEFT JOIN FETCH lp2.clubMember cm2
 		    WHERE l.leagueId = :leagueId
+		    ORDER BY sm.id
 		""")
 	List<SinglesMatch> findAllSinglesMatch(@Param("leagueId") Long leagueId);
 
@@ -59,4 +64,74 @@ public interface SinglesMatchRepository extends JpaRepository<SinglesMatch, Long
 		@Param("leagueParticipant") LeagueParticipant leagueParticipant);
 
 	Optional<SinglesMatch> findByIdAndLeagueLeagueId(Long matchId, Long leagueId);
+
+	@Modifying
+	@Query("UPDATE SinglesMatch match SET match.matchStatus = :matchStatus WHERE match.league.leagueId IN (:leagueIds)")
+	int updateMatchStatusByLeagueIds(@Param("leagueIds") List<Long> leagueIds,
+		@Param("matchStatus") MatchStatus matchStatus);
+
+	@Modifying
+	@Query("""
+		UPDATE SinglesSet singlesSet
+		SET singlesSet.setStatus = :setStatus
+		WHERE singlesSet.singlesMatch.id IN (
+		    SELECT match.id FROM SinglesMatch match WHERE match.league.leagueId IN (:leagueIds)
+		)
+		""")
+	int updateSetStatusByLeagueIds(@Param("leagueIds") List<Long> leagueIds, @Param("setStatus") SetStatus setStatus);
+
+	@Query("""
+		SELECT DISTINCT match.league.leagueId
+		FROM SinglesMatch match
+		WHERE match.league.leagueId IN (:leagueIds)
+		  AND match.matchStatus != 'FINISHED'
+		""")
+	List<Long> findLeagueIdsWithUnfinishedMatches(@Param("leagueIds") List<Long> leagueIds);
+
+	@Query("""
+		SELECT new org.badminton.domain.domain.match.vo.BracketLink(match.id, match.roundNumber, match.nextMatchId)
+		FROM SinglesMatch match
+		WHERE match.league.leagueId = :leagueId
+		ORDER BY match.roundNumber, match.id
+		""")
+	List<BracketLink> findBracketLinksByLeagueId(@Param("leagueId") Long leagueId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SinglesMatch match SET match.leagueParticipant1 = :winner WHERE match.id = :matchId")
+	int updateLeagueParticipant1(@Param("matchId") Long matchId, @Param("winner") LeagueParticipant winner);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE SinglesMatch match
+		SET match.leagueParticipant1 = :winner
+		WHERE match.id = :matchId
+		  AND match.leagueParticipant1 IS NULL
+		""")
+	int updateLeagueParticipant1IfEmpty(@Param("matchId") Long matchId, @Param("winner") LeagueParticipant winner);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE SinglesMatch match
+		SET match.leagueParticipant2 = :winner
+		WHERE match.id = :matchId
+		  AND match.leagueParticipant2 IS NULL
+		  AND match.leagueParticipant1 <> :winner
+		""")
+	int updateLeagueParticipant2IfEmpty(@Param("matchId") Long matchId, @Param("winner") LeagueParticipant winner);
+
+	// 리그 일괄 종료로 결과 없이 끝난 매치는 전적에 남기지 않는다.
+	// 전적 행 존재 여부는 match_participation 의 (matchType, matchId, clubMemberId) 유니크 인덱스로 확인한다.
+	@Query("""
+		SELECT match.id FROM SinglesMatch match
+		WHERE match.matchStatus = 'FINISHED'
+		  AND match.player1MatchResult <> 'NONE'
+		  AND match.id > :lastMatchId
+		  AND NOT EXISTS (
+		      SELECT 1 FROM MatchParticipation participation
+		      WHERE participation.matchType = 'SINGLES'
+		        AND participation.matchId = match.id
+		  )
+		ORDER BY match.id
+		""")
+	List<Long> findUnrecordedFinishedMatchIdsAfter(@Param("lastMatchId") Long lastMatchId, Pageable pageable);
 }
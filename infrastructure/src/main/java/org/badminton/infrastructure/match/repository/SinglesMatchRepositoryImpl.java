@@ -1,16 +1,16 @@
 package org.badminton.infrastructure.match.repository;
 
+import static org.badminton.domain.domain.league.entity.QLeague.league;
 import static org.badminton.domain.domain.match.entity.QSinglesMatch.singlesMatch;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.domain.clubmember.entity.QClubMember;
 import org.badminton.domain.domain.league.entity.QLeagueParticipant;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
 import org.badminton.domain.domain.match.reader.SinglesMatchRepositoryCustom;
+import org.badminton.domain.domain.member.entity.QMember;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,29 +18,26 @@ import org.springframework.stereotype.Repository;
 public class SinglesMatchRepositoryImpl implements SinglesMatchRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 전적 화면에서 쓰는 리그와 참가자 이름까지 한 번에 가져온다.
     @Override
-    public List<SinglesMatch> findAllCompletedByClubMemberId(Long clubMemberId) {
+    public List<SinglesMatch> findAllWithParticipantsByIds(List<Long> matchIds) {
         QLeagueParticipant leagueParticipant1 = new QLeagueParticipant("leagueParticipant1");
         QLeagueParticipant leagueParticipant2 = new QLeagueParticipant("leagueParticipant2");
+        QClubMember clubMember1 = new QClubMember("clubMember1");
+        QClubMember clubMember2 = new QClubMember("clubMember2");
+        QMember member1 = new QMember("member1");
+        QMember member2 = new QMember("member2");
 
         return queryFactory
                 .selectFrom(singlesMatch)
-                .join(leagueParticipant1)
-                .on(singlesMatch.leagueParticipant1.leagueParticipantId.eq(leagueParticipant1.leagueParticipantId))
-                .join(leagueParticipant2)
-                .on(singlesMatch.leagueParticipant2.leagueParticipantId.eq(leagueParticipant2.leagueParticipantId))
-                .where(
-                        singlesMatch.matchStatus.eq(MatchStatus.FINISHED)
-                                .and(
-                                        isClubMemberInParticipant(leagueParticipant1, clubMemberId)
-                                                .or(isClubMemberInParticipant(leagueParticipant2, clubMemberId))
-                                )
-                )
+                .join(singlesMatch.league, league).fetchJoin()
+                .join(singlesMatch.leagueParticipant1, leagueParticipant1).fetchJoin()
+                .join(leagueParticipant1.clubMember, clubMember1).fetchJoin()
+                .join(clubMember1.member, member1).fetchJoin()
+                .join(singlesMatch.leagueParticipant2, leagueParticipant2).fetchJoin()
+                .join(leagueParticipant2.clubMember, clubMember2).fetchJoin()
+                .join(clubMember2.member, member2).fetchJoin()
+                .where(singlesMatch.id.in(matchIds))
                 .fetch();
     }
-
-    private BooleanExpression isClubMemberInParticipant(QLeagueParticipant participant, Long clubMemberId) {
-        return participant.clubMember != null ? participant.clubMember.clubMemberId.eq(clubMemberId) :
-                Expressions.FALSE;
-    }
 }
@@ -0,0 +1,46 @@
+package org.badminton.infrastructure.match.scoreboard;
+
+import java.io.IOException;
+
+import org.badminton.domain.domain.match.event.ScoreBoardUpdatedEvent;
+import org.badminton.domain.domain.match.info.ScoreBoardDeltaInfo;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreBoardMessageListener implements MessageListener {
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ObjectMapper objectMapper;
+
+	// 모든 API 노드가 같은 채널을 구독하므로, 어느 노드에서 점수가 바뀌어도 각 노드의 구독자에게 전달된다.
+	@PostConstruct
+	private void init() {
+		redisMessageListenerContainer.addMessageListener(this,
+			new ChannelTopic(ScoreBoardPublisher.SCORE_BOARD_CHANNEL));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			ScoreBoardDeltaInfo scoreBoardDeltaInfo = objectMapper.readValue(message.getBody(),
+				ScoreBoardDeltaInfo.class);
+			applicationEventPublisher.publishEvent(new ScoreBoardUpdatedEvent(scoreBoardDeltaInfo));
+		} catch (IOException e) {
+			log.error("스코어 보드 메시지 역직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package org.badminton.infrastructure.match.scoreboard;
+
+import org.badminton.domain.domain.match.info.ScoreBoardDeltaInfo;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreBoardPublisher {
+
+	public static final String SCORE_BOARD_CHANNEL = "SCORE_BOARD";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public void publish(ScoreBoardDeltaInfo scoreBoardDeltaInfo) {
+		try {
+			stringRedisTemplate.convertAndSend(SCORE_BOARD_CHANNEL,
+				objectMapper.writeValueAsString(scoreBoardDeltaInfo));
+		} catch (JsonProcessingException e) {
+			log.error("스코어 보드 변경 사항 직렬화 실패 matchId: {}", scoreBoardDeltaInfo.matchId(), e);
+		}
+	}
+}
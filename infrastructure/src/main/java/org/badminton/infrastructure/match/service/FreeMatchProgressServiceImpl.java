@@ -1,9 +1,9 @@
 package org.badminton.infrastructure.match.service;
 
 import org.badminton.domain.common.exception.league.LeagueParticipationNotExistException;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.league.LeagueParticipantReader;
 import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.match.command.MatchCommand.UpdateSetScore;
 import org.badminton.domain.domain.match.info.SetInfo.Main;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class FreeMatchProgressServiceImpl implements MatchProgressService {
 
 	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 	private final SinglesMatchStore singlesMatchStore;
@@ -31,8 +32,7 @@ public class FreeMatchProgressServiceImpl implements MatchProgressService {
 
 	@Override
 	public MatchStrategy makeSinglesOrDoublesMatchStrategy(Long leagueId) {
-		League league = findLeague(leagueId);
-		return switch (league.getMatchType()) {
+		return switch (leagueDescriptorCache.getDescriptor(leagueId).matchType()) {
 			case SINGLES -> new FreeSinglesMatchStrategy(singlesMatchReader, singlesMatchStore, leagueReader);
 			case DOUBLES -> new FreeDoublesMatchStrategy(doublesMatchReader, doublesMatchStore, leagueReader);
 		};
@@ -47,8 +47,4 @@ public class FreeMatchProgressServiceImpl implements MatchProgressService {
 
 		return matchStrategy.endSet(matchId, setIndex, updateSetScoreCommand);
 	}
-
-	private League findLeague(Long leagueId) {
-		return leagueReader.readLeagueById(leagueId);
-	}
 }
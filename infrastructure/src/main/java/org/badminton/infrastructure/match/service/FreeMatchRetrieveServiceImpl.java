@@ -1,7 +1,7 @@
 package org.badminton.infrastructure.match.service;
 
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.match.info.SetInfo.Main;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
@@ -18,26 +18,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class FreeMatchRetrieveServiceImpl extends AbstractMatchRetrieveService {
 
 	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 	private final SinglesMatchStore singlesMatchStore;
 	private final DoublesMatchStore doublesMatchStore;
 
-	public FreeMatchRetrieveServiceImpl(LeagueReader leagueReader, SinglesMatchReader singlesMatchReader,
-		DoublesMatchReader doublesMatchReader,
+	public FreeMatchRetrieveServiceImpl(LeagueReader leagueReader, LeagueDescriptorCache leagueDescriptorCache,
+		SinglesMatchReader singlesMatchReader, DoublesMatchReader doublesMatchReader,
 		SinglesMatchStore singlesMatchStore, DoublesMatchStore doublesMatchStore) {
 		this.singlesMatchReader = singlesMatchReader;
 		this.doublesMatchReader = doublesMatchReader;
 		this.singlesMatchStore = singlesMatchStore;
 		this.doublesMatchStore = doublesMatchStore;
 		this.leagueReader = leagueReader;
+		this.leagueDescriptorCache = leagueDescriptorCache;
 	}
 
 	@Override
 	@Transactional
 	public MatchStrategy makeSinglesOrDoublesMatchStrategy(Long leagueId) {
-		League league = findLeague(leagueId);
-		return switch (league.getMatchType()) {
+		return switch (leagueDescriptorCache.getDescriptor(leagueId).matchType()) {
 			case SINGLES -> new FreeSinglesMatchStrategy(singlesMatchReader, singlesMatchStore, leagueReader);
 			case DOUBLES -> new FreeDoublesMatchStrategy(doublesMatchReader, doublesMatchStore, leagueReader);
 		};
@@ -48,8 +49,4 @@ public class FreeMatchRetrieveServiceImpl extends AbstractMatchRetrieveService {
 	public Main retrieveSet(MatchStrategy matchStrategy, Long matchId, int setNumber) {
 		return matchStrategy.retrieveSet(matchId, setNumber);
 	}
-
-	private League findLeague(Long leagueId) {
-		return leagueReader.readLeagueById(leagueId);
-	}
 }
@@ -1,14 +1,12 @@
 package org.badminton.infrastructure.match.service;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.badminton.domain.common.enums.MatchType;
-import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
-import org.badminton.domain.domain.match.entity.DoublesSet;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
-import org.badminton.domain.domain.match.entity.SinglesSet;
 import org.badminton.domain.domain.match.info.LeagueSetsScoreInProgressInfo;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
@@ -27,23 +25,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RetrieveMatchSet {
 	private final SetRepository setRepository;
-	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 	private final SinglesMatchStore singlesMatchStore;
 	private final DoublesMatchStore doublesMatchStore;
 
 	public void setMatchSetScore(Long leagueId, Long matchId, int setNumber, Score score) {
-		League league = leagueReader.readLeagueById(leagueId);
+		MatchType matchType = getMatchType(leagueId);
 
 		LeagueSetsScoreInProgressInfo leagueSetsScoreInProgressInfo = null;
-		if (league.getMatchType() == MatchType.SINGLES) {
+		if (matchType == MatchType.SINGLES) {
 			SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(matchId);
 			singlesMatch.startMatchSet(setNumber);
 			singlesMatch.getSinglesSet(setNumber).saveSetScore(score.getLeft(), score.getRight());
 			leagueSetsScoreInProgressInfo = LeagueSetsScoreInProgressInfo.fromSinglesMatchAndSet(singlesMatch,
 				singlesMatch.getSinglesSet(setNumber));
-		} else if (league.getMatchType() == MatchType.DOUBLES) {
+		} else if (matchType == MatchType.DOUBLES) {
 			DoublesMatch doublesMatch = doublesMatchReader.getDoublesMatch(matchId);
 			doublesMatch.startMatchSet(setNumber);
 			doublesMatch.getDoublesSet(setNumber).saveSetScore(score.getLeft(), score.getRight());
@@ -52,36 +50,34 @@ public class RetrieveMatchSet {
 		}
 		setRepository.saveInProgressSet(new LeagueMatchSetRedisKey(leagueId, matchId, setNumber),
 			leagueSetsScoreInProgressInfo);
-		setRepository.setMatchSetScore(league.getMatchType(), matchId, setNumber, score);
+		setRepository.setMatchSetScore(matchType, matchId, setNumber, score);
 	}
 
 	@Transactional
-	public void registerMatchSetScoreInDb(MatchRedisKey key, Score score) {
-		if (key.getMatchType() == MatchType.SINGLES) {
-			SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(key.getMatchId());
-			SinglesSet singlesSet = singlesMatch.getSinglesSet(key.getSetNumber());
-			singlesSet.saveSetScore(score.getLeft(), score.getRight());
+	public void registerMatchSetScoresInDb(MatchType matchType, Long matchId, Map<Integer, Score> setScores) {
+		if (matchType == MatchType.SINGLES) {
+			SinglesMatch singlesMatch = singlesMatchReader.getSinglesMatch(matchId);
+			setScores.forEach((setNumber, score) -> singlesMatch.getSinglesSet(setNumber)
+				.saveSetScore(score.getLeft(), score.getRight()));
 			singlesMatchStore.store(singlesMatch);
-		} else if (key.getMatchType() == MatchType.DOUBLES) {
-			DoublesMatch doublesMatch = doublesMatchReader.getDoublesMatch(key.getMatchId());
-			DoublesSet doublesSet = doublesMatch.getDoublesSet(key.getSetNumber());
-			doublesSet.saveSetScore(score.getLeft(), score.getRight());
+		} else if (matchType == MatchType.DOUBLES) {
+			DoublesMatch doublesMatch = doublesMatchReader.getDoublesMatch(matchId);
+			setScores.forEach((setNumber, score) -> doublesMatch.getDoublesSet(setNumber)
+				.saveSetScore(score.getLeft(), score.getRight()));
 			doublesMatchStore.store(doublesMatch);
 		}
 	}
 
 	public Optional<Score> getMatchSetScore(Long leagueId, Long matchId, int setNumber) {
-		League league = leagueReader.readLeagueById(leagueId);
-		return setRepository.getMatchSetScore(league.getMatchType(), matchId, setNumber);
+		return setRepository.getMatchSetScore(getMatchType(leagueId), matchId, setNumber);
 	}
 
 	public MatchType getMatchType(Long leagueId) {
-		League league = leagueReader.readLeagueById(leagueId);
-		return league.getMatchType();
+		return leagueDescriptorCache.getDescriptor(leagueId).matchType();
 	}
 
-	public void deleteCache(MatchRedisKey key) {
-		setRepository.deleteScore(key);
+	public void deleteCache(MatchRedisKey key, Score flushedScore) {
+		setRepository.deleteScoreIfUnchanged(key, flushedScore);
 	}
 
 	public void evictLeagueMatchSet(Long leagueId, Long matchId, Integer setNumber) {
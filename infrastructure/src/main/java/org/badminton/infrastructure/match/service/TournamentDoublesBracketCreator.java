@@ -12,6 +12,7 @@ import org.badminton.domain.domain.match.entity.DoublesMatch;
 import org.badminton.domain.domain.match.entity.DoublesSet;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
 import org.badminton.domain.domain.match.store.DoublesMatchStore;
+import org.badminton.infrastructure.match.bracket.BracketTopologyCache;
 import org.badminton.infrastructure.match.strategy.MatchUtils;
 import org.springframework.stereotype.Service;
 
@@ -21,7 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TournamentDoublesBracketCreator {
 
-	private final MatchUtils matchUtils;
+	private final BracketTopologyCache bracketTopologyCache;
 	private final DoublesMatchStore doublesMatchStore;
 	private final DoublesMatchReader doublesMatchReader;
 
@@ -45,13 +46,21 @@ public class TournamentDoublesBracketCreator {
 		List<LeagueParticipant> currentParticipants,
 		int totalRounds) {
 
-		allMatches.addAll(createFirstRoundMatches(league, currentParticipants));
+		bracketTopologyCache.evictDoubles(league.getLeagueId());
 
-		allMatches.addAll(createSubsequentRoundsMatches(league, totalRounds));
+		List<List<DoublesMatch>> rounds = new ArrayList<>();
+		rounds.add(createFirstRoundMatches(league, currentParticipants));
 
-		allMatches.stream()
-			.filter(DoublesMatch::isByeMatch)
-			.forEach(matchUtils::updateDoublesMatchNextRoundMatch);
+		for (int roundNumber = SECOND_ROUND_NUMBER; roundNumber <= totalRounds; roundNumber++) {
+			List<DoublesMatch> previousRoundMatches = rounds.get(rounds.size() - 1);
+			List<DoublesMatch> currentRoundMatches = createMatchesRound(league, previousRoundMatches, roundNumber);
+			moveByeWinnersToNextRound(previousRoundMatches, currentRoundMatches);
+			rounds.add(currentRoundMatches);
+		}
+
+		doublesMatchStore.storeBracket(rounds);
+
+		allMatches.addAll(doublesMatchReader.getDoublesBracket(league.getLeagueId()));
 	}
 
 	private List<DoublesMatch> createFirstRoundMatches(League league, List<LeagueParticipant> participants) {
@@ -63,7 +72,6 @@ public class TournamentDoublesBracketCreator {
 			DoublesMatch match = new DoublesMatch(league, team1, team2, FIRST_ROUND_NUMBER);
 
 			makeSetsInMatch(match);
-			doublesMatchStore.store(match);
 			matches.add(match);
 		}
 
@@ -72,7 +80,6 @@ public class TournamentDoublesBracketCreator {
 				participants.get(participants.size() - 2));
 			DoublesMatch byeMatch = new DoublesMatch(league, byeTeam, Team.emptyParticipant(), 1);
 			byeMatch.byeMatch();
-			doublesMatchStore.store(byeMatch);
 			matches.add(byeMatch);
 		}
 		return matches;
@@ -99,7 +106,6 @@ public class TournamentDoublesBracketCreator {
 			DoublesMatch match = new DoublesMatch(league, Team.emptyParticipant(), Team.emptyParticipant(),
 				roundNumber);
 			makeSetsInMatch(match);
-			doublesMatchStore.store(match);
 			regularRoundMatches.add(match);
 		}
 
@@ -113,23 +119,18 @@ public class TournamentDoublesBracketCreator {
 
 		DoublesMatch nextByeMatch = new DoublesMatch(league, winner, Team.emptyParticipant(), roundNumber);
 		nextByeMatch.byeMatch();
-		doublesMatchStore.store(nextByeMatch);
 
 		return nextByeMatch;
 	}
 
-	private List<DoublesMatch> createSubsequentRoundsMatches(League league, int totalRounds) {
-		List<DoublesMatch> matches = new ArrayList<>();
-		List<DoublesMatch> previousMatches = doublesMatchReader.findMatchesByLeagueAndRound(league.getLeagueId(),
-			FIRST_ROUND_NUMBER);
-
-		for (int roundNumber = SECOND_ROUND_NUMBER; roundNumber <= totalRounds; roundNumber++) {
-			List<DoublesMatch> currentRoundMatches = createMatchesRound(league, previousMatches, roundNumber);
-			matches.addAll(currentRoundMatches);
-			previousMatches = currentRoundMatches;
+	private void moveByeWinnersToNextRound(List<DoublesMatch> previousRoundMatches,
+		List<DoublesMatch> currentRoundMatches) {
+		for (int i = 0; i < previousRoundMatches.size(); i++) {
+			DoublesMatch previousMatch = previousRoundMatches.get(i);
+			if (previousMatch.isByeMatch()) {
+				currentRoundMatches.get(i / TEAMS_PER_MATCH).defineTeam1(previousMatch.determineWinner());
+			}
 		}
-
-		return matches;
 	}
 
 	private void makeSetsInMatch(DoublesMatch doublesMatch) {
@@ -137,6 +138,5 @@ public class TournamentDoublesBracketCreator {
 			DoublesSet set = new DoublesSet(doublesMatch, i);
 			doublesMatch.addSet(set);
 		}
-		doublesMatchStore.store(doublesMatch);
 	}
 }
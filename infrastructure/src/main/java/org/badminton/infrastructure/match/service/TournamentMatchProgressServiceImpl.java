@@ -1,9 +1,8 @@
 package org.badminton.infrastructure.match.service;
 
 import org.badminton.domain.common.exception.league.LeagueParticipationNotExistException;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.league.LeagueParticipantReader;
-import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
 import org.badminton.domain.domain.match.command.MatchCommand.UpdateSetScore;
 import org.badminton.domain.domain.match.info.SetInfo.Main;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
@@ -26,7 +25,7 @@ public class TournamentMatchProgressServiceImpl implements MatchProgressService
 	private final DoublesMatchReader doublesMatchReader;
 	private final SinglesMatchStore singlesMatchStore;
 	private final DoublesMatchStore doublesMatchStore;
-	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final LeagueParticipantReader leagueParticipantReader;
 	private final TournamentSinglesEndSetHandler tournamentSinglesEndSetHandler;
 	private final TournamentSinglesBracketCreator tournamentSinglesBracketCreator;
@@ -35,8 +34,7 @@ public class TournamentMatchProgressServiceImpl implements MatchProgressService
 
 	@Override
 	public MatchStrategy makeSinglesOrDoublesMatchStrategy(Long leagueId) {
-		League league = findLeague(leagueId);
-		return switch (league.getMatchType()) {
+		return switch (leagueDescriptorCache.getDescriptor(leagueId).matchType()) {
 			case SINGLES -> new TournamentSinglesMatchStrategy(singlesMatchReader, singlesMatchStore,
 				tournamentSinglesBracketCreator, tournamentSinglesEndSetHandler);
 			case DOUBLES -> new TournamentDoublesMatchStrategy(doublesMatchReader, doublesMatchStore,
@@ -52,8 +50,4 @@ public class TournamentMatchProgressServiceImpl implements MatchProgressService
 
 		return matchStrategy.endSet(matchId, setIndex, updateSetScoreCommand);
 	}
-
-	private League findLeague(Long leagueId) {
-		return leagueReader.readLeagueById(leagueId);
-	}
 }
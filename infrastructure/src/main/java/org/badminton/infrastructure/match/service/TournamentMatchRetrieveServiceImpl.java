@@ -1,7 +1,6 @@
 package org.badminton.infrastructure.match.service;
 
-import org.badminton.domain.domain.league.LeagueReader;
-import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.LeagueDescriptorCache;
 import org.badminton.domain.domain.match.info.SetInfo;
 import org.badminton.domain.domain.match.reader.DoublesMatchReader;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
@@ -20,7 +19,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TournamentMatchRetrieveServiceImpl extends AbstractMatchRetrieveService {
 
-	private final LeagueReader leagueReader;
+	private final LeagueDescriptorCache leagueDescriptorCache;
 	private final SinglesMatchReader singlesMatchReader;
 	private final DoublesMatchReader doublesMatchReader;
 	private final SinglesMatchStore singlesMatchStore;
@@ -33,8 +32,7 @@ public class TournamentMatchRetrieveServiceImpl extends AbstractMatchRetrieveSer
 	@Override
 	@Transactional
 	public MatchStrategy makeSinglesOrDoublesMatchStrategy(Long leagueId) {
-		League league = findLeague(leagueId);
-		return switch (league.getMatchType()) {
+		return switch (leagueDescriptorCache.getDescriptor(leagueId).matchType()) {
 			case SINGLES -> new TournamentSinglesMatchStrategy(singlesMatchReader, singlesMatchStore,
 				tournamentSinglesBracketCreator, tournamentSinglesEndSetHandler);
 			case DOUBLES -> new TournamentDoublesMatchStrategy(doublesMatchReader, doublesMatchStore,
@@ -48,8 +46,4 @@ public class TournamentMatchRetrieveServiceImpl extends AbstractMatchRetrieveSer
 		return matchStrategy.retrieveSet(matchId, setNumber);
 	}
 
-	private League findLeague(Long leagueId) {
-		return leagueReader.readLeagueById(leagueId);
-	}
-
 }
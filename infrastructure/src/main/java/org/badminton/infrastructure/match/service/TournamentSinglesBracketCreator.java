@@ -11,6 +11,7 @@ import org.badminton.domain.domain.match.entity.SinglesMatch;
 import org.badminton.domain.domain.match.entity.SinglesSet;
 import org.badminton.domain.domain.match.reader.SinglesMatchReader;
 import org.badminton.domain.domain.match.store.SinglesMatchStore;
+import org.badminton.infrastructure.match.bracket.BracketTopologyCache;
 import org.badminton.infrastructure.match.strategy.MatchUtils;
 import org.springframework.stereotype.Service;
 
@@ -22,7 +23,7 @@ public class TournamentSinglesBracketCreator {
 
 	private final SinglesMatchStore singlesMatchStore;
 	private final SinglesMatchReader singlesMatchReader;
-	private final MatchUtils matchUtils;
+	private final BracketTopologyCache bracketTopologyCache;
 
 	private static boolean isParticipantOddSize(List<LeagueParticipant> participants) {
 		return participants.size() % 2 != 0;
@@ -44,16 +45,24 @@ public class TournamentSinglesBracketCreator {
 	public void generateAllMatches(League league, List<SinglesMatch> allMatches,
 		List<LeagueParticipant> currentParticipants,
 		int totalRounds) {
-		// 전체 매치 배열에 첫번재 라운드 생성 후 넣기
-		allMatches.addAll(createFirstRoundMatches(league, currentParticipants));
+		// 대진표를 다시 생성하면 매치 id 가 바뀌므로 캐시된 연결 정보를 비운다.
+		bracketTopologyCache.evictSingles(league.getLeagueId());
 
-		// 전체 매치 배열에 첫번째 라운드 제외 모든 라운드 매치 생성 후 넣기
-		allMatches.addAll(createSubsequentRoundsMatches(league, totalRounds));
+		// 전체 라운드를 메모리에서 먼저 구성한 뒤 한 번에 저장
+		List<List<SinglesMatch>> rounds = new ArrayList<>();
+		rounds.add(createFirstRoundMatches(league, currentParticipants));
 
-		// 전체 매치 스트림 -> 부전승이고, leagueParticipant1 이 null 이 아닌 매치들 대상으로 -> leagueParticipant1 다음 라운드의 매치로 이동
-		allMatches.stream()
-			.filter(SinglesMatch::isByeMatch)
-			.forEach(matchUtils::updateSinglesMatchNextRoundMatch);
+		// 각 라운드를 만들면서 부전승 참가자를 다음 라운드로 이동
+		for (int roundNumber = SECOND_ROUND_NUMBER; roundNumber <= totalRounds; roundNumber++) {
+			List<SinglesMatch> previousRoundMatches = rounds.get(rounds.size() - 1);
+			List<SinglesMatch> currentRoundMatches = createMatchesRound(league, previousRoundMatches, roundNumber);
+			moveByeWinnersToNextRound(previousRoundMatches, currentRoundMatches);
+			rounds.add(currentRoundMatches);
+		}
+
+		singlesMatchStore.storeBracket(rounds);
+
+		allMatches.addAll(singlesMatchReader.getSinglesBracket(league.getLeagueId()));
 	}
 
 	private List<SinglesMatch> createFirstRoundMatches(League league, List<LeagueParticipant> participants) {
@@ -64,7 +73,6 @@ public class TournamentSinglesBracketCreator {
 				FIRST_ROUND_NUMBER);
 
 			makeSetsInMatch(match);
-			singlesMatchStore.store(match);
 			matches.add(match);
 		}
 
@@ -74,7 +82,6 @@ public class TournamentSinglesBracketCreator {
 				FIRST_ROUND_NUMBER);
 
 			byeMatch.byeMatch();
-			singlesMatchStore.store(byeMatch);
 			matches.add(byeMatch);
 		}
 
@@ -86,21 +93,17 @@ public class TournamentSinglesBracketCreator {
 			SinglesSet set = new SinglesSet(singlesMatch, i);
 			singlesMatch.addSet(set);
 		}
-		singlesMatchStore.store(singlesMatch);
 	}
 
-	private List<SinglesMatch> createSubsequentRoundsMatches(League league, int totalRounds) {
-		List<SinglesMatch> matches = new ArrayList<>();
-		List<SinglesMatch> previousRoundMatches = singlesMatchReader.findMatchesByLeagueAndRound(league.getLeagueId(),
-			FIRST_ROUND_NUMBER);
-
-		for (int roundNumber = SECOND_ROUND_NUMBER; roundNumber <= totalRounds; roundNumber++) {
-			List<SinglesMatch> currentRoundMatches = createMatchesRound(league, previousRoundMatches, roundNumber);
-			matches.addAll(currentRoundMatches);
-			previousRoundMatches = currentRoundMatches;
+	private void moveByeWinnersToNextRound(List<SinglesMatch> previousRoundMatches,
+		List<SinglesMatch> currentRoundMatches) {
+		for (int i = 0; i < previousRoundMatches.size(); i++) {
+			SinglesMatch previousMatch = previousRoundMatches.get(i);
+			if (previousMatch.isByeMatch()) {
+				currentRoundMatches.get(i / PARTICIPANTS_PER_MATCH)
+					.defineLeagueParticipant1(previousMatch.determineWinner());
+			}
 		}
-
-		return matches;
 	}
 
 	private List<SinglesMatch> createMatchesRound(League league, List<SinglesMatch> previousRoundMatches,
@@ -124,7 +127,6 @@ public class TournamentSinglesBracketCreator {
 			SinglesMatch match = new SinglesMatch(league, LeagueParticipant.emptyParticipant(),
 				LeagueParticipant.emptyParticipant(), roundNumber);
 			makeSetsInMatch(match);
-			singlesMatchStore.store(match);
 			regularRoundMatches.add(match);
 		}
 
@@ -139,7 +141,6 @@ public class TournamentSinglesBracketCreator {
 		SinglesMatch nextByeMatch = new SinglesMatch(league, winner, LeagueParticipant.emptyParticipant(),
 			roundNumber);
 		nextByeMatch.byeMatch();
-		singlesMatchStore.store(nextByeMatch);
 
 		return nextByeMatch;
 	}
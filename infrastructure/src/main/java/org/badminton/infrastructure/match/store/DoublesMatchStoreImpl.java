@@ -1,9 +1,19 @@
 package org.badminton.infrastructure.match.store;
 
+import static org.badminton.domain.common.consts.Constants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.domain.league.vo.Team;
 import org.badminton.domain.domain.match.entity.DoublesMatch;
 import org.badminton.domain.domain.match.store.DoublesMatchStore;
+import org.badminton.domain.domain.match.store.MatchParticipationStore;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.badminton.infrastructure.match.repository.DoublesBracketJdbcRepository;
 import org.badminton.infrastructure.match.repository.DoublesMatchRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -12,14 +22,67 @@ import lombok.RequiredArgsConstructor;
 public class DoublesMatchStoreImpl implements DoublesMatchStore {
 
 	private final DoublesMatchRepository doublesMatchRepository;
+	private final DoublesBracketJdbcRepository doublesBracketJdbcRepository;
+	private final BracketVersion bracketVersion;
+	private final MatchParticipationStore matchParticipationStore;
 
 	@Override
 	public void deleteDoublesBracket(Long leagueId) {
 		doublesMatchRepository.deleteAllByLeague_LeagueId(leagueId);
+		bracketVersion.bump(leagueId);
 	}
 
+	// 매치를 종료시키는 저장이면 같은 트랜잭션에서 참가자별 전적도 남긴다.
 	@Override
+	@Transactional
 	public void store(DoublesMatch doublesMatch) {
 		doublesMatchRepository.save(doublesMatch);
+		matchParticipationStore.storeDoublesMatches(List.of(doublesMatch));
+		bracketVersion.bump(doublesMatch.getLeague().getLeagueId());
+	}
+
+	@Override
+	public void storeBracket(List<List<DoublesMatch>> rounds) {
+		List<DoublesMatch> matches = rounds.stream().flatMap(List::stream).toList();
+		if (matches.isEmpty()) {
+			return;
+		}
+		List<Long> matchIds = doublesBracketJdbcRepository.insertMatches(matches);
+
+		List<Long> linkedMatchIds = new ArrayList<>();
+		List<Long> nextMatchIds = new ArrayList<>();
+		int roundStartIndex = 0;
+		for (int round = 0; round < rounds.size() - 1; round++) {
+			int nextRoundStartIndex = roundStartIndex + rounds.get(round).size();
+			for (int i = 0; i < rounds.get(round).size(); i++) {
+				linkedMatchIds.add(matchIds.get(roundStartIndex + i));
+				nextMatchIds.add(matchIds.get(nextRoundStartIndex + i / TEAMS_PER_MATCH));
+			}
+			roundStartIndex = nextRoundStartIndex;
+		}
+		doublesBracketJdbcRepository.updateNextMatchIds(linkedMatchIds, nextMatchIds);
+
+		doublesBracketJdbcRepository.insertSets(matches, matchIds);
+		bracketVersion.bump(matches.get(0).getLeague().getLeagueId());
+	}
+
+	// 비어 있는 첫 자리에 승리 팀을 배정한다. 이미 배정된 팀은 다시 배정하지 않는다.
+	// 토너먼트 세트 종료는 바깥 트랜잭션 없이 호출되므로 직접 트랜잭션을 연다.
+	@Override
+	@Transactional
+	public void assignWinner(Long leagueId, Long matchId, Team winner) {
+		if (doublesMatchRepository.updateTeam1IfEmpty(matchId, winner.getLeagueParticipant1(),
+			winner.getLeagueParticipant2()) == 0) {
+			doublesMatchRepository.updateTeam2IfEmpty(matchId, winner.getLeagueParticipant1(),
+				winner.getLeagueParticipant2());
+		}
+		bracketVersion.bump(leagueId);
+	}
+
+	@Override
+	@Transactional
+	public void assignByeWinner(Long leagueId, Long matchId, Team winner) {
+		doublesMatchRepository.updateTeam1(matchId, winner.getLeagueParticipant1(), winner.getLeagueParticipant2());
+		bracketVersion.bump(leagueId);
 	}
 }
@@ -0,0 +1,40 @@
+package org.badminton.infrastructure.match.store;
+
+import java.util.List;
+
+import org.badminton.domain.common.enums.MatchResult;
+import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.domain.match.entity.DoublesMatch;
+import org.badminton.domain.domain.match.entity.MatchParticipation;
+import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.store.MatchParticipationStore;
+import org.badminton.infrastructure.match.repository.MatchParticipationJdbcRepository;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 리그 일괄 종료로 결과 없이 끝난 매치는 전적에 남기지 않는다.
+@Component
+@RequiredArgsConstructor
+public class MatchParticipationStoreImpl implements MatchParticipationStore {
+
+	private final MatchParticipationJdbcRepository matchParticipationJdbcRepository;
+
+	@Override
+	public void storeSinglesMatches(List<SinglesMatch> singlesMatches) {
+		matchParticipationJdbcRepository.insertIgnoringDuplicates(singlesMatches.stream()
+			.filter(match -> match.getMatchStatus() == MatchStatus.FINISHED)
+			.filter(match -> match.getPlayer1MatchResult() != MatchResult.NONE)
+			.flatMap(match -> MatchParticipation.fromSinglesMatch(match).stream())
+			.toList());
+	}
+
+	@Override
+	public void storeDoublesMatches(List<DoublesMatch> doublesMatches) {
+		matchParticipationJdbcRepository.insertIgnoringDuplicates(doublesMatches.stream()
+			.filter(match -> match.getMatchStatus() == MatchStatus.FINISHED)
+			.filter(match -> match.getTeam1MatchResult() != MatchResult.NONE)
+			.flatMap(match -> MatchParticipation.fromDoublesMatch(match).stream())
+			.toList());
+	}
+}
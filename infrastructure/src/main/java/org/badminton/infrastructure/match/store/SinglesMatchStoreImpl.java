@@ -1,9 +1,19 @@
 package org.badminton.infrastructure.match.store;
 
+import static org.badminton.domain.common.consts.Constants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
 import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.store.MatchParticipationStore;
 import org.badminton.domain.domain.match.store.SinglesMatchStore;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.badminton.infrastructure.match.repository.SinglesBracketJdbcRepository;
 import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -11,14 +21,65 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SinglesMatchStoreImpl implements SinglesMatchStore {
 	private final SinglesMatchRepository singlesMatchRepository;
+	private final SinglesBracketJdbcRepository singlesBracketJdbcRepository;
+	private final BracketVersion bracketVersion;
+	private final MatchParticipationStore matchParticipationStore;
 
 	@Override
 	public void deleteSinglesBracket(Long leagueId) {
 		singlesMatchRepository.deleteAllByLeague_LeagueId(leagueId);
+		bracketVersion.bump(leagueId);
 	}
 
+	// 매치를 종료시키는 저장이면 같은 트랜잭션에서 참가자별 전적도 남긴다.
 	@Override
+	@Transactional
 	public void store(SinglesMatch singlesMatch) {
 		singlesMatchRepository.save(singlesMatch);
+		matchParticipationStore.storeSinglesMatches(List.of(singlesMatch));
+		bracketVersion.bump(singlesMatch.getLeague().getLeagueId());
+	}
+
+	@Override
+	public void storeBracket(List<List<SinglesMatch>> rounds) {
+		List<SinglesMatch> matches = rounds.stream().flatMap(List::stream).toList();
+		if (matches.isEmpty()) {
+			return;
+		}
+		List<Long> matchIds = singlesBracketJdbcRepository.insertMatches(matches);
+
+		List<Long> linkedMatchIds = new ArrayList<>();
+		List<Long> nextMatchIds = new ArrayList<>();
+		int roundStartIndex = 0;
+		for (int round = 0; round < rounds.size() - 1; round++) {
+			int nextRoundStartIndex = roundStartIndex + rounds.get(round).size();
+			for (int i = 0; i < rounds.get(round).size(); i++) {
+				linkedMatchIds.add(matchIds.get(roundStartIndex + i));
+				nextMatchIds.add(matchIds.get(nextRoundStartIndex + i / PARTICIPANTS_PER_MATCH));
+			}
+			roundStartIndex = nextRoundStartIndex;
+		}
+		singlesBracketJdbcRepository.updateNextMatchIds(linkedMatchIds, nextMatchIds);
+
+		singlesBracketJdbcRepository.insertSets(matches, matchIds);
+		bracketVersion.bump(matches.get(0).getLeague().getLeagueId());
+	}
+
+	// 비어 있는 첫 자리에 승자를 배정한다. 이미 배정된 승자는 다시 배정하지 않는다.
+	// 토너먼트 세트 종료는 바깥 트랜잭션 없이 호출되므로 직접 트랜잭션을 연다.
+	@Override
+	@Transactional
+	public void assignWinner(Long leagueId, Long matchId, LeagueParticipant winner) {
+		if (singlesMatchRepository.updateLeagueParticipant1IfEmpty(matchId, winner) == 0) {
+			singlesMatchRepository.updateLeagueParticipant2IfEmpty(matchId, winner);
+		}
+		bracketVersion.bump(leagueId);
+	}
+
+	@Override
+	@Transactional
+	public void assignByeWinner(Long leagueId, Long matchId, LeagueParticipant winner) {
+		singlesMatchRepository.updateLeagueParticipant1(matchId, winner);
+		bracketVersion.bump(leagueId);
 	}
 }
@@ -5,11 +5,22 @@ import java.util.Optional;
 
 import org.badminton.domain.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 	Optional<Member> findByProviderId(String providerId);
 
 	Optional<Member> findByMemberToken(String memberToken);
 
+	@Query("SELECT m.refreshToken FROM Member m WHERE m.memberToken = :memberToken")
+	Optional<String> findRefreshTokenByMemberToken(@Param("memberToken") String memberToken);
+
 	List<Member> findAllByIsDeletedTrue();
+
+	// 티어만 바꾸므로 같은 시점의 프로필 수정을 덮어쓰지 않는다.
+	@Modifying
+	@Query("UPDATE Member m SET m.tier = :tier WHERE m.id IN :memberIds")
+	int updateTiers(@Param("memberIds") List<Long> memberIds, @Param("tier") Member.MemberTier tier);
 }
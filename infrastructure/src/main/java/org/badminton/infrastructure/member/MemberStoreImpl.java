@@ -1,7 +1,11 @@
 package org.badminton.infrastructure.member;
 
+import java.util.List;
+
 import org.badminton.domain.domain.member.MemberStore;
 import org.badminton.domain.domain.member.entity.Member;
+import org.badminton.infrastructure.club.ClubCatalogCache;
+import org.badminton.infrastructure.clubmember.ClubMemberRepository;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -13,6 +17,8 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberStoreImpl implements MemberStore {
 
 	private final MemberRepository memberRepository;
+	private final ClubMemberRepository clubMemberRepository;
+	private final ClubCatalogCache clubCatalogCache;
 
 	@Override
 	public void store(Member member) {
@@ -31,4 +37,11 @@ public class MemberStoreImpl implements MemberStore {
 		);
 		memberRepository.save(member);
 	}
+
+	@Override
+	public void updateTiers(List<Long> memberIds, Member.MemberTier tier) {
+		memberRepository.updateTiers(memberIds, tier);
+		// 동호회 목록의 티어별 인원이 바뀌므로 소속 동호회를 다시 계산한다.
+		clubCatalogCache.refresh(clubMemberRepository.findClubIdsByMemberIds(memberIds));
+	}
 }
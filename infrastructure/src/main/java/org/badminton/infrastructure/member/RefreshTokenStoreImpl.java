@@ -0,0 +1,104 @@
+package org.badminton.infrastructure.member;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.badminton.domain.domain.member.RefreshTokenStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStoreImpl implements RefreshTokenStore {
+
+	private static final String REFRESH_TOKEN_KEY_PREFIX = "REFRESH_TOKEN_";
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(7);
+	// 로그아웃, 탈퇴한 토큰과 DB 에도 없는 토큰을 표시하는 값. 다시 DB 를 읽거나 이전 토큰을 채워 넣지 않게 한다.
+	private static final String REVOKED = "";
+	private static final Duration MISSING_TIME_TO_LIVE = Duration.ofMinutes(10);
+	private static final long LOCAL_FALLBACK_MAXIMUM_SIZE = 10_000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MemberRepository memberRepository;
+
+	// 저장소 도입 이전에 발급된 토큰을 DB 에서 읽는다. 도입 후 토큰 유효 기간(7일)이 지나면 false 로 끈다.
+	@Value("${custom.refresh-token.legacy-fallback:true}")
+	private boolean legacyFallbackEnabled;
+
+	// Redis 장애 시에만 사용하는 로컬 저장소
+	private final Cache<String, String> localFallback = Caffeine.newBuilder()
+		.maximumSize(LOCAL_FALLBACK_MAXIMUM_SIZE)
+		.expireAfterWrite(DEFAULT_TIME_TO_LIVE)
+		.build();
+
+	@Override
+	public void store(String memberToken, String refreshToken, Duration timeToLive) {
+		localFallback.put(memberToken, refreshToken);
+		try {
+			stringRedisTemplate.opsForValue().set(REFRESH_TOKEN_KEY_PREFIX + memberToken, refreshToken, timeToLive);
+		} catch (DataAccessException e) {
+			log.warn("Redis 에 refresh token 저장 실패, 로컬 저장소만 사용합니다. memberToken: {}", memberToken, e);
+		}
+	}
+
+	@Override
+	public Optional<String> read(String memberToken) {
+		try {
+			String refreshToken = stringRedisTemplate.opsForValue().get(REFRESH_TOKEN_KEY_PREFIX + memberToken);
+			if (refreshToken != null) {
+				return toRefreshToken(refreshToken);
+			}
+		} catch (DataAccessException e) {
+			log.warn("Redis 에서 refresh token 조회 실패, 로컬 저장소를 조회합니다. memberToken: {}", memberToken, e);
+			String refreshToken = localFallback.getIfPresent(memberToken);
+			if (refreshToken != null) {
+				return toRefreshToken(refreshToken);
+			}
+		}
+		if (!legacyFallbackEnabled) {
+			return Optional.empty();
+		}
+		Optional<String> refreshToken = memberRepository.findRefreshTokenByMemberToken(memberToken);
+		if (refreshToken.isPresent()) {
+			storeIfAbsent(memberToken, refreshToken.get(), DEFAULT_TIME_TO_LIVE);
+		} else {
+			storeIfAbsent(memberToken, REVOKED, MISSING_TIME_TO_LIVE);
+		}
+		return refreshToken;
+	}
+
+	@Override
+	public void revoke(String memberToken) {
+		localFallback.put(memberToken, REVOKED);
+		try {
+			stringRedisTemplate.opsForValue().set(REFRESH_TOKEN_KEY_PREFIX + memberToken, REVOKED, DEFAULT_TIME_TO_LIVE);
+		} catch (DataAccessException e) {
+			log.warn("Redis 에 refresh token 폐기 표시 실패 memberToken: {}", memberToken, e);
+		}
+	}
+
+	// DB 를 읽은 뒤 revoke 나 새 로그인이 먼저 값을 썼다면 덮어쓰지 않는다.
+	private void storeIfAbsent(String memberToken, String value, Duration timeToLive) {
+		if (!REVOKED.equals(value)) {
+			localFallback.asMap().putIfAbsent(memberToken, value);
+		}
+		try {
+			stringRedisTemplate.opsForValue().setIfAbsent(REFRESH_TOKEN_KEY_PREFIX + memberToken, value, timeToLive);
+		} catch (DataAccessException e) {
+			log.warn("Redis 에 refresh token 저장 실패 memberToken: {}", memberToken, e);
+		}
+	}
+
+	private Optional<String> toRefreshToken(String value) {
+		return REVOKED.equals(value) ? Optional.empty() : Optional.of(value);
+	}
+}
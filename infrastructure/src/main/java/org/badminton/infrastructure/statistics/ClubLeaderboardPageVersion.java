@@ -0,0 +1,41 @@
+package org.badminton.infrastructure.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.badminton.infrastructure.config.VersionedInvalidation;
+import org.badminton.infrastructure.config.VersionedInvalidationFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 순위표 페이지 캐시 키에 붙이는 버전이다. 버전을 올리면 이전 페이지는 더 읽히지 않고 TTL 로 사라지므로 캐시를 SCAN 으로 비우지 않는다.
+// 읽을 때마다 Redis 를 거치지 않도록 서버마다 마지막으로 받은 버전을 들고 있는다.
+@Component
+@RequiredArgsConstructor
+public class ClubLeaderboardPageVersion {
+
+	private static final String VERSION_KEY_PREFIX = "CLUB_LEADERBOARD_VERSION_";
+	private static final String CHANGE_CHANNEL = "CLUB_LEADERBOARD_VERSION_CHANGED";
+	private static final String PAGES = "PAGES";
+
+	private final VersionedInvalidationFactory versionedInvalidationFactory;
+
+	private final AtomicLong localVersion = new AtomicLong();
+	private VersionedInvalidation versionedInvalidation;
+
+	@PostConstruct
+	private void init() {
+		versionedInvalidation = versionedInvalidationFactory.create(VERSION_KEY_PREFIX, CHANGE_CHANNEL);
+		versionedInvalidation.addListener((key, version) -> localVersion.accumulateAndGet(version, Math::max));
+		localVersion.accumulateAndGet(versionedInvalidation.current(PAGES), Math::max);
+	}
+
+	public long current() {
+		return localVersion.get();
+	}
+
+	public void bump() {
+		versionedInvalidation.bump(PAGES);
+	}
+}
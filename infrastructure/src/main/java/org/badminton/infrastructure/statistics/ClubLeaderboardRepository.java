@@ -0,0 +1,200 @@
+package org.badminton.infrastructure.statistics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.badminton.domain.domain.club.vo.ClubCache;
+import org.badminton.domain.domain.club.vo.ClubRedisKey;
+import org.badminton.domain.domain.statistics.ClubStatistics;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ClubLeaderboardRepository {
+
+	private static final String POPULAR_KEY = ClubRedisKey.getPopularLeaderboardKey();
+	private static final String ACTIVITY_KEY = ClubRedisKey.getActivityLeaderboardKey();
+	private static final String REBUILD_KEY_SUFFIX = ":rebuild:";
+
+	private static final String CLUB_NAME = "clubName";
+	private static final String CLUB_DESCRIPTION = "clubDescription";
+	private static final String CLUB_IMAGE = "clubImage";
+	private static final String CREATED_AT = "createdAt";
+	private static final String MODIFIED_AT = "modifiedAt";
+	private static final String GOLD = "GOLD";
+	private static final String SILVER = "SILVER";
+	private static final String BRONZE = "BRONZE";
+	private static final String[] CARD_FIELDS = {CLUB_NAME, CLUB_DESCRIPTION, CLUB_IMAGE, CREATED_AT, MODIFIED_AT,
+		GOLD, SILVER, BRONZE};
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public boolean isEmpty() {
+		Long size = stringRedisTemplate.opsForZSet().zCard(POPULAR_KEY);
+		return size == null || size == 0;
+	}
+
+	public void updateScores(String clubToken, double popularityScore, double activityScore) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			stringRedisConnection.zAdd(POPULAR_KEY, popularityScore, clubToken);
+			stringRedisConnection.zAdd(ACTIVITY_KEY, activityScore, clubToken);
+			return null;
+		});
+	}
+
+	public void updateScores(List<ClubStatistics> clubStatistics) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			for (ClubStatistics statistics : clubStatistics) {
+				String clubToken = statistics.getClub().getClubToken();
+				stringRedisConnection.zAdd(POPULAR_KEY, statistics.getPopularityScore(), clubToken);
+				stringRedisConnection.zAdd(ACTIVITY_KEY, statistics.getActivityScore(), clubToken);
+			}
+			return null;
+		});
+	}
+
+	public void saveClubCard(ClubCache clubCache) {
+		saveClubCards(List.of(clubCache));
+	}
+
+	// 필드가 비워진 경우를 위해 기존 해시를 지우고 다시 쓴다.
+	public void saveClubCards(List<ClubCache> clubCaches) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			for (ClubCache clubCache : clubCaches) {
+				String key = ClubRedisKey.getClubCardKey(clubCache.clubToken());
+				stringRedisConnection.del(key);
+				stringRedisConnection.hMSet(key, toHash(clubCache));
+			}
+			return null;
+		});
+	}
+
+	public void remove(String clubToken) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			stringRedisConnection.zRem(POPULAR_KEY, clubToken);
+			stringRedisConnection.zRem(ACTIVITY_KEY, clubToken);
+			stringRedisConnection.del(ClubRedisKey.getClubCardKey(clubToken));
+			return null;
+		});
+	}
+
+	// 삭제된 동호회가 남지 않도록 DB 의 점수로 임시 키를 채운 뒤 RENAME 으로 한 번에 바꾼다.
+	// 다시 만드는 동안에도 조회하는 쪽은 이전 순위표를 본다.
+	public void rebuild(List<ClubStatistics> clubStatistics, List<ClubCache> clubCaches) {
+		saveClubCards(clubCaches);
+		// 배치와 조회 경로가 동시에 다시 만들어도 서로의 임시 키를 건드리지 않게 한다.
+		String rebuildId = UUID.randomUUID().toString();
+		String popularRebuildKey = POPULAR_KEY + REBUILD_KEY_SUFFIX + rebuildId;
+		String activityRebuildKey = ACTIVITY_KEY + REBUILD_KEY_SUFFIX + rebuildId;
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			if (clubStatistics.isEmpty()) {
+				stringRedisConnection.del(POPULAR_KEY, ACTIVITY_KEY);
+				return null;
+			}
+			for (ClubStatistics statistics : clubStatistics) {
+				String clubToken = statistics.getClub().getClubToken();
+				stringRedisConnection.zAdd(popularRebuildKey, statistics.getPopularityScore(), clubToken);
+				stringRedisConnection.zAdd(activityRebuildKey, statistics.getActivityScore(), clubToken);
+			}
+			stringRedisConnection.rename(popularRebuildKey, POPULAR_KEY);
+			stringRedisConnection.rename(activityRebuildKey, ACTIVITY_KEY);
+			return null;
+		});
+	}
+
+	public List<ClubCache> findPopularClubs(long offset, int size) {
+		return findClubs(POPULAR_KEY, offset, size);
+	}
+
+	public List<ClubCache> findActiveClubs(long offset, int size) {
+		return findClubs(ACTIVITY_KEY, offset, size);
+	}
+
+	private List<ClubCache> findClubs(String leaderboardKey, long offset, int size) {
+		// 끝 인덱스가 -1 이 되면 전체 범위를 읽으므로 크기가 0 이하이면 바로 돌려준다.
+		if (offset < 0 || size <= 0) {
+			return List.of();
+		}
+		Set<String> clubTokens = stringRedisTemplate.opsForZSet()
+			.reverseRange(leaderboardKey, offset, offset + size - 1);
+		if (clubTokens == null || clubTokens.isEmpty()) {
+			return List.of();
+		}
+		List<String> orderedClubTokens = new ArrayList<>(clubTokens);
+
+		List<Object> cards = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringRedisConnection = (StringRedisConnection)connection;
+			for (String clubToken : orderedClubTokens) {
+				stringRedisConnection.hMGet(ClubRedisKey.getClubCardKey(clubToken), CARD_FIELDS);
+			}
+			return null;
+		});
+
+		List<ClubCache> clubCaches = new ArrayList<>();
+		for (int i = 0; i < orderedClubTokens.size(); i++) {
+			@SuppressWarnings("unchecked")
+			List<String> card = (List<String>)cards.get(i);
+			// 카드가 아직 적재되지 않은 동호회는 다음 갱신 때까지 건너뛴다.
+			if (card != null && card.get(0) != null) {
+				clubCaches.add(toClubCache(orderedClubTokens.get(i), card));
+			}
+		}
+		return clubCaches;
+	}
+
+	private Map<String, String> toHash(ClubCache clubCache) {
+		Map<String, String> hash = new HashMap<>();
+		putIfNotNull(hash, CLUB_NAME, clubCache.clubName());
+		putIfNotNull(hash, CLUB_DESCRIPTION, clubCache.clubDescription());
+		putIfNotNull(hash, CLUB_IMAGE, clubCache.clubImage());
+		putIfNotNull(hash, CREATED_AT, clubCache.createdAt());
+		putIfNotNull(hash, MODIFIED_AT, clubCache.modifiedAt());
+		putIfNotNull(hash, GOLD, clubCache.goldClubMemberCount());
+		putIfNotNull(hash, SILVER, clubCache.silverClubMemberCount());
+		putIfNotNull(hash, BRONZE, clubCache.bronzeClubMemberCount());
+		return hash;
+	}
+
+	private void putIfNotNull(Map<String, String> hash, String field, Object value) {
+		if (value != null) {
+			hash.put(field, value.toString());
+		}
+	}
+
+	private ClubCache toClubCache(String clubToken, List<String> card) {
+		return new ClubCache(
+			clubToken,
+			card.get(0),
+			card.get(1),
+			card.get(2),
+			toLocalDateTime(card.get(3)),
+			toLocalDateTime(card.get(4)),
+			toLong(card.get(5)),
+			toLong(card.get(6)),
+			toLong(card.get(7))
+		);
+	}
+
+	private LocalDateTime toLocalDateTime(String value) {
+		return value == null ? null : LocalDateTime.parse(value);
+	}
+
+	private Long toLong(String value) {
+		return value == null ? 0L : Long.parseLong(value);
+	}
+}
@@ -1,21 +1,17 @@
 package org.badminton.infrastructure.statistics;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.badminton.domain.domain.club.vo.ClubCache;
-import org.badminton.domain.domain.club.vo.ClubRedisKey;
 import org.badminton.domain.domain.statistics.ClubStatistics;
 import org.badminton.domain.domain.statistics.ClubStatisticsReader;
 import org.badminton.domain.domain.statistics.ClubStatisticsRepositoryCustom;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.badminton.infrastructure.config.RedisCacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,12 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class ClubStatisticsReaderImpl implements ClubStatisticsReader {
-	private static final String POPULAR_TOP10_REDIS_KEY = ClubRedisKey.getTop10PopularKey();
-	private static final String ACTIVITY_TOP10_REDIS_KEY = ClubRedisKey.getTop10ActivityKey();
+	private static final String POPULAR = "popular";
+	private static final String ACTIVE = "active";
+
 	private final ClubStatisticsRepository clubStatisticsRepository;
 	private final ClubStatisticsRepositoryCustom clubStatisticsRepositoryCustom;
-	private final RedisTemplate<String, Object> redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final ClubLeaderboardRepository clubLeaderboardRepository;
+	private final ClubLeaderboardPageVersion clubLeaderboardPageVersion;
+	private final CacheManager cacheManager;
 
 	@Override
 	public ClubStatistics readClubStatistics(String clubToken) {
@@ -51,53 +49,38 @@ public class ClubStatisticsReaderImpl implements ClubStatisticsReader {
 	}
 
 	@Override
-	public List<ClubCache> readTop10PopularClub() {
-
-		Object cachedClubs = redisTemplate.opsForValue().get(POPULAR_TOP10_REDIS_KEY);
-
-		if (cachedClubs != null) {
-			return objectMapper.convertValue(cachedClubs, new TypeReference<List<ClubCache>>() {
-			});
-		}
-
-		return refreshTop10PopularClubsCache();
-
+	public boolean hasLeaderboard() {
+		return !clubLeaderboardRepository.isEmpty();
 	}
 
 	@Override
-	public List<ClubCache> refreshTop10PopularClubsCache() {
-		Pageable pageable = PageRequest.of(0, 10);
-		List<ClubCache> top10ByOrderByPopularityScoreDesc = clubStatisticsRepository
-			.findTopPopularClubs(pageable);
-
-		redisTemplate.opsForValue()
-			.set(POPULAR_TOP10_REDIS_KEY, top10ByOrderByPopularityScoreDesc, 1, TimeUnit.MINUTES);
-
-		return top10ByOrderByPopularityScoreDesc;
+	public List<ClubCache> readPopularClubs(int page, int size) {
+		return readLeaderboardPage(toLeaderboardCacheKey(POPULAR, page, size),
+			() -> clubLeaderboardRepository.findPopularClubs((long)page * size, size));
 	}
 
 	@Override
-	public List<ClubCache> readTop10RecentlyActiveClub() {
-
-		Object cachedClubs = redisTemplate.opsForValue().get(ACTIVITY_TOP10_REDIS_KEY);
+	public List<ClubCache> readActiveClubs(int page, int size) {
+		return readLeaderboardPage(toLeaderboardCacheKey(ACTIVE, page, size),
+			() -> clubLeaderboardRepository.findActiveClubs((long)page * size, size));
+	}
 
-		if (cachedClubs != null) {
-			return objectMapper.convertValue(cachedClubs, new TypeReference<List<ClubCache>>() {
-			});
+	// 순위표를 다시 만드는 중에 읽은 빈 페이지가 TTL 동안 남지 않도록 빈 페이지는 캐시하지 않는다.
+	@SuppressWarnings("unchecked")
+	private List<ClubCache> readLeaderboardPage(String cacheKey, Supplier<List<ClubCache>> loader) {
+		Cache leaderboardCache = cacheManager.getCache(RedisCacheConfig.CLUB_LEADERBOARD_CACHE);
+		Cache.ValueWrapper cached = leaderboardCache.get(cacheKey);
+		if (cached != null) {
+			return (List<ClubCache>)cached.get();
 		}
-
-		return refreshActivityClubsCache();
+		List<ClubCache> clubs = loader.get();
+		if (!clubs.isEmpty()) {
+			leaderboardCache.put(cacheKey, clubs);
+		}
+		return clubs;
 	}
 
-	@Override
-	public List<ClubCache> refreshActivityClubsCache() {
-		Pageable pageable = PageRequest.of(0, 10);
-		List<ClubCache> top10RecentlyActiveClubStatistics = clubStatisticsRepository
-			.findTop10ByActivityClubs(pageable);
-
-		redisTemplate.opsForValue()
-			.set(ACTIVITY_TOP10_REDIS_KEY, top10RecentlyActiveClubStatistics, 1, TimeUnit.MINUTES);
-
-		return top10RecentlyActiveClubStatistics;
+	private String toLeaderboardCacheKey(String leaderboard, int page, int size) {
+		return clubLeaderboardPageVersion.current() + ":" + leaderboard + ":" + page + ":" + size;
 	}
 }
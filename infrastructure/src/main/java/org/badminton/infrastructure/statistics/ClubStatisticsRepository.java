@@ -1,10 +1,10 @@
 package org.badminton.infrastructure.statistics;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.badminton.domain.domain.club.vo.ClubCache;
 import org.badminton.domain.domain.statistics.ClubStatistics;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -17,36 +17,41 @@ public interface ClubStatisticsRepository extends JpaRepository<ClubStatistics,
 
 	ClubStatistics findByClubClubId(Long clubId);
 
+	@Query("SELECT cs FROM ClubStatistics cs JOIN FETCH cs.club c WHERE c.isClubDeleted = false")
+	List<ClubStatistics> findAllWithActiveClub();
+
+	@Query("SELECT cs FROM ClubStatistics cs JOIN FETCH cs.club c WHERE c.clubId IN (:clubIds) AND c.isClubDeleted = false")
+	List<ClubStatistics> findAllWithClubByClubIds(@Param("clubIds") List<Long> clubIds);
+
 	@Query("""
 		    SELECT new org.badminton.domain.domain.club.vo.ClubCache(
 		        c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
-		        SUM(CASE WHEN cm.member.tier = 'GOLD' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'SILVER' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		        SUM(CASE WHEN m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN m.tier = 'BRONZE' THEN 1 ELSE 0 END)
 		    )
-		    FROM ClubStatistics cs
-		    JOIN cs.club c
+		    FROM Club c
 		    LEFT JOIN c.clubMembers cm
+		    LEFT JOIN cm.member m
 		    WHERE c.isClubDeleted = false
-		    GROUP BY c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt, cs.popularityScore
-		    ORDER BY cs.popularityScore DESC
+		    GROUP BY c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt, c.clubId
 		""")
-	List<ClubCache> findTopPopularClubs(Pageable pageable);
+	List<ClubCache> findAllClubCaches();
 
 	@Query("""
 		    SELECT new org.badminton.domain.domain.club.vo.ClubCache(
 		        c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt,
-		        SUM(CASE WHEN cm.member.tier = 'GOLD' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'SILVER' THEN 1 ELSE 0 END),
-		        SUM(CASE WHEN cm.member.tier = 'BRONZE' THEN 1 ELSE 0 END)
+		        SUM(CASE WHEN m.tier = 'GOLD' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN m.tier = 'SILVER' THEN 1 ELSE 0 END),
+		        SUM(CASE WHEN m.tier = 'BRONZE' THEN 1 ELSE 0 END)
 		    )
-		    FROM ClubStatistics cs
-		    JOIN cs.club c
+		    FROM Club c
 		    LEFT JOIN c.clubMembers cm
-		    WHERE c.isClubDeleted = false
-		    GROUP BY c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt, cs.activityScore
-		    ORDER BY cs.activityScore DESC
+		    LEFT JOIN cm.member m
+		    WHERE c.clubToken = :clubToken
+		      AND c.isClubDeleted = false
+		    GROUP BY c.clubToken, c.clubName, c.clubDescription, c.clubImage, c.createdAt, c.modifiedAt, c.clubId
 		""")
-	List<ClubCache> findTop10ByActivityClubs(Pageable pageable);
+	Optional<ClubCache> findClubCacheByClubToken(@Param("clubToken") String clubToken);
 
 }
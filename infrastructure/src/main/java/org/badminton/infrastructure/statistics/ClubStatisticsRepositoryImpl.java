@@ -1,16 +1,22 @@
 package org.badminton.infrastructure.statistics;
 
+import static org.badminton.domain.domain.club.entity.QClub.*;
 import static org.badminton.domain.domain.statistics.QClubStatistics.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.badminton.domain.domain.club.entity.QClub;
+import org.badminton.domain.domain.statistics.ClubStatistics;
 import org.badminton.domain.domain.statistics.ClubStatisticsRepositoryCustom;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -31,13 +37,42 @@ public class ClubStatisticsRepositoryImpl implements ClubStatisticsRepositoryCus
 			.fetch();
 	}
 
+	// 동호회별 증가량을 CASE 식으로 묶어 UPDATE 한 번으로 반영하고, 같은 문장에서 점수도 다시 계산한다.
+	// MySQL 은 SET 절을 왼쪽부터 적용하므로 점수를 조회수보다 먼저 갱신해야 증가 전 조회수를 기준으로 계산된다.
 	@Override
 	@Transactional
-	public void increaseClubVisitCount(String clubToken) {
+	public List<Long> increaseClubVisitCounts(Map<String, Long> visitCountsByClubToken) {
+		List<Tuple> clubs = queryFactory
+			.select(club.clubId, club.clubToken)
+			.from(club)
+			.where(club.clubToken.in(visitCountsByClubToken.keySet()))
+			.fetch();
+		if (clubs.isEmpty()) {
+			return List.of();
+		}
+
+		CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+		for (Tuple clubTuple : clubs) {
+			Long clubId = clubTuple.get(club.clubId);
+			int visitCount = visitCountsByClubToken.get(clubTuple.get(club.clubToken)).intValue();
+			cases = cases == null
+				? new CaseBuilder().when(clubStatistics.club.clubId.eq(clubId)).then(visitCount)
+				: cases.when(clubStatistics.club.clubId.eq(clubId)).then(visitCount);
+		}
+		NumberExpression<Integer> increasedVisitedCount = clubStatistics.visitedCount.add(cases.otherwise(0));
+		NumberExpression<Double> registrationScore = clubStatistics.registrationCount
+			.multiply(ClubStatistics.REGISTRATION_WEIGHT).doubleValue();
+		NumberExpression<Double> visitScore = increasedVisitedCount.multiply(ClubStatistics.VISIT_WEIGHT).doubleValue();
+
+		List<Long> clubIds = clubs.stream().map(clubTuple -> clubTuple.get(club.clubId)).toList();
 		queryFactory.update(clubStatistics)
-			.set(clubStatistics.visitedCount, clubStatistics.visitedCount.add(1))
-			.where(clubStatistics.club.clubToken.eq(clubToken))
+			.set(clubStatistics.popularityScore, registrationScore.add(visitScore))
+			.set(clubStatistics.activityScore, clubStatistics.leagueCount.multiply(ClubStatistics.LEAGUE_WEIGHT)
+				.doubleValue().add(registrationScore).add(visitScore))
+			.set(clubStatistics.visitedCount, increasedVisitedCount)
+			.where(clubStatistics.club.clubId.in(clubIds))
 			.execute();
+		return clubIds;
 	}
 
 	private BooleanExpression isClubNotNull(QClub club) {
@@ -1,8 +1,14 @@
 package org.badminton.infrastructure.statistics;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import org.badminton.domain.domain.statistics.ClubStatistics;
 import org.badminton.domain.domain.statistics.ClubStatisticsRepositoryCustom;
 import org.badminton.domain.domain.statistics.ClubStatisticsStore;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -12,17 +18,91 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class ClubStatisticsStoreImpl implements ClubStatisticsStore {
+	private static final String LEADERBOARD_REBUILD_LOCK = "CLUB_LEADERBOARD_REBUILD_LOCK";
+	private static final long LEADERBOARD_REBUILD_LOCK_WAIT_MILLIS = 3_000;
+	private static final long LEADERBOARD_REBUILD_LOCK_LEASE_MILLIS = 30_000;
+
 	private final ClubStatisticsRepository clubStatisticsRepository;
 	private final ClubStatisticsRepositoryCustom clubStatisticsRepositoryCustom;
+	private final ClubLeaderboardRepository clubLeaderboardRepository;
+	private final ClubVisitCountBuffer clubVisitCountBuffer;
+	private final ClubLeaderboardPageVersion clubLeaderboardPageVersion;
+	private final RedissonClient redissonClient;
 
 	@Override
 	public void store(ClubStatistics clubStatistics) {
 		clubStatisticsRepository.save(clubStatistics);
+		clubLeaderboardRepository.updateScores(clubStatistics.getClub().getClubToken(),
+			clubStatistics.getPopularityScore(), clubStatistics.getActivityScore());
 	}
 
 	@Override
 	public void increaseClubVisitCount(String clubToken) {
-		clubStatisticsRepositoryCustom.increaseClubVisitCount(clubToken);
+		clubVisitCountBuffer.increase(clubToken);
+	}
+
+	@Override
+	public void flushClubVisitCounts() {
+		Map<String, Long> visitCounts = clubVisitCountBuffer.drain();
+		if (visitCounts.isEmpty()) {
+			return;
+		}
+		try {
+			List<Long> clubIds = clubStatisticsRepositoryCustom.increaseClubVisitCounts(visitCounts);
+			// 방문 수로 바뀐 순위는 캐시된 페이지가 만료되면 반영한다.
+			clubLeaderboardRepository.updateScores(clubStatisticsRepository.findAllWithClubByClubIds(clubIds));
+		} catch (RuntimeException e) {
+			clubVisitCountBuffer.restore(visitCounts);
+			throw e;
+		}
+	}
+
+	@Override
+	public void refreshClubCard(String clubToken) {
+		clubStatisticsRepository.findClubCacheByClubToken(clubToken)
+			.ifPresent(clubLeaderboardRepository::saveClubCard);
+		expireLeaderboardPages();
+	}
+
+	@Override
+	public void refreshLeaderboard() {
+		clubLeaderboardRepository.rebuild(clubStatisticsRepository.findAllWithActiveClub(),
+			clubStatisticsRepository.findAllClubCaches());
+		expireLeaderboardPages();
+	}
+
+	// 순위표가 비었을 때 여러 서버가 동시에 다시 만들지 않도록 한 서버만 만든다.
+	@Override
+	public void refreshLeaderboardIfEmpty() {
+		RLock lock = redissonClient.getLock(LEADERBOARD_REBUILD_LOCK);
+		try {
+			if (!lock.tryLock(LEADERBOARD_REBUILD_LOCK_WAIT_MILLIS, LEADERBOARD_REBUILD_LOCK_LEASE_MILLIS,
+				TimeUnit.MILLISECONDS)) {
+				return;
+			}
+			// 락을 기다리는 동안 다른 서버가 채웠다면 다시 만들지 않는다.
+			if (clubLeaderboardRepository.isEmpty()) {
+				refreshLeaderboard();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void removeFromLeaderboard(String clubToken) {
+		clubLeaderboardRepository.remove(clubToken);
+		expireLeaderboardPages();
+	}
+
+	// 점수만 바꾸는 store 는 페이지 캐시를 건드리지 않으므로 점수를 한꺼번에 바꾼 뒤 한 번 호출한다.
+	@Override
+	public void expireLeaderboardPages() {
+		clubLeaderboardPageVersion.bump();
 	}
 
 }
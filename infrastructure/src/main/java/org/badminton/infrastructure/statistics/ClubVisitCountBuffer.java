@@ -0,0 +1,36 @@
+package org.badminton.infrastructure.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+// 동호회 조회수를 메모리에 모았다가 주기적으로 한 번에 DB 에 반영한다.
+@Component
+public class ClubVisitCountBuffer {
+
+	private final ConcurrentHashMap<String, LongAdder> visitCounts = new ConcurrentHashMap<>();
+
+	public void increase(String clubToken) {
+		visitCounts.computeIfAbsent(clubToken, key -> new LongAdder()).increment();
+	}
+
+	public Map<String, Long> drain() {
+		Map<String, Long> drained = new HashMap<>();
+		visitCounts.forEach((clubToken, count) -> {
+			long visitCount = count.sumThenReset();
+			if (visitCount > 0) {
+				drained.put(clubToken, visitCount);
+			}
+		});
+		return drained;
+	}
+
+	// DB 반영에 실패한 조회수는 다음 주기에 다시 반영되도록 되돌려 놓는다.
+	public void restore(Map<String, Long> visitCounts) {
+		visitCounts.forEach((clubToken, visitCount) ->
+			this.visitCounts.computeIfAbsent(clubToken, key -> new LongAdder()).add(visitCount));
+	}
+}
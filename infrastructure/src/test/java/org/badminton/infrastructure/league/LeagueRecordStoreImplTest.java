@@ -0,0 +1,27 @@
+package org.badminton.infrastructure.league;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.badminton.domain.common.enums.MatchResult;
+import org.badminton.domain.common.exception.league.LeagueRecordNotExistException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LeagueRecordStoreImplTest {
+
+	private static final String MEMBER_TOKEN = "member-token";
+
+	private final LeagueRecordRepository leagueRecordRepository = mock(LeagueRecordRepository.class);
+	private final LeagueRecordStoreImpl leagueRecordStore = new LeagueRecordStoreImpl(leagueRecordRepository);
+
+	@Test
+	@DisplayName("전적 행이 없어 갱신된 행이 없으면 예외를 던진다")
+	void increaseRecordThrowsWhenNoRowUpdated() {
+		when(leagueRecordRepository.increaseRecord(MEMBER_TOKEN, 1, 0, 0)).thenReturn(0);
+
+		assertThrows(LeagueRecordNotExistException.class,
+			() -> leagueRecordStore.increaseRecord(MEMBER_TOKEN, MatchResult.WIN));
+	}
+}
@@ -0,0 +1,49 @@
+package org.badminton.infrastructure.match.store;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.match.store.MatchParticipationStore;
+import org.badminton.infrastructure.match.bracket.BracketVersion;
+import org.badminton.infrastructure.match.repository.SinglesBracketJdbcRepository;
+import org.badminton.infrastructure.match.repository.SinglesMatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+class SinglesMatchStoreImplTest {
+
+	private static final Long LEAGUE_ID = 1L;
+	private static final Long NEXT_MATCH_ID = 20L;
+
+	private final SinglesMatchRepository singlesMatchRepository = mock(SinglesMatchRepository.class);
+	private final BracketVersion bracketVersion = mock(BracketVersion.class);
+	private final SinglesMatchStoreImpl singlesMatchStore = new SinglesMatchStoreImpl(singlesMatchRepository,
+		mock(SinglesBracketJdbcRepository.class), bracketVersion, mock(MatchParticipationStore.class));
+
+	@Test
+	@DisplayName("첫 자리가 차 있으면 두 번째 자리에 승자를 배정하고 대진표 버전을 올린다")
+	void assignWinnerFillsSecondSlotAndBumpsVersion() {
+		LeagueParticipant winner = mock(LeagueParticipant.class);
+		when(singlesMatchRepository.updateLeagueParticipant1IfEmpty(NEXT_MATCH_ID, winner)).thenReturn(0);
+
+		singlesMatchStore.assignWinner(LEAGUE_ID, NEXT_MATCH_ID, winner);
+
+		verify(singlesMatchRepository).updateLeagueParticipant2IfEmpty(NEXT_MATCH_ID, winner);
+		verify(bracketVersion).bump(LEAGUE_ID);
+	}
+
+	@Test
+	@DisplayName("승자 배정은 바깥 트랜잭션이 없어도 자기 트랜잭션에서 실행된다")
+	void assignWinnerRunsInItsOwnTransaction() throws NoSuchMethodException {
+		assertTrue(SinglesMatchStoreImpl.class
+			.getMethod("assignWinner", Long.class, Long.class, LeagueParticipant.class)
+			.isAnnotationPresent(Transactional.class));
+		assertTrue(SinglesMatchStoreImpl.class
+			.getMethod("assignByeWinner", Long.class, Long.class, LeagueParticipant.class)
+			.isAnnotationPresent(Transactional.class));
+	}
+}
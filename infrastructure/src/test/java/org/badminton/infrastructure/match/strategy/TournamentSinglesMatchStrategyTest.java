@@ -0,0 +1,87 @@
+package org.badminton.infrastructure.match.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.badminton.domain.common.enums.MatchStatus;
+import org.badminton.domain.domain.league.LeagueReader;
+import org.badminton.domain.domain.league.entity.League;
+import org.badminton.domain.domain.league.entity.LeagueParticipant;
+import org.badminton.domain.domain.match.command.MatchCommand;
+import org.badminton.domain.domain.match.entity.SinglesMatch;
+import org.badminton.domain.domain.match.entity.SinglesSet;
+import org.badminton.domain.domain.match.reader.SinglesMatchReader;
+import org.badminton.domain.domain.match.store.DoublesMatchStore;
+import org.badminton.domain.domain.match.store.SinglesMatchStore;
+import org.badminton.infrastructure.match.bracket.BracketTopologyCache;
+import org.badminton.infrastructure.match.service.TournamentSinglesBracketCreator;
+import org.badminton.infrastructure.match.service.TournamentSinglesEndSetHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TournamentSinglesMatchStrategyTest {
+
+	private static final Long LEAGUE_ID = 1L;
+	private static final Long MATCH_ID = 10L;
+	private static final Long NEXT_MATCH_ID = 20L;
+
+	private final SinglesMatchReader singlesMatchReader = mock(SinglesMatchReader.class);
+	private final SinglesMatchStore singlesMatchStore = mock(SinglesMatchStore.class);
+	private final LeagueReader leagueReader = mock(LeagueReader.class);
+	private final BracketTopologyCache bracketTopologyCache = mock(BracketTopologyCache.class);
+
+	private TournamentSinglesMatchStrategy tournamentSinglesMatchStrategy;
+	private LeagueParticipant leagueParticipant1;
+	private SinglesMatch singlesMatch;
+
+	@BeforeEach
+	void setUp() {
+		MatchUtils matchUtils = new MatchUtils(singlesMatchStore, mock(DoublesMatchStore.class),
+			bracketTopologyCache);
+		TournamentSinglesEndSetHandler endSetHandler = new TournamentSinglesEndSetHandler(matchUtils,
+			singlesMatchReader, leagueReader, singlesMatchStore);
+		tournamentSinglesMatchStrategy = new TournamentSinglesMatchStrategy(singlesMatchReader, singlesMatchStore,
+			mock(TournamentSinglesBracketCreator.class), endSetHandler);
+
+		League league = mock(League.class);
+		when(league.getLeagueId()).thenReturn(LEAGUE_ID);
+		when(league.getTotalRounds()).thenReturn(2);
+		leagueParticipant1 = mock(LeagueParticipant.class);
+
+		singlesMatch = new SinglesMatch(league, leagueParticipant1, mock(LeagueParticipant.class), 1);
+		ReflectionTestUtils.setField(singlesMatch, "id", MATCH_ID);
+		for (int setNumber = 1; setNumber <= 3; setNumber++) {
+			singlesMatch.addSet(new SinglesSet(singlesMatch, setNumber));
+		}
+		singlesMatch.startMatchSet(1);
+
+		when(singlesMatchReader.getSinglesMatch(MATCH_ID)).thenReturn(singlesMatch);
+		when(bracketTopologyCache.findSinglesNextMatchId(LEAGUE_ID, MATCH_ID)).thenReturn(Optional.of(NEXT_MATCH_ID));
+	}
+
+	@Test
+	@DisplayName("토너먼트 매치의 승자가 정해지면 다음 라운드 매치에 배정한다")
+	void endSetAssignsWinnerToNextRoundMatch() {
+		tournamentSinglesMatchStrategy.endSet(MATCH_ID, 1, setScore(21, 15));
+		verify(singlesMatchStore, never()).assignWinner(LEAGUE_ID, NEXT_MATCH_ID, leagueParticipant1);
+
+		tournamentSinglesMatchStrategy.endSet(MATCH_ID, 2, setScore(21, 18));
+
+		assertEquals(MatchStatus.FINISHED, singlesMatch.getMatchStatus());
+		verify(singlesMatchStore).assignWinner(LEAGUE_ID, NEXT_MATCH_ID, leagueParticipant1);
+	}
+
+	private MatchCommand.UpdateSetScore setScore(int score1, int score2) {
+		return MatchCommand.UpdateSetScore.builder()
+			.score1(score1)
+			.score2(score2)
+			.build();
+	}
+}